@@ -0,0 +1,209 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.anaptecs.jeaf.json.impl.test.idtest.Product;
+import com.anaptecs.jeaf.json.impl.test.idtest.Reseller;
+import com.anaptecs.jeaf.json.impl.test.inheritance.Company;
+import com.anaptecs.jeaf.json.impl.test.inheritance.Partner;
+import com.anaptecs.jeaf.json.impl.test.inheritance.PartnerContainer;
+import com.anaptecs.jeaf.json.impl.test.inheritance.Person;
+import com.anaptecs.jeaf.json.impl.test.inheritance.PostalAddress;
+import com.anaptecs.jeaf.json.impl.test.readonly.ReadOnlyClient;
+import com.anaptecs.jeaf.json.impl.test.readonly.ReadOnlyMaster;
+
+/**
+ * Enumeration defines the payloads that are used by the benchmarks. All payloads are built from the test domain of JEAF
+ * JSON Impl so that the benchmarks cover polymorphic types, read only classes with builders and object identities.
+ *
+ * @author JEAF Development Team
+ */
+public enum BenchmarkPayload {
+  /**
+   * {@link PartnerContainer} with {@link Person} and {@link Company} objects that are serialized using type
+   * information.
+   */
+  PARTNERS {
+    @Override
+    public Object createObject(int pSize) {
+      PartnerContainer lContainer = new PartnerContainer();
+      for (Partner lNext : this.createPartners(pSize)) {
+        lContainer.addPartner(lNext);
+      }
+      return lContainer;
+    }
+
+    @Override
+    public Class<?> getObjectClass( ) {
+      return PartnerContainer.class;
+    }
+
+    @Override
+    public Collection<?> createCollection(int pSize) {
+      return this.createPartners(pSize);
+    }
+
+    @Override
+    public Class<?> getElementClass( ) {
+      return Partner.class;
+    }
+  },
+
+  /**
+   * {@link ReadOnlyMaster} with {@link ReadOnlyClient} objects. Deserialization of these objects also requires to set
+   * up their bidirectional back references.
+   */
+  READONLY {
+    @Override
+    public Object createObject(int pSize) {
+      return ReadOnlyMaster.builder().setName("Master").setClients(this.createClients(pSize)).build();
+    }
+
+    @Override
+    public Class<?> getObjectClass( ) {
+      return ReadOnlyMaster.class;
+    }
+
+    @Override
+    public Collection<?> createCollection(int pSize) {
+      return this.createClients(pSize);
+    }
+
+    @Override
+    public Class<?> getElementClass( ) {
+      return ReadOnlyClient.class;
+    }
+  },
+
+  /**
+   * {@link Product} objects that share their {@link Reseller} objects. Due to object identities every reseller is only
+   * serialized once and afterwards only referenced by its id.
+   */
+  PRODUCTS {
+    @Override
+    public Object createObject(int pSize) {
+      Product lProduct = new Product();
+      lProduct.setId(1);
+      lProduct.setName("Product with many resellers");
+      for (Reseller lNext : this.createResellers(pSize)) {
+        lProduct.addReseller(lNext);
+      }
+      return lProduct;
+    }
+
+    @Override
+    public Class<?> getObjectClass( ) {
+      return Product.class;
+    }
+
+    @Override
+    public Collection<?> createCollection(int pSize) {
+      List<Reseller> lResellers = this.createResellers(Math.max(1, pSize / 10));
+      List<Product> lProducts = new ArrayList<>(pSize);
+      for (int i = 0; i < pSize; i++) {
+        Product lProduct = new Product();
+        lProduct.setId(i);
+        lProduct.setName("Product " + i);
+        lProduct.addReseller(lResellers.get(i % lResellers.size()));
+        lProduct.addReseller(lResellers.get((i + 1) % lResellers.size()));
+        lProducts.add(lProduct);
+      }
+      return lProducts;
+    }
+
+    @Override
+    public Class<?> getElementClass( ) {
+      return Product.class;
+    }
+  };
+
+  /**
+   * Offset for the ids of resellers.
+   */
+  private static final long RESELLER_ID_OFFSET = 1_000_000;
+
+  /**
+   * Method creates a single object of this payload.
+   *
+   * @param pSize Number of child objects that should be contained in the created object.
+   * @return Object Created object. The method never returns null.
+   */
+  public abstract Object createObject(int pSize);
+
+  /**
+   * Method returns the class of the objects that are created by {@link #createObject(int)}.
+   *
+   * @return {@link Class} Class of the single object of this payload. The method never returns null.
+   */
+  public abstract Class<?> getObjectClass( );
+
+  /**
+   * Method creates a collection of objects of this payload.
+   *
+   * @param pSize Number of objects that should be contained in the created collection.
+   * @return {@link Collection} Created collection. The method never returns null.
+   */
+  public abstract Collection<?> createCollection(int pSize);
+
+  /**
+   * Method returns the class of the elements that are contained in the collection created by
+   * {@link #createCollection(int)}.
+   *
+   * @return {@link Class} Class of the collection elements. The method never returns null.
+   */
+  public abstract Class<?> getElementClass( );
+
+  List<Partner> createPartners(int pSize) {
+    List<Partner> lPartners = new ArrayList<>(pSize);
+    for (int i = 0; i < pSize; i++) {
+      Partner lPartner;
+      if (i % 2 == 0) {
+        Person lPerson = new Person();
+        lPerson.setFirstName("Donald " + i);
+        lPerson.setSurname("Duck");
+        lPartner = lPerson;
+      }
+      else {
+        Company lCompany = new Company();
+        lCompany.setName("anaptecs GmbH " + i);
+        lPartner = lCompany;
+      }
+      lPartner.setObjectID(i);
+
+      PostalAddress lAddress = new PostalAddress();
+      lAddress.setStreet("Ricarda-Huch-Str.");
+      lAddress.setHouseNumber(String.valueOf(i));
+      lAddress.setCity("Reutlingen");
+      lAddress.setPostalCode(72760);
+      lPartner.addPostalAddress(lAddress);
+      lPartners.add(lPartner);
+    }
+    return lPartners;
+  }
+
+  List<ReadOnlyClient> createClients(int pSize) {
+    List<ReadOnlyClient> lClients = new ArrayList<>(pSize);
+    for (int i = 0; i < pSize; i++) {
+      lClients.add(ReadOnlyClient.of("Client " + i));
+    }
+    return lClients;
+  }
+
+  List<Reseller> createResellers(int pSize) {
+    // Products and resellers share the same scope for their ids so resellers have to use a different range.
+    List<Reseller> lResellers = new ArrayList<>(pSize);
+    for (int i = 0; i < pSize; i++) {
+      Reseller.Builder lBuilder = new Reseller.Builder(RESELLER_ID_OFFSET + i);
+      lBuilder.setName("Reseller " + i);
+      lResellers.add(lBuilder.build());
+    }
+    return lResellers;
+  }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+
+import com.anaptecs.jeaf.core.api.ServiceObjectID;
+import com.anaptecs.jeaf.json.impl.serializers.core.AbstractObjectIDDeserializer;
+import com.anaptecs.jeaf.json.impl.serializers.core.AbstractObjectIDSerializer;
+import com.anaptecs.jeaf.xfun.api.common.ObjectID;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Class contains benchmarks for the serializers of JEAF JSON Core Serializers ({@link AbstractObjectIDSerializer} and
+ * {@link AbstractObjectIDDeserializer}). Each operation serializes respectively deserializes exactly one ID, except
+ * {@link #serializeObjectIDList(SerializerState)} which writes a list of {@link SerializerState#OBJECT_ID_COUNT} IDs.
+ *
+ * @author JEAF Development Team
+ */
+public class CoreSerializersBenchmark extends AbstractJSONBenchmark {
+  @Benchmark
+  public byte[] serializeVersionedObjectID(SerializerState pState) {
+    return pState.objectIDWriter.writeValueAsBytes(pState.versionedObjectID);
+  }
+
+  @Benchmark
+  public byte[] serializeUnversionedObjectID(SerializerState pState) {
+    return pState.objectIDWriter.writeValueAsBytes(pState.unversionedObjectID);
+  }
+
+  @Benchmark
+  public byte[] serializeServiceObjectID(SerializerState pState) {
+    return pState.serviceObjectIDWriter.writeValueAsBytes(pState.serviceObjectID);
+  }
+
+  /**
+   * Benchmark writes the ID heavy payload into a reusable output stream so that the bytes that are allocated per
+   * operation are dominated by the serialization of the objectIDs themselves.
+   */
+  @Benchmark
+  public ByteArrayOutputStream serializeObjectIDList(SerializerState pState) {
+    ByteArrayOutputStream lOutputStream = pState.outputStream;
+    lOutputStream.reset();
+    pState.objectIDListWriter.writeValue(lOutputStream, pState.objectIDs);
+    return lOutputStream;
+  }
+
+  @Benchmark
+  public ObjectID deserializeVersionedObjectID(SerializerState pState) {
+    return pState.objectIDReader.readValue(pState.versionedObjectIDBytes);
+  }
+
+  @Benchmark
+  public ObjectID deserializeUnversionedObjectID(SerializerState pState) {
+    return pState.objectIDReader.readValue(pState.unversionedObjectIDBytes);
+  }
+
+  @Benchmark
+  public ServiceObjectID deserializeServiceObjectID(SerializerState pState) {
+    return pState.serviceObjectIDReader.readValue(pState.versionedObjectIDBytes);
+  }
+}
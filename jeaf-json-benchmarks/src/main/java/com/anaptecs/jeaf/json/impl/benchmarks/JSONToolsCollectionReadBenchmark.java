@@ -0,0 +1,80 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl.benchmarks;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.anaptecs.jeaf.json.api.JSONTools;
+import com.anaptecs.jeaf.json.api.ObjectType;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Class contains benchmarks for all <code>readToCollection(...)</code> operations of {@link JSONTools}. Operations are
+ * measured with a {@link Class} as well as with an {@link ObjectType} as element type. For comparison also streaming
+ * of the elements is measured.
+ *
+ * @author JEAF Development Team
+ */
+public class JSONToolsCollectionReadBenchmark extends AbstractJSONBenchmark {
+  @Benchmark
+  public Collection<?> readToCollectionFromStringWithClass(PayloadState pState) {
+    return pState.tools.readToCollection(pState.collectionJSON, List.class, pState.elementClass);
+  }
+
+  @Benchmark
+  public Collection<?> readToCollectionFromBytesWithClass(PayloadState pState) {
+    return pState.tools.readToCollection(pState.collectionBytes, List.class, pState.elementClass);
+  }
+
+  @Benchmark
+  public Collection<?> readToCollectionFromReaderWithClass(PayloadState pState) {
+    return pState.tools.readToCollection(pState.newCollectionReader(), List.class, pState.elementClass);
+  }
+
+  @Benchmark
+  public Collection<?> readToCollectionFromInputStreamWithClass(PayloadState pState) {
+    return pState.tools.readToCollection(pState.newCollectionInputStream(), List.class, pState.elementClass);
+  }
+
+  @Benchmark
+  public Collection<?> readToCollectionFromFileWithClass(PayloadState pState) {
+    return pState.tools.readToCollection(pState.collectionFile, List.class, pState.elementClass);
+  }
+
+  @Benchmark
+  public Collection<?> readToCollectionFromStringWithObjectType(PayloadState pState) {
+    return pState.tools.readToCollection(pState.collectionJSON, List.class, pState.elementType);
+  }
+
+  @Benchmark
+  public Collection<?> readToCollectionFromBytesWithObjectType(PayloadState pState) {
+    return pState.tools.readToCollection(pState.collectionBytes, List.class, pState.elementType);
+  }
+
+  @Benchmark
+  public Collection<?> readToCollectionFromReaderWithObjectType(PayloadState pState) {
+    return pState.tools.readToCollection(pState.newCollectionReader(), List.class, pState.elementType);
+  }
+
+  @Benchmark
+  public Collection<?> readToCollectionFromInputStreamWithObjectType(PayloadState pState) {
+    return pState.tools.readToCollection(pState.newCollectionInputStream(), List.class, pState.elementType);
+  }
+
+  @Benchmark
+  public Collection<?> readToCollectionFromFileWithObjectType(PayloadState pState) {
+    return pState.tools.readToCollection(pState.collectionFile, List.class, pState.elementType);
+  }
+
+  @Benchmark
+  public long readAsStreamFromInputStream(PayloadState pState) {
+    try (Stream<?> lStream = pState.toolsImpl.readAsStream(pState.newCollectionInputStream(), pState.elementClass)) {
+      return lStream.count();
+    }
+  }
+}
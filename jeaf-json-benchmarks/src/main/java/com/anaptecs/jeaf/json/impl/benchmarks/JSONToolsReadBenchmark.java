@@ -0,0 +1,88 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl.benchmarks;
+
+import com.anaptecs.jeaf.json.api.JSONTools;
+import com.anaptecs.jeaf.json.api.ObjectType;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Class contains benchmarks for all read operations of {@link JSONTools} that return a single object. Operations are
+ * measured with a {@link Class} as well as with an {@link ObjectType} as result type.
+ *
+ * @author JEAF Development Team
+ */
+public class JSONToolsReadBenchmark extends AbstractJSONBenchmark {
+  @Benchmark
+  public Object readStringWithClass(PayloadState pState) {
+    return pState.tools.read(pState.json, pState.objectClass);
+  }
+
+  @Benchmark
+  public Object readBytesWithClass(PayloadState pState) {
+    return pState.tools.read(pState.jsonBytes, pState.objectClass);
+  }
+
+  @Benchmark
+  public Object readReaderWithClass(PayloadState pState) {
+    return pState.tools.read(pState.newReader(), pState.objectClass);
+  }
+
+  @Benchmark
+  public Object readInputStreamWithClass(PayloadState pState) {
+    return pState.tools.read(pState.newInputStream(), pState.objectClass);
+  }
+
+  @Benchmark
+  public Object readFileWithClass(PayloadState pState) {
+    return pState.tools.read(pState.jsonFile, pState.objectClass);
+  }
+
+  @Benchmark
+  public Object readStringWithObjectType(PayloadState pState) {
+    return pState.tools.read(pState.json, pState.objectType);
+  }
+
+  @Benchmark
+  public Object readBytesWithObjectType(PayloadState pState) {
+    return pState.tools.read(pState.jsonBytes, pState.objectType);
+  }
+
+  @Benchmark
+  public Object readReaderWithObjectType(PayloadState pState) {
+    return pState.tools.read(pState.newReader(), pState.objectType);
+  }
+
+  @Benchmark
+  public Object readInputStreamWithObjectType(PayloadState pState) {
+    return pState.tools.read(pState.newInputStream(), pState.objectType);
+  }
+
+  @Benchmark
+  public Object readFileWithObjectType(PayloadState pState) {
+    return pState.tools.read(pState.jsonFile, pState.objectType);
+  }
+
+  @Benchmark
+  public Object readStringWithCollectionObjectType(PayloadState pState) {
+    return pState.tools.read(pState.collectionJSON, pState.collectionType);
+  }
+
+  @Benchmark
+  public Object readBytesWithCollectionObjectType(PayloadState pState) {
+    return pState.tools.read(pState.collectionBytes, pState.collectionType);
+  }
+
+  @Benchmark
+  public Object readStringWithTypedReader(PayloadState pState) {
+    return pState.typedReader.read(pState.json);
+  }
+
+  @Benchmark
+  public Object readBytesWithTypedReader(PayloadState pState) {
+    return pState.typedReader.read(pState.jsonBytes);
+  }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.StringWriter;
+
+import com.anaptecs.jeaf.json.api.JSONTools;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Class contains benchmarks for all write operations of {@link JSONTools}.
+ *
+ * @author JEAF Development Team
+ */
+public class JSONToolsWriteBenchmark extends AbstractJSONBenchmark {
+  @Benchmark
+  public ByteArrayOutputStream writeObjectToOutputStream(PayloadState pState) {
+    ByteArrayOutputStream lOutputStream = pState.resetOutputStream();
+    pState.tools.writeObject(pState.object, lOutputStream);
+    return lOutputStream;
+  }
+
+  @Benchmark
+  public StringWriter writeObjectToWriter(PayloadState pState) {
+    StringWriter lWriter = pState.resetWriter();
+    pState.tools.writeObject(pState.object, lWriter);
+    return lWriter;
+  }
+
+  @Benchmark
+  public File writeObjectToFile(PayloadState pState) {
+    pState.tools.writeObject(pState.object, pState.outputFile);
+    return pState.outputFile;
+  }
+
+  @Benchmark
+  public String writeObjectToString(PayloadState pState) {
+    return pState.tools.writeObjectToString(pState.object);
+  }
+
+  @Benchmark
+  public byte[] writeObjectToBytes(PayloadState pState) {
+    return pState.tools.writeObjectToBytes(pState.object);
+  }
+
+  @Benchmark
+  public ByteArrayOutputStream writeObjectsToOutputStream(PayloadState pState) {
+    ByteArrayOutputStream lOutputStream = pState.resetOutputStream();
+    pState.tools.writeObjects(pState.objects, lOutputStream, pState.elementClass);
+    return lOutputStream;
+  }
+
+  @Benchmark
+  public StringWriter writeObjectsToWriter(PayloadState pState) {
+    StringWriter lWriter = pState.resetWriter();
+    pState.tools.writeObjects(pState.objects, lWriter, pState.elementClass);
+    return lWriter;
+  }
+
+  @Benchmark
+  public File writeObjectsToFile(PayloadState pState) {
+    pState.tools.writeObjects(pState.objects, pState.outputFile, pState.elementClass);
+    return pState.outputFile;
+  }
+
+  @Benchmark
+  public String writeObjectsToString(PayloadState pState) {
+    return pState.tools.writeObjectsToString(pState.objects, pState.elementClass);
+  }
+
+  @Benchmark
+  public byte[] writeObjectsToBytes(PayloadState pState) {
+    return pState.tools.writeObjectsToBytes(pState.objects, pState.elementClass);
+  }
+
+  @Benchmark
+  public String writeObjectToStringWithTypedWriter(PayloadState pState) {
+    return pState.typedWriter.writeToString(pState.object);
+  }
+
+  @Benchmark
+  public byte[] writeObjectToBytesWithTypedWriter(PayloadState pState) {
+    return pState.typedWriter.writeToBytes(pState.object);
+  }
+
+  @Benchmark
+  public ByteArrayOutputStream writeObjectsFromIteratorToOutputStream(PayloadState pState) {
+    ByteArrayOutputStream lOutputStream = pState.resetOutputStream();
+    pState.toolsImpl.writeObjectsLazily(pState.objects.iterator(), lOutputStream, pState.elementClass);
+    return lOutputStream;
+  }
+}
@@ -0,0 +1,203 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.List;
+
+import com.anaptecs.jeaf.json.api.JSONTools;
+import com.anaptecs.jeaf.json.api.ObjectType;
+import com.anaptecs.jeaf.json.impl.JSONToolsImpl;
+import com.anaptecs.jeaf.json.impl.TypedJSONReader;
+import com.anaptecs.jeaf.json.impl.TypedJSONWriter;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Class provides the state that is shared by all JSON Tools benchmarks. Objects and their JSON representations are
+ * created once per trial so that only the operation under test is measured.
+ *
+ * @author JEAF Development Team
+ */
+@State(Scope.Thread)
+public class PayloadState {
+  /**
+   * Payload that is used by the benchmark.
+   */
+  @Param({ "PARTNERS", "READONLY", "PRODUCTS" })
+  public BenchmarkPayload payload;
+
+  /**
+   * Number of child objects of a single object respectively number of elements in a collection.
+   */
+  @Param({ "10", "1000" })
+  public int size;
+
+  /**
+   * JSON Tools that are used for all benchmarks.
+   */
+  public JSONTools tools;
+
+  /**
+   * JSON Tools implementation that is used for benchmarks of operations that are not part of {@link JSONTools}.
+   */
+  public JSONToolsImpl toolsImpl;
+
+  /**
+   * Prepared reader and writer for the single object.
+   */
+  public TypedJSONReader<Object> typedReader;
+
+  public TypedJSONWriter<Object> typedWriter;
+
+  /**
+   * Single object that should be serialized.
+   */
+  public Object object;
+
+  /**
+   * Collection that should be serialized.
+   */
+  public Collection<?> objects;
+
+  /**
+   * Type of the single object.
+   */
+  public Class<?> objectClass;
+
+  /**
+   * Type of the elements of the collection.
+   */
+  public Class<?> elementClass;
+
+  /**
+   * {@link ObjectType} of the single object.
+   */
+  public ObjectType objectType;
+
+  /**
+   * {@link ObjectType} of the collection as a whole.
+   */
+  public ObjectType collectionType;
+
+  /**
+   * {@link ObjectType} of the elements of the collection.
+   */
+  public ObjectType elementType;
+
+  /**
+   * JSON representation of the single object.
+   */
+  public String json;
+
+  public byte[] jsonBytes;
+
+  public File jsonFile;
+
+  /**
+   * JSON representation of the collection.
+   */
+  public String collectionJSON;
+
+  public byte[] collectionBytes;
+
+  public File collectionFile;
+
+  /**
+   * Targets for write benchmarks.
+   */
+  public ByteArrayOutputStream outputStream;
+
+  public StringWriter writer;
+
+  public File outputFile;
+
+  @Setup(Level.Trial)
+  public void setup( ) throws IOException {
+    tools = JSONTools.getJSONTools();
+    toolsImpl = (JSONToolsImpl) tools;
+
+    object = payload.createObject(size);
+    objects = payload.createCollection(size);
+    objectClass = payload.getObjectClass();
+    elementClass = payload.getElementClass();
+    objectType = ObjectType.createObjectType(objectClass);
+    collectionType = ObjectType.createObjectType(List.class, elementClass);
+    elementType = ObjectType.createObjectType(elementClass);
+    typedReader = toolsImpl.readerFor(objectType);
+    typedWriter = toolsImpl.writerFor(objectType);
+
+    json = tools.writeObjectToString(object);
+    jsonBytes = tools.writeObjectToBytes(object);
+    jsonFile = File.createTempFile("jeaf-json-benchmark", ".json");
+    jsonFile.deleteOnExit();
+    Files.write(jsonFile.toPath(), jsonBytes);
+
+    collectionJSON = tools.writeObjectsToString(objects, elementClass);
+    collectionBytes = tools.writeObjectsToBytes(objects, elementClass);
+    collectionFile = File.createTempFile("jeaf-json-benchmark-collection", ".json");
+    collectionFile.deleteOnExit();
+    Files.write(collectionFile.toPath(), collectionBytes);
+
+    outputStream = new ByteArrayOutputStream(Math.max(jsonBytes.length, collectionBytes.length));
+    writer = new StringWriter(Math.max(json.length(), collectionJSON.length()));
+    outputFile = File.createTempFile("jeaf-json-benchmark-output", ".json");
+    outputFile.deleteOnExit();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown( ) {
+    jsonFile.delete();
+    collectionFile.delete();
+    outputFile.delete();
+  }
+
+  /**
+   * Method returns the reusable output stream after it was reset. Resetting is part of the measured operation but
+   * cheaper than using {@link Level#Invocation} setup methods.
+   */
+  public ByteArrayOutputStream resetOutputStream( ) {
+    outputStream.reset();
+    return outputStream;
+  }
+
+  /**
+   * Method returns the reusable writer after it was reset.
+   */
+  public StringWriter resetWriter( ) {
+    writer.getBuffer().setLength(0);
+    return writer;
+  }
+
+  public InputStream newInputStream( ) {
+    return new ByteArrayInputStream(jsonBytes);
+  }
+
+  public Reader newReader( ) {
+    return new StringReader(json);
+  }
+
+  public InputStream newCollectionInputStream( ) {
+    return new ByteArrayInputStream(collectionBytes);
+  }
+
+  public Reader newCollectionReader( ) {
+    return new StringReader(collectionJSON);
+  }
+}
@@ -0,0 +1,36 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl.benchmarks;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.anaptecs.jeaf.json.impl.RecyclerPoolStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Class contains benchmarks that compare the different {@link RecyclerPoolStrategy}s when JSON is read and written
+ * concurrently from platform and virtual threads.
+ *
+ * @author JEAF Development Team
+ */
+public class RecyclerPoolBenchmark extends AbstractJSONBenchmark {
+  @Benchmark
+  public int readAndWriteConcurrently(RecyclerPoolState pState) {
+    @SuppressWarnings("unchecked")
+    CompletableFuture<Integer>[] lTasks = new CompletableFuture[RecyclerPoolState.TASKS];
+    for (int i = 0; i < lTasks.length; i++) {
+      lTasks[i] = CompletableFuture.supplyAsync(( ) -> {
+        Object lObject = pState.objectMapper.readValue(pState.jsonBytes, pState.objectClass);
+        return pState.objectMapper.writeValueAsBytes(lObject).length;
+      }, pState.executor);
+    }
+    int lTotalLength = 0;
+    for (CompletableFuture<Integer> lNext : lTasks) {
+      lTotalLength = lTotalLength + lNext.join();
+    }
+    return lTotalLength;
+  }
+}
@@ -0,0 +1,125 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl.benchmarks;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.anaptecs.jeaf.json.annotations.ObjectMapperConfig;
+import com.anaptecs.jeaf.json.api.JSONTools;
+import com.anaptecs.jeaf.json.impl.ObjectMapperConfiguration;
+import com.anaptecs.jeaf.json.impl.ObjectMapperFactory;
+import com.anaptecs.jeaf.json.impl.RecyclerPoolStrategy;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Class provides the state for benchmarks comparing the strategies for buffer recycling on platform and virtual
+ * threads. Every combination uses its own object mapper so that pools are not influenced by other combinations.
+ *
+ * @author JEAF Development Team
+ */
+@State(Scope.Benchmark)
+public class RecyclerPoolState {
+  /**
+   * Enumeration defines the kind of threads that execute the tasks of a benchmark.
+   */
+  public enum ThreadType {
+    /**
+     * Tasks are executed by a fixed pool of platform threads.
+     */
+    PLATFORM,
+
+    /**
+     * Every task is executed by a new virtual thread. On Java versions without virtual threads a new platform thread is
+     * used instead which has the same effect on thread local buffers.
+     */
+    VIRTUAL;
+  }
+
+  /**
+   * Number of tasks that are executed concurrently per benchmark operation.
+   */
+  public static final int TASKS = 64;
+
+  /**
+   * Number of child objects of the serialized object.
+   */
+  private static final int PAYLOAD_SIZE = 10;
+
+  @Param({ "CONCURRENT_DEQUE", "SHARED_CONCURRENT_DEQUE", "BOUNDED", "THREAD_LOCAL", "NONE" })
+  public RecyclerPoolStrategy strategy;
+
+  @Param({ "PLATFORM", "VIRTUAL" })
+  public ThreadType threadType;
+
+  /**
+   * Object mapper using the recycler pool strategy of the benchmark.
+   */
+  public ObjectMapper objectMapper;
+
+  /**
+   * Executor that runs the tasks.
+   */
+  public Executor executor;
+
+  /**
+   * Object that is serialized and its JSON representation.
+   */
+  public Object object;
+
+  public Class<?> objectClass;
+
+  public byte[] jsonBytes;
+
+  @Setup(Level.Trial)
+  public void setup( ) {
+    ObjectMapperConfiguration lConfiguration = new ObjectMapperConfiguration(
+        ObjectMapperConfig.OBJECT_MAPPER_CONFIG_RESOURCE_NAME, JSONTools.JSON_BASE_PATH, false, strategy);
+    objectMapper = ObjectMapperFactory.createObjectMapper(lConfiguration);
+
+    object = BenchmarkPayload.PARTNERS.createObject(PAYLOAD_SIZE);
+    objectClass = BenchmarkPayload.PARTNERS.getObjectClass();
+    jsonBytes = objectMapper.writeValueAsBytes(object);
+
+    if (threadType == ThreadType.PLATFORM) {
+      executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+    else {
+      executor = this.createVirtualThreadExecutor();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown( ) {
+    if (executor instanceof ExecutorService) {
+      ((ExecutorService) executor).shutdown();
+    }
+  }
+
+  /**
+   * Method creates an executor that starts a new virtual thread per task. As the benchmarks are compiled for Java 11
+   * the executor is resolved using reflection.
+   *
+   * @return {@link Executor} Executor for virtual threads. The method never returns null.
+   */
+  private Executor createVirtualThreadExecutor( ) {
+    Executor lExecutor;
+    try {
+      lExecutor = (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    }
+    catch (ReflectiveOperationException e) {
+      lExecutor = pTask -> new Thread(pTask).start();
+    }
+    return lExecutor;
+  }
+}
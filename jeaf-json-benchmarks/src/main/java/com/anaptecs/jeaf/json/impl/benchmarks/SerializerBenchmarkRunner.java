@@ -0,0 +1,34 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Class runs all serializer benchmarks together with the GC profiler so that besides throughput also the number of
+ * bytes that are allocated per operation is reported (<code>gc.alloc.rate.norm</code>).
+ *
+ * <code>java -cp target/benchmarks.jar com.anaptecs.jeaf.json.impl.benchmarks.SerializerBenchmarkRunner</code>
+ *
+ * @author JEAF Development Team
+ */
+public class SerializerBenchmarkRunner {
+  /**
+   * Hide public constructor.
+   */
+  private SerializerBenchmarkRunner( ) {
+  }
+
+  public static void main(String[] pArgs) throws RunnerException {
+    Options lOptions = new OptionsBuilder().include(CoreSerializersBenchmark.class.getName())
+        .include(XFunSerializersBenchmark.class.getName()).addProfiler(GCProfiler.class).build();
+    new Runner(lOptions).run();
+  }
+}
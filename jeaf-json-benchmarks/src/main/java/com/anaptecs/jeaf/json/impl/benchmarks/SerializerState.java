@@ -0,0 +1,156 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.anaptecs.jeaf.core.api.ServiceObjectID;
+import com.anaptecs.jeaf.json.api.JSONTools;
+import com.anaptecs.jeaf.xfun.api.common.ObjectID;
+import com.anaptecs.jeaf.xfun.api.errorhandling.ErrorCode;
+import com.anaptecs.jeaf.xfun.api.info.ApplicationInfo;
+import com.anaptecs.jeaf.xfun.api.info.VersionInfo;
+import com.anaptecs.jeaf.xfun.api.messages.LocalizedString;
+import com.anaptecs.jeaf.xfun.api.messages.MessageID;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+
+/**
+ * Class provides the state for the serializer benchmarks. Readers and writers are resolved once per trial so that the
+ * benchmarks measure the custom serializers and deserializers of JEAF JSON and not the type lookup of Jackson.
+ *
+ * @author JEAF Development Team
+ */
+@State(Scope.Benchmark)
+public class SerializerState {
+  /**
+   * Serialized versioned object ID.
+   */
+  public static final String VERSIONED_OBJECT_ID = "\"4711-ABC-0815|12\"";
+
+  /**
+   * Serialized unversioned object ID.
+   */
+  public static final String UNVERSIONED_OBJECT_ID = "\"4711-ABC-0815\"";
+
+  public static final String VERSION_INFO =
+      "{\"version\":\"3.1.2.47-SNAPSHOT\",\"date\":\"2022-01-19 17:02:45.551\",\"isUnknownVersion\":false}";
+
+  public static final String APPLICATION_INFO =
+      "{\"applicationID\":\"JSON_TEST\",\"name\":\"JEAF JSON Test App\","
+          + "\"websiteURL\":\"https://www.anaptecs.de/jeaf\","
+          + "\"description\":\"Test App for JSON Serialization support by JEAF\",\"applicationProvider\":{\"creator\":"
+          + "\"anaptecs GmbH\",\"creatorURL\":\"https://www.anaptecs.de\"},\"version\":" + VERSION_INFO
+          + ",\"isUnknownApplication\":false}";
+
+  /**
+   * Number of objectIDs of the ID heavy payload.
+   */
+  public static final int OBJECT_ID_COUNT = 1000;
+
+  public static final String MESSAGE_ID = "{\"localizationID\":123456,\"traceLevel\":\"TRACE\"}";
+
+  public static final String LOCALIZED_STRING = "{\"localizationID\":789}";
+
+  public ObjectID versionedObjectID;
+
+  public ObjectID unversionedObjectID;
+
+  public ServiceObjectID serviceObjectID;
+
+  public VersionInfo versionInfo;
+
+  /**
+   * ID heavy payload consisting of {@link #OBJECT_ID_COUNT} different versioned objectIDs.
+   */
+  public List<ObjectID> objectIDs;
+
+  /**
+   * Reusable output stream so that the ID heavy benchmarks do not measure the allocation of the result.
+   */
+  public ByteArrayOutputStream outputStream;
+
+  public byte[] versionedObjectIDBytes;
+
+  public byte[] unversionedObjectIDBytes;
+
+  public byte[] versionInfoBytes;
+
+  public byte[] applicationInfoBytes;
+
+  public byte[] messageIDBytes;
+
+  public byte[] localizedStringBytes;
+
+  public ObjectWriter objectIDWriter;
+
+  public ObjectWriter serviceObjectIDWriter;
+
+  public ObjectWriter objectIDListWriter;
+
+  public ObjectWriter versionInfoWriter;
+
+  public ObjectReader objectIDReader;
+
+  public ObjectReader serviceObjectIDReader;
+
+  public ObjectReader versionInfoReader;
+
+  public ObjectReader applicationInfoReader;
+
+  public ObjectReader messageIDReader;
+
+  public ObjectReader errorCodeReader;
+
+  public ObjectReader localizedStringReader;
+
+  @Setup(Level.Trial)
+  public void setup( ) {
+    ObjectMapper lObjectMapper = JSONTools.getJSONTools().getDefaultObjectMapper();
+
+    versionedObjectID = new ObjectID("4711-ABC-0815", 12);
+    unversionedObjectID = new ObjectID("4711-ABC-0815", null);
+    serviceObjectID = new ServiceObjectID("4711-ABC-0815", 12);
+    versionInfo = new VersionInfo("3.1.2.47-SNAPSHOT", new Date(1642608165551l));
+
+    objectIDs = new ArrayList<>(OBJECT_ID_COUNT);
+    for (int i = 0; i < OBJECT_ID_COUNT; i++) {
+      objectIDs.add(new ObjectID("4711-ABC-" + i, i));
+    }
+
+    versionedObjectIDBytes = VERSIONED_OBJECT_ID.getBytes(StandardCharsets.UTF_8);
+    unversionedObjectIDBytes = UNVERSIONED_OBJECT_ID.getBytes(StandardCharsets.UTF_8);
+    versionInfoBytes = VERSION_INFO.getBytes(StandardCharsets.UTF_8);
+    applicationInfoBytes = APPLICATION_INFO.getBytes(StandardCharsets.UTF_8);
+    messageIDBytes = MESSAGE_ID.getBytes(StandardCharsets.UTF_8);
+    localizedStringBytes = LOCALIZED_STRING.getBytes(StandardCharsets.UTF_8);
+
+    objectIDWriter = lObjectMapper.writerFor(ObjectID.class);
+    serviceObjectIDWriter = lObjectMapper.writerFor(ServiceObjectID.class);
+    objectIDListWriter = lObjectMapper.writerFor(new TypeReference<List<ObjectID>>() {
+    });
+    outputStream = new ByteArrayOutputStream(OBJECT_ID_COUNT * 32);
+    versionInfoWriter = lObjectMapper.writerFor(VersionInfo.class);
+
+    objectIDReader = lObjectMapper.readerFor(ObjectID.class);
+    serviceObjectIDReader = lObjectMapper.readerFor(ServiceObjectID.class);
+    versionInfoReader = lObjectMapper.readerFor(VersionInfo.class);
+    applicationInfoReader = lObjectMapper.readerFor(ApplicationInfo.class);
+    messageIDReader = lObjectMapper.readerFor(MessageID.class);
+    errorCodeReader = lObjectMapper.readerFor(ErrorCode.class);
+    localizedStringReader = lObjectMapper.readerFor(LocalizedString.class);
+  }
+}
@@ -0,0 +1,51 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl.benchmarks;
+
+import com.anaptecs.jeaf.xfun.api.errorhandling.ErrorCode;
+import com.anaptecs.jeaf.xfun.api.info.ApplicationInfo;
+import com.anaptecs.jeaf.xfun.api.info.VersionInfo;
+import com.anaptecs.jeaf.xfun.api.messages.LocalizedString;
+import com.anaptecs.jeaf.xfun.api.messages.MessageID;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Class contains benchmarks for the serializers and deserializers of JEAF JSON X-Fun Serializers. Each operation
+ * serializes respectively deserializes exactly one object.
+ *
+ * @author JEAF Development Team
+ */
+public class XFunSerializersBenchmark extends AbstractJSONBenchmark {
+  @Benchmark
+  public byte[] serializeVersionInfo(SerializerState pState) {
+    return pState.versionInfoWriter.writeValueAsBytes(pState.versionInfo);
+  }
+
+  @Benchmark
+  public VersionInfo deserializeVersionInfo(SerializerState pState) {
+    return pState.versionInfoReader.readValue(pState.versionInfoBytes);
+  }
+
+  @Benchmark
+  public ApplicationInfo deserializeApplicationInfo(SerializerState pState) {
+    return pState.applicationInfoReader.readValue(pState.applicationInfoBytes);
+  }
+
+  @Benchmark
+  public MessageID deserializeMessageID(SerializerState pState) {
+    return pState.messageIDReader.readValue(pState.messageIDBytes);
+  }
+
+  @Benchmark
+  public ErrorCode deserializeErrorCode(SerializerState pState) {
+    return pState.errorCodeReader.readValue(pState.messageIDBytes);
+  }
+
+  @Benchmark
+  public LocalizedString deserializeLocalizedString(SerializerState pState) {
+    return pState.localizedStringReader.readValue(pState.localizedStringBytes);
+  }
+}
@@ -5,15 +5,17 @@
  */
 package com.anaptecs.jeaf.json.impl.serializers.core;
 
+import java.util.function.BiFunction;
+
 import com.anaptecs.jeaf.core.api.ServiceObjectID;
 import com.anaptecs.jeaf.json.api.JSONMessages;
 import com.anaptecs.jeaf.xfun.api.common.AbstractObjectID;
 import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
 import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
 import tools.jackson.databind.DeserializationContext;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ValueDeserializer;
-import tools.jackson.databind.node.StringNode;
 
 /**
  * Class implements a generic JSON deserializer for {@link AbstractObjectID} implementations.
@@ -22,9 +24,53 @@ import tools.jackson.databind.node.StringNode;
  */
 public abstract class AbstractObjectIDDeserializer<T extends AbstractObjectID<?>> extends ValueDeserializer<T> {
   /**
-   * Regex is used to separate objectID and version label part of an serialized objectID.
+   * Character that separates objectID and version label part of an serialized objectID.
+   */
+  private static final char DELIMITER = AbstractObjectIDSerializer.VERSION_LABEL_DELIMITER.charAt(0);
+
+  /**
+   * Cache that is used to share objectIDs between all references with the same serialized objectID. The attribute is
+   * null if no cache is used. Disabled caches are not used at all so that objectIDs are created without any lookup or
+   * statistics overhead.
+   */
+  private final ObjectIDCache<T> cache;
+
+  /**
+   * Function that creates new objectIDs in case of cache misses.
    */
-  private static final String REGEX = "\\" + AbstractObjectIDSerializer.VERSION_LABEL_DELIMITER;
+  private final BiFunction<String, Integer, T> factory = this::createObjectID;
+
+  /**
+   * Initialize object. Every deserialized objectID will be a new instance.
+   */
+  protected AbstractObjectIDDeserializer( ) {
+    this(null);
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pCache Cache that should be used to share objectIDs. The parameter may be null if no cache should be used.
+   * Caches with a maximum size of 0 are disabled and therefore treated like null.
+   */
+  protected AbstractObjectIDDeserializer( ObjectIDCache<T> pCache ) {
+    if (pCache != null && pCache.getMaxSize() > 0) {
+      cache = pCache;
+    }
+    else {
+      cache = null;
+    }
+  }
+
+  /**
+   * Method returns the cache that is used to share objectIDs.
+   *
+   * @return {@link ObjectIDCache} Cache of this deserializer or null if no cache is used or if the passed cache is
+   * disabled.
+   */
+  public ObjectIDCache<T> getCache( ) {
+    return cache;
+  }
 
   /**
    * Method reads version info data from the JSON data and creates a {@link ServiceObjectID} object out of it.
@@ -34,34 +80,116 @@ public abstract class AbstractObjectIDDeserializer<T extends AbstractObjectID<?>
    */
   @Override
   public final T deserialize(JsonParser pParser, DeserializationContext pContext) {
-    // Parse JSON content.
-    JsonNode lNode = pParser.objectReadContext().readTree(pParser);
+    // We expect that objectIDs are always serialized as plain text. So we can work directly on the characters of the
+    // current token without creating a tree.
+    if (pParser.currentToken() == JsonToken.VALUE_STRING) {
+      char[] lChars = pParser.getStringCharacters();
+      int lStart = pParser.getStringOffset();
+      int lEnd = lStart + pParser.getStringLength();
 
-    // We expect that objectIDs are always serialized as plain text which will result in a TextNode.
-    if (lNode instanceof StringNode) {
-      // Get serialized version of objectID.
-      String lSerializedID = lNode.asString();
+      // Trailing delimiters are ignored when the serialized objectID is analyzed.
+      int lContentEnd = lEnd;
+      while (lContentEnd > lStart && lChars[lContentEnd - 1] == DELIMITER) {
+        lContentEnd--;
+      }
 
-      // Try to resolve may be existing version label
-      String[] lSplit = lSerializedID.split(REGEX);
-      int lLength = lSplit.length;
+      // Try to resolve may be existing version label. It is only present if there is exactly one delimiter.
+      int lDelimiter = indexOfDelimiter(lChars, lStart, lContentEnd);
+      int lIDEnd;
       Integer lVersionLabel;
-      if (lLength == 2) {
-        lSerializedID = lSplit[0];
-        lVersionLabel = Integer.valueOf(lSplit[1]);
+      if (lDelimiter >= 0 && indexOfDelimiter(lChars, lDelimiter + 1, lContentEnd) < 0) {
+        lIDEnd = lDelimiter;
+        lVersionLabel = parseVersionLabel(lChars, lDelimiter + 1, lContentEnd);
       }
       // Nothing to do. "objectID" remains as it is
       else {
+        lIDEnd = lEnd;
         lVersionLabel = null;
       }
-      // Create new ObjectID and return it.
-      return this.createObjectID(lSerializedID, lVersionLabel);
+
+      // Resolve shared ObjectID from cache or create new one.
+      T lObjectID;
+      if (cache != null) {
+        lObjectID = cache.get(lChars, lStart, lIDEnd, lVersionLabel, factory);
+      }
+      else {
+        lObjectID = this.createObjectID(new String(lChars, lStart, lIDEnd - lStart), lVersionLabel);
+      }
+      return lObjectID;
     }
-    // objectID is not present as TextNode
+    // objectID is not present as plain text. Tree is only created to report the problem.
     else {
-      throw new JEAFSystemException(JSONMessages.UNEXPECTED_NODE_TYPE_FOR_OBJECT_ID_DESERIAL, lNode.toString(),
-          lNode.getClass().getName());
+      JsonNode lNode = pParser.objectReadContext().readTree(pParser);
+      throw new JEAFSystemException(JSONMessages.UNEXPECTED_NODE_TYPE_FOR_OBJECT_ID_DESERIAL, String.valueOf(lNode),
+          lNode != null ? lNode.getClass().getName() : null);
+    }
+  }
+
+  /**
+   * Method returns the index of the first delimiter within the passed range.
+   *
+   * @param pChars Characters that should be searched. The parameter must not be null.
+   * @param pStart Start of the range (inclusive).
+   * @param pEnd End of the range (exclusive).
+   * @return int Index of the first delimiter or -1 if the range does not contain a delimiter.
+   */
+  private static int indexOfDelimiter(char[] pChars, int pStart, int pEnd) {
+    for (int i = pStart; i < pEnd; i++) {
+      if (pChars[i] == DELIMITER) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Method parses the version label from the passed range.
+   *
+   * @param pChars Characters containing the version label. The parameter must not be null.
+   * @param pStart Start of the range (inclusive).
+   * @param pEnd End of the range (exclusive).
+   * @return {@link Integer} Parsed version label. The method never returns null.
+   * @throws NumberFormatException if the range does not contain a valid int value.
+   */
+  private static Integer parseVersionLabel(char[] pChars, int pStart, int pEnd) {
+    int lIndex = pStart;
+    boolean lNegative = false;
+    if (lIndex < pEnd && (pChars[lIndex] == '-' || pChars[lIndex] == '+')) {
+      lNegative = pChars[lIndex] == '-';
+      lIndex++;
     }
+    if (lIndex == pEnd) {
+      throw newNumberFormatException(pChars, pStart, pEnd);
+    }
+
+    // Value is accumulated negatively so that Integer.MIN_VALUE can be represented as well.
+    long lValue = 0;
+    for (; lIndex < pEnd; lIndex++) {
+      int lDigit = Character.digit(pChars[lIndex], 10);
+      lValue = lValue * 10 - lDigit;
+      if (lDigit < 0 || lValue < Integer.MIN_VALUE) {
+        throw newNumberFormatException(pChars, pStart, pEnd);
+      }
+    }
+    if (lNegative == false) {
+      lValue = -lValue;
+      if (lValue > Integer.MAX_VALUE) {
+        throw newNumberFormatException(pChars, pStart, pEnd);
+      }
+    }
+    return Integer.valueOf((int) lValue);
+  }
+
+  /**
+   * Method creates the exception that reports an invalid version label like {@link Integer#valueOf(String)} does.
+   *
+   * @param pChars Characters containing the invalid version label. The parameter must not be null.
+   * @param pStart Start of the version label (inclusive).
+   * @param pEnd End of the version label (exclusive).
+   * @return {@link NumberFormatException} Created exception. The method never returns null.
+   */
+  private static NumberFormatException newNumberFormatException(char[] pChars, int pStart, int pEnd) {
+    return new NumberFormatException("For input string: \"" + new String(pChars, pStart, pEnd - pStart) + "\"");
   }
 
   /**
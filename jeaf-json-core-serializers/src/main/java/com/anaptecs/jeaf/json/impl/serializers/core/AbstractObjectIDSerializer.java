@@ -16,18 +16,70 @@ public class AbstractObjectIDSerializer extends ValueSerializer<AbstractObjectID
    */
   public static final String VERSION_LABEL_DELIMITER = "|";
 
+  /**
+   * Maximum number of characters that are required to represent a version label including its delimiter.
+   */
+  private static final int MAX_VERSION_LABEL_LENGTH = 12;
+
+  /**
+   * Buffer per thread that is used to assemble the serialized form of versioned objectIDs without creating temporary
+   * strings. The buffer grows with the longest objectID that was serialized by the thread.
+   */
+  private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(( ) -> new char[64]);
+
   /**
    * Method serializes any kind of {@link AbstractObjectID} implementation to a simple pure string based JSON
    * representation.
    */
   @Override
   public void serialize(AbstractObjectID<?> pValue, JsonGenerator pGenerator, SerializationContext pSerializers) {
-    StringBuilder lBuilder = new StringBuilder();
-    lBuilder.append(pValue.getObjectID());
+    String lObjectID = pValue.getObjectID();
     if (pValue.isVersioned()) {
-      lBuilder.append(VERSION_LABEL_DELIMITER);
-      lBuilder.append(pValue.getVersionLabel());
+      // Assemble objectID, delimiter and version label in the buffer and write them as one string.
+      int lLength = lObjectID.length();
+      char[] lBuffer = BUFFER.get();
+      if (lBuffer.length < lLength + MAX_VERSION_LABEL_LENGTH) {
+        lBuffer = new char[lLength + MAX_VERSION_LABEL_LENGTH];
+        BUFFER.set(lBuffer);
+      }
+      lObjectID.getChars(0, lLength, lBuffer, 0);
+      lBuffer[lLength] = VERSION_LABEL_DELIMITER.charAt(0);
+      int lEnd = appendInt(lBuffer, lLength + 1, pValue.getVersionLabel());
+      pGenerator.writeString(lBuffer, 0, lEnd);
+    }
+    // Unversioned objectIDs can be written as they are.
+    else {
+      pGenerator.writeString(lObjectID);
+    }
+  }
+
+  /**
+   * Method writes the decimal representation of the passed value into the buffer.
+   *
+   * @param pBuffer Buffer to which the value should be written. The parameter must not be null and must provide enough
+   * space for the value.
+   * @param pPosition Position in the buffer where the value starts.
+   * @param pValue Value that should be written.
+   * @return int Position in the buffer behind the last written character.
+   */
+  private static int appendInt(char[] pBuffer, int pPosition, int pValue) {
+    // Digits are calculated on the negative value so that Integer.MIN_VALUE is supported as well.
+    boolean lNegative = pValue < 0;
+    int lValue = lNegative ? pValue : -pValue;
+    int lDigits = 1;
+    for (int lRest = lValue / 10; lRest != 0; lRest = lRest / 10) {
+      lDigits++;
+    }
+    int lEnd = pPosition + lDigits;
+    if (lNegative) {
+      pBuffer[pPosition] = '-';
+      lEnd++;
     }
-    pGenerator.writeString(lBuilder.toString());
+    int lIndex = lEnd;
+    do {
+      pBuffer[--lIndex] = (char) ('0' - lValue % 10);
+      lValue = lValue / 10;
+    } while (lValue != 0);
+    return lEnd;
   }
 }
@@ -0,0 +1,298 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl.serializers.core;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+import com.anaptecs.jeaf.xfun.api.common.AbstractObjectID;
+
+/**
+ * Class implements a bounded cache that is used to share immutable objectIDs between all references that were
+ * deserialized from the same serialized objectID.
+ *
+ * The cache is organized in sets of {@link #WAYS} entries. The set of an objectID is selected by its hash code and
+ * within a set the entries are kept in least recently used order. The cache does not use any locks. Concurrent updates
+ * of the same set may drop or duplicate entries which only reduces the hit rate but never returns a wrong objectID. So
+ * sharing of instances is best effort.
+ *
+ * Lookups are done directly on the characters of the parser so that no strings are created for cache hits.
+ *
+ * @author JEAF Development Team
+ */
+public final class ObjectIDCache<T extends AbstractObjectID<?>> {
+  /**
+   * Name of the system property that can be used to define the size of the shared caches of the deserializers.
+   */
+  public static final String CACHE_SIZE_PROPERTY = "jeaf.json.objectIDCacheSize";
+
+  /**
+   * Size of the shared caches if nothing else is defined. By default caching is disabled.
+   */
+  public static final int DEFAULT_CACHE_SIZE = 0;
+
+  /**
+   * Number of entries per set.
+   */
+  private static final int WAYS = 4;
+
+  /**
+   * All entries of the cache. The entries of one set are stored next to each other, starting with the most recently
+   * used one.
+   */
+  private final AtomicReferenceArray<Entry<T>> entries;
+
+  /**
+   * Mask that is used to select the set of a hash code.
+   */
+  private final int setMask;
+
+  /**
+   * Number of lookups that could be served from the cache.
+   */
+  private final LongAdder hits = new LongAdder();
+
+  /**
+   * Number of lookups that required to create a new objectID.
+   */
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Initialize object.
+   *
+   * @param pMaxSize Maximum number of entries inside the cache. The value must be zero or greater. 0 means that caching
+   * is disabled. Other values are rounded up so that the number of sets is a power of 2.
+   */
+  public ObjectIDCache( int pMaxSize ) {
+    Check.checkIsZeroOrGreater(pMaxSize, "pMaxSize");
+    int lSets;
+    if (pMaxSize > 0) {
+      int lRequiredSets = (pMaxSize + WAYS - 1) / WAYS;
+      lSets = Integer.highestOneBit(lRequiredSets);
+      if (lSets < lRequiredSets) {
+        lSets = lSets << 1;
+      }
+    }
+    else {
+      lSets = 0;
+    }
+    entries = new AtomicReferenceArray<>(lSets * WAYS);
+    setMask = lSets - 1;
+  }
+
+  /**
+   * Method returns the size of the shared caches as it is defined by system property {@link #CACHE_SIZE_PROPERTY}.
+   *
+   * @return int Configured cache size. If the system property is not set or does not contain a valid size then
+   * {@link #DEFAULT_CACHE_SIZE} is returned.
+   */
+  public static int getConfiguredSize( ) {
+    int lSize = Integer.getInteger(CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE);
+    if (lSize < 0) {
+      lSize = DEFAULT_CACHE_SIZE;
+    }
+    return lSize;
+  }
+
+  /**
+   * Method returns the cached objectID for the passed serialized objectID. If there is no entry yet then it will be
+   * created using the passed factory.
+   *
+   * @param pChars Characters containing the objectID. The parameter must not be null.
+   * @param pStart Start of the objectID (inclusive).
+   * @param pEnd End of the objectID (exclusive).
+   * @param pVersionLabel Version label of the objectID. The parameter may be null.
+   * @param pFactory Function that is used to create the objectID if it is not yet cached. The parameter must not be
+   * null. The function must not return null.
+   * @return T Cached or newly created objectID. The method never returns null.
+   */
+  public T get(char[] pChars, int pStart, int pEnd, Integer pVersionLabel,
+      BiFunction<String, Integer, ? extends T> pFactory) {
+
+    T lObjectID;
+    if (setMask >= 0) {
+      int lHash = hash(pChars, pStart, pEnd, pVersionLabel);
+      int lBase = (lHash & setMask) * WAYS;
+      for (int i = 0; i < WAYS; i++) {
+        Entry<T> lEntry = entries.get(lBase + i);
+        if (lEntry != null && lEntry.matches(lHash, pChars, pStart, pEnd, pVersionLabel)) {
+          hits.increment();
+          if (i > 0) {
+            this.moveToFront(lBase, i, lEntry);
+          }
+          return lEntry.objectID;
+        }
+      }
+
+      // Create new objectID and add it as most recently used entry. The least recently used one gets lost.
+      misses.increment();
+      String lID = new String(pChars, pStart, pEnd - pStart);
+      lObjectID = pFactory.apply(lID, pVersionLabel);
+      this.moveToFront(lBase, WAYS - 1, new Entry<>(lHash, lID, pVersionLabel, lObjectID));
+    }
+    // Caching is disabled.
+    else {
+      misses.increment();
+      lObjectID = pFactory.apply(new String(pChars, pStart, pEnd - pStart), pVersionLabel);
+    }
+    return lObjectID;
+  }
+
+  /**
+   * Method returns the current number of entries inside the cache.
+   *
+   * @return int Number of cached entries.
+   */
+  public int size( ) {
+    int lSize = 0;
+    for (int i = 0; i < entries.length(); i++) {
+      if (entries.get(i) != null) {
+        lSize++;
+      }
+    }
+    return lSize;
+  }
+
+  /**
+   * Method returns the maximum number of entries inside the cache.
+   *
+   * @return int Maximum number of entries. 0 means that caching is disabled.
+   */
+  public int getMaxSize( ) {
+    return entries.length();
+  }
+
+  /**
+   * Method returns the number of lookups that could be served from the cache.
+   *
+   * @return long Number of cache hits.
+   */
+  public long getHits( ) {
+    return hits.sum();
+  }
+
+  /**
+   * Method returns the number of lookups that required to create a new objectID.
+   *
+   * @return long Number of cache misses.
+   */
+  public long getMisses( ) {
+    return misses.sum();
+  }
+
+  /**
+   * Method returns the ratio of cache hits compared to all lookups.
+   *
+   * @return double Hit ratio between 0 and 1. If there were no lookups yet then 0 is returned.
+   */
+  public double getHitRatio( ) {
+    long lHits = hits.sum();
+    long lLookups = lHits + misses.sum();
+    double lHitRatio;
+    if (lLookups > 0) {
+      lHitRatio = (double) lHits / lLookups;
+    }
+    else {
+      lHitRatio = 0;
+    }
+    return lHitRatio;
+  }
+
+  /**
+   * Method removes all entries from the cache and resets its statistics.
+   */
+  public void clear( ) {
+    for (int i = 0; i < entries.length(); i++) {
+      entries.set(i, null);
+    }
+    hits.reset();
+    misses.reset();
+  }
+
+  @Override
+  public String toString( ) {
+    return "hits=" + hits.sum() + ", misses=" + misses.sum() + ", size=" + this.size() + ", maxSize="
+        + this.getMaxSize();
+  }
+
+  /**
+   * Method moves the entry at the passed position of a set to its front. All entries in front of it are moved back by
+   * one position.
+   *
+   * @param pBase Index of the first entry of the set.
+   * @param pPosition Position of the entry within the set.
+   * @param pEntry Entry that should become the most recently used one. The parameter must not be null.
+   */
+  private void moveToFront(int pBase, int pPosition, Entry<T> pEntry) {
+    for (int i = pPosition; i > 0; i--) {
+      entries.lazySet(pBase + i, entries.get(pBase + i - 1));
+    }
+    entries.lazySet(pBase, pEntry);
+  }
+
+  /**
+   * Method calculates the hash code of the passed serialized objectID.
+   *
+   * @param pChars Characters containing the objectID. The parameter must not be null.
+   * @param pStart Start of the objectID (inclusive).
+   * @param pEnd End of the objectID (exclusive).
+   * @param pVersionLabel Version label of the objectID. The parameter may be null.
+   * @return int Hash code of the objectID.
+   */
+  private static int hash(char[] pChars, int pStart, int pEnd, Integer pVersionLabel) {
+    int lHash = 0;
+    for (int i = pStart; i < pEnd; i++) {
+      lHash = 31 * lHash + pChars[i];
+    }
+    lHash = 31 * lHash + Objects.hashCode(pVersionLabel);
+
+    // Spread higher bits as only the lower bits are used to select the set.
+    return lHash ^ (lHash >>> 16);
+  }
+
+  /**
+   * Class represents one cached objectID together with its serialized form.
+   */
+  private static final class Entry<T> {
+    private final int hash;
+
+    private final String id;
+
+    private final Integer versionLabel;
+
+    private final T objectID;
+
+    Entry( int pHash, String pID, Integer pVersionLabel, T pObjectID ) {
+      hash = pHash;
+      id = pID;
+      versionLabel = pVersionLabel;
+      objectID = pObjectID;
+    }
+
+    /**
+     * Method checks if this entry belongs to the passed serialized objectID.
+     */
+    boolean matches(int pHash, char[] pChars, int pStart, int pEnd, Integer pVersionLabel) {
+      boolean lMatches;
+      if (hash == pHash && id.length() == pEnd - pStart && Objects.equals(versionLabel, pVersionLabel)) {
+        lMatches = true;
+        for (int i = 0; i < id.length(); i++) {
+          if (id.charAt(i) != pChars[pStart + i]) {
+            lMatches = false;
+            break;
+          }
+        }
+      }
+      else {
+        lMatches = false;
+      }
+      return lMatches;
+    }
+  }
+}
@@ -13,6 +13,37 @@ import com.anaptecs.jeaf.xfun.api.common.ObjectID;
  * @author JEAF Development Team
  */
 public class ObjectIDDeserializer extends AbstractObjectIDDeserializer<ObjectID> {
+  /**
+   * Cache that is shared by all deserializers that are created using the default constructor. Its size is defined by
+   * system property {@link ObjectIDCache#CACHE_SIZE_PROPERTY}.
+   */
+  private static final ObjectIDCache<ObjectID> SHARED_CACHE = new ObjectIDCache<>(ObjectIDCache.getConfiguredSize());
+
+  /**
+   * Initialize object. The deserializer uses the shared cache.
+   */
+  public ObjectIDDeserializer( ) {
+    this(SHARED_CACHE);
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pCache Cache that should be used to share objectIDs. The parameter may be null if no cache should be used.
+   */
+  public ObjectIDDeserializer( ObjectIDCache<ObjectID> pCache ) {
+    super(pCache);
+  }
+
+  /**
+   * Method returns the cache that is shared by all deserializers that are created using the default constructor.
+   *
+   * @return {@link ObjectIDCache} Shared cache. The method never returns null.
+   */
+  public static ObjectIDCache<ObjectID> getSharedCache( ) {
+    return SHARED_CACHE;
+  }
+
   /**
    * The only thing that needs to be done by this class is to create a {@link ObjectID}. all the rest is implemented by
    * the base class.
@@ -13,6 +13,38 @@ import com.anaptecs.jeaf.core.api.ServiceObjectID;
  * @author JEAF Development Team
  */
 public class ServiceObjectIDDeserializer extends AbstractObjectIDDeserializer<ServiceObjectID> {
+  /**
+   * Cache that is shared by all deserializers that are created using the default constructor. Its size is defined by
+   * system property {@link ObjectIDCache#CACHE_SIZE_PROPERTY}.
+   */
+  private static final ObjectIDCache<ServiceObjectID> SHARED_CACHE =
+      new ObjectIDCache<>(ObjectIDCache.getConfiguredSize());
+
+  /**
+   * Initialize object. The deserializer uses the shared cache.
+   */
+  public ServiceObjectIDDeserializer( ) {
+    this(SHARED_CACHE);
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pCache Cache that should be used to share objectIDs. The parameter may be null if no cache should be used.
+   */
+  public ServiceObjectIDDeserializer( ObjectIDCache<ServiceObjectID> pCache ) {
+    super(pCache);
+  }
+
+  /**
+   * Method returns the cache that is shared by all deserializers that are created using the default constructor.
+   *
+   * @return {@link ObjectIDCache} Shared cache. The method never returns null.
+   */
+  public static ObjectIDCache<ServiceObjectID> getSharedCache( ) {
+    return SHARED_CACHE;
+  }
+
   /**
    * The only thing that needs to be done by this class is to create a {@link ServiceObjectID}. all the rest is
    * implemented by the base class.
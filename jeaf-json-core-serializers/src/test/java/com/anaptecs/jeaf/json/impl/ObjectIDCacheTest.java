@@ -0,0 +1,101 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import com.anaptecs.jeaf.core.api.ServiceObjectID;
+import com.anaptecs.jeaf.json.impl.serializers.core.ObjectIDCache;
+import com.anaptecs.jeaf.json.impl.serializers.core.ObjectIDDeserializer;
+import com.anaptecs.jeaf.json.impl.serializers.core.ServiceObjectIDDeserializer;
+import com.anaptecs.jeaf.xfun.api.common.ObjectID;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.module.SimpleModule;
+
+class ObjectIDCacheTest {
+  @Test
+  void testSharedObjectIDs( ) {
+    ObjectIDCache<ObjectID> lCache = new ObjectIDCache<>(100);
+    assertEquals(128, lCache.getMaxSize());
+    SimpleModule lModule = new SimpleModule();
+    lModule.addDeserializer(ObjectID.class, new ObjectIDDeserializer(lCache));
+    ObjectMapper lObjectMapper = JsonMapper.builder().addModule(lModule).build();
+
+    List<ObjectID> lObjectIDs = lObjectMapper.readValue("[\"A|1\",\"A|1\",\"A|2\",\"A\",\"A|1\",\"A\"]",
+        new TypeReference<List<ObjectID>>() {
+        });
+    assertEquals(new ObjectID("A", 1), lObjectIDs.get(0));
+    assertSame(lObjectIDs.get(0), lObjectIDs.get(1));
+    assertSame(lObjectIDs.get(0), lObjectIDs.get(4));
+    assertNotSame(lObjectIDs.get(0), lObjectIDs.get(2));
+    assertEquals(2, lObjectIDs.get(2).getVersionLabel());
+    assertNull(lObjectIDs.get(3).getVersionLabel());
+    assertSame(lObjectIDs.get(3), lObjectIDs.get(5));
+
+    // Instances are also shared across documents.
+    assertSame(lObjectIDs.get(0), lObjectMapper.readValue("\"A|1\"", ObjectID.class));
+
+    assertEquals(3, lCache.size());
+    assertEquals(4, lCache.getHits());
+    assertEquals(3, lCache.getMisses());
+    assertEquals(4.0 / 7, lCache.getHitRatio(), 0.0001);
+
+    lCache.clear();
+    assertEquals(0, lCache.size());
+    assertEquals(0, lCache.getHitRatio());
+  }
+
+  @Test
+  void testBoundedSize( ) {
+    ObjectIDCache<ServiceObjectID> lCache = new ObjectIDCache<>(8);
+    SimpleModule lModule = new SimpleModule();
+    lModule.addDeserializer(ServiceObjectID.class, new ServiceObjectIDDeserializer(lCache));
+    ObjectMapper lObjectMapper = JsonMapper.builder().addModule(lModule).build();
+
+    for (int i = 0; i < 1000; i++) {
+      ServiceObjectID lObjectID = lObjectMapper.readValue("\"ID-" + i + "|" + i + "\"", ServiceObjectID.class);
+      assertEquals("ID-" + i, lObjectID.getObjectID());
+      assertEquals(i, lObjectID.getVersionLabel());
+    }
+    assertEquals(8, lCache.getMaxSize());
+    assertEquals(8, lCache.size());
+    assertEquals(1000, lCache.getMisses());
+
+    // Most recently used entries survive.
+    ServiceObjectID lObjectID = lObjectMapper.readValue("\"ID-1|1\"", ServiceObjectID.class);
+    assertSame(lObjectID, lObjectMapper.readValue("\"ID-1|1\"", ServiceObjectID.class));
+  }
+
+  @Test
+  void testDisabledCache( ) {
+    ObjectIDCache<ObjectID> lCache = new ObjectIDCache<>(0);
+    assertEquals(ObjectIDCache.DEFAULT_CACHE_SIZE, ObjectIDCache.getConfiguredSize());
+    ObjectIDDeserializer lDeserializer = new ObjectIDDeserializer(lCache);
+    assertNull(lDeserializer.getCache());
+    SimpleModule lModule = new SimpleModule();
+    lModule.addDeserializer(ObjectID.class, lDeserializer);
+    ObjectMapper lObjectMapper = JsonMapper.builder().addModule(lModule).build();
+
+    ObjectID lObjectID = lObjectMapper.readValue("\"A|1\"", ObjectID.class);
+    assertEquals(new ObjectID("A", 1), lObjectID);
+    assertNotSame(lObjectID, lObjectMapper.readValue("\"A|1\"", ObjectID.class));
+    assertEquals(0, lCache.getMaxSize());
+    assertEquals(0, lCache.size());
+
+    // Disabled caches are not used at all.
+    assertEquals(0, lCache.getMisses());
+    assertEquals(0, ObjectIDDeserializer.getSharedCache().getMisses());
+    assertNull(new ObjectIDDeserializer().getCache());
+  }
+}
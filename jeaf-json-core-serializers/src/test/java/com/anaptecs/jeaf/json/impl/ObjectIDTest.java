@@ -7,6 +7,7 @@ package com.anaptecs.jeaf.json.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -59,6 +60,39 @@ class ObjectIDTest {
     }
   }
 
+  @Test
+  void testObjectIDFormats( ) {
+    ObjectMapper lObjectMapper = JSONTools.getJSONTools().getDefaultObjectMapper();
+
+    // Trailing delimiters are ignored.
+    ObjectID lObjectID = lObjectMapper.readValue("\"ABC|-17||\"", ObjectID.class);
+    assertEquals("ABC", lObjectID.getObjectID());
+    assertEquals(-17, lObjectID.getVersionLabel());
+
+    // Without exactly one delimiter the complete string is the objectID.
+    lObjectID = lObjectMapper.readValue("\"ABC|\"", ObjectID.class);
+    assertEquals("ABC|", lObjectID.getObjectID());
+    assertEquals(null, lObjectID.getVersionLabel());
+    lObjectID = lObjectMapper.readValue("\"A|B|1\"", ObjectID.class);
+    assertEquals("A|B|1", lObjectID.getObjectID());
+    assertEquals(null, lObjectID.getVersionLabel());
+
+    // Negative and extreme version labels are written and read again.
+    for (int lVersionLabel : new int[] { 0, 9, 10, -1, Integer.MAX_VALUE, Integer.MIN_VALUE }) {
+      String lJSON = lObjectMapper.writeValueAsString(new ObjectID("ABC", lVersionLabel));
+      assertEquals("\"ABC|" + lVersionLabel + "\"", lJSON);
+      assertEquals(lVersionLabel, lObjectMapper.readValue(lJSON, ObjectID.class).getVersionLabel());
+    }
+    assertEquals("\"" + "X".repeat(100) + "|1\"", lObjectMapper.writeValueAsString(new ObjectID("X".repeat(100), 1)));
+
+    // Version labels have to be valid int values.
+    lObjectID = lObjectMapper.readValue("\"ABC|2147483647\"", ObjectID.class);
+    assertEquals(Integer.MAX_VALUE, lObjectID.getVersionLabel());
+    assertThrows(NumberFormatException.class, () -> lObjectMapper.readValue("\"ABC|2147483648\"", ObjectID.class));
+    assertThrows(NumberFormatException.class, () -> lObjectMapper.readValue("\"ABC|1a\"", ObjectID.class));
+    assertThrows(NumberFormatException.class, () -> lObjectMapper.readValue("\"ABC|-\"", ObjectID.class));
+  }
+
   @Test
   void testObjectSerialization( ) {
     BookWithObjectID lBook = new BookWithObjectID();
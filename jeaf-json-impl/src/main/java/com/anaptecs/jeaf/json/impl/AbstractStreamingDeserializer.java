@@ -0,0 +1,299 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.anaptecs.jeaf.tools.api.date.DateTools;
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.sym.BinaryNameMatcher;
+import tools.jackson.core.sym.PropertyNameMatcher;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.deser.std.StdDeserializer;
+import tools.jackson.databind.exc.MismatchedInputException;
+
+/**
+ * Class implements a base class for JSON deserializers that consume the tokens of the parser directly. In contrast to
+ * {@link AbstractDeserializer} no intermediate tree is created.
+ *
+ * Subclasses declare the fields they support once using a {@link FieldTable}. It is compiled into a name matcher so
+ * that property names are dispatched to their reader without any string based lookups. The values of the fields are
+ * collected in a state object that is created per deserialized value and finally converted into the real object.
+ * Unknown fields are skipped.
+ *
+ * @param <T> Type of the objects that are created.
+ * @param <S> Type of the state object that collects the values of the fields.
+ * @author JEAF Development Team
+ */
+public abstract class AbstractStreamingDeserializer<T, S> extends StdDeserializer<T> {
+  /**
+   * Matcher that resolves property names to the index of their reader.
+   */
+  private final PropertyNameMatcher matcher;
+
+  /**
+   * Readers of all declared fields in the same order as the names of the matcher.
+   */
+  private final FieldReader<? super S>[] readers;
+
+  /**
+   * Initialize object.
+   *
+   * @param pType Type that is handled by the deserializer. The parameter must not be null.
+   * @param pFields Fields that are supported by the deserializer. The parameter must not be null.
+   */
+  @SuppressWarnings("unchecked")
+  protected AbstractStreamingDeserializer( Class<?> pType, FieldTable<? super S> pFields ) {
+    super(pType);
+
+    // Check parameters
+    Check.checkInvalidParameterNull(pFields, "pFields");
+
+    matcher = BinaryNameMatcher.construct(new ArrayList<>(pFields.names));
+    readers = pFields.readers.toArray(new FieldReader[pFields.readers.size()]);
+  }
+
+  /**
+   * Method creates a new state object that collects the values of the fields of one JSON object.
+   *
+   * @return S Created state object. The method must not return null.
+   */
+  protected abstract S createState( );
+
+  /**
+   * Method creates the real object out of the collected field values.
+   *
+   * @param pState State object containing the values of all fields that were present in JSON. The parameter is never
+   * null.
+   * @return T Real object that was created. The method may return null.
+   */
+  protected abstract T createObject(S pState);
+
+  /**
+   * Method reads the fields of the current JSON object and creates the matching real object.
+   *
+   * @param pParser JSON parser. The parameter must not be null.
+   * @param pContext Context information. The parameter may be null. In this case unexpected tokens are reported using a
+   * {@link MismatchedInputException} instead of the problem handlers of the context.
+   */
+  @Override
+  public final T deserialize(JsonParser pParser, DeserializationContext pContext) {
+    // Check parameters
+    Check.checkInvalidParameterNull(pParser, "pParser");
+
+    // Parsers that were not yet used have to be moved to the first token.
+    JsonToken lToken = pParser.currentToken();
+    if (lToken == null) {
+      lToken = pParser.nextToken();
+    }
+
+    T lObject;
+    if (lToken != null && lToken != JsonToken.VALUE_NULL) {
+      int lMatch;
+      if (lToken == JsonToken.START_OBJECT) {
+        lMatch = pParser.nextNameMatch(matcher);
+      }
+      else if (lToken == JsonToken.PROPERTY_NAME) {
+        lMatch = pParser.currentNameMatch(matcher);
+      }
+      else {
+        lMatch = PropertyNameMatcher.MATCH_ODD_TOKEN;
+      }
+
+      S lState = this.createState();
+      while (lMatch != PropertyNameMatcher.MATCH_END_OBJECT) {
+        if (lMatch == PropertyNameMatcher.MATCH_ODD_TOKEN) {
+          // Without context the problem can only be reported directly.
+          if (pContext == null) {
+            throw MismatchedInputException.from(pParser, this.handledType(),
+                "Unexpected token (" + pParser.currentToken() + ") when deserializing "
+                    + this.handledType().getName());
+          }
+          @SuppressWarnings("unchecked")
+          T lResult = (T) pContext.handleUnexpectedToken(this.handledType(), pParser);
+          return lResult;
+        }
+
+        // Move to value and let the field reader consume it. Values of unknown fields are skipped completely.
+        pParser.nextToken();
+        if (lMatch >= 0) {
+          readers[lMatch].read(pParser, pContext, lState);
+        }
+        else {
+          pParser.skipChildren();
+        }
+        lMatch = pParser.nextNameMatch(matcher);
+      }
+      lObject = this.createObject(lState);
+    }
+    else {
+      lObject = null;
+    }
+    return lObject;
+  }
+
+  /**
+   * Method returns the current value as {@link String}.
+   *
+   * @param pParser Parser that is positioned on the value. The parameter must not be null.
+   * @param pDefaultValue Default value that should be used in case that the value is null. The parameter may be null.
+   * @return {@link String} Current value or its default value.
+   */
+  protected static String getStringValue(JsonParser pParser, String pDefaultValue) {
+    JsonToken lToken = pParser.currentToken();
+    String lValue;
+    if (lToken != null && lToken.isScalarValue() && lToken != JsonToken.VALUE_NULL) {
+      lValue = pParser.getString();
+    }
+    else {
+      pParser.skipChildren();
+      lValue = pDefaultValue;
+    }
+    return lValue;
+  }
+
+  /**
+   * Method returns the current value as int. Besides JSON numbers also strings containing a number are supported.
+   *
+   * @param pParser Parser that is positioned on the value. The parameter must not be null.
+   * @param pDefaultValue Default value that should be used in case that the value is null.
+   * @return int Current value or its default value.
+   */
+  protected static int getIntegerValue(JsonParser pParser, int pDefaultValue) {
+    int lValue;
+    if (pParser.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+      lValue = pParser.getIntValue();
+    }
+    else {
+      String lString = getStringValue(pParser, null);
+      if (lString != null) {
+        lValue = Integer.parseInt(lString);
+      }
+      else {
+        lValue = pDefaultValue;
+      }
+    }
+    return lValue;
+  }
+
+  /**
+   * Method returns the current value as boolean. Besides JSON booleans also strings and numbers are supported.
+   *
+   * @param pParser Parser that is positioned on the value. The parameter must not be null.
+   * @param pDefaultValue Default value that should be used in case that the value is null.
+   * @return boolean Current value or its default value.
+   */
+  protected static boolean getBooleanValue(JsonParser pParser, boolean pDefaultValue) {
+    JsonToken lToken = pParser.currentToken();
+    boolean lValue;
+    if (lToken == JsonToken.VALUE_TRUE || lToken == JsonToken.VALUE_FALSE) {
+      lValue = lToken == JsonToken.VALUE_TRUE;
+    }
+    else if (lToken == JsonToken.VALUE_STRING) {
+      lValue = Boolean.parseBoolean(pParser.getString().trim());
+    }
+    else if (lToken == JsonToken.VALUE_NUMBER_INT) {
+      lValue = pParser.getIntValue() != 0;
+    }
+    else {
+      pParser.skipChildren();
+      lValue = pDefaultValue;
+    }
+    return lValue;
+  }
+
+  /**
+   * Method returns the current value as {@link Date}. The value has to be formatted as defined by {@link DateTools}.
+   *
+   * @param pParser Parser that is positioned on the value. The parameter must not be null.
+   * @param pDefaultValue Default value that should be used in case that the value is null. The parameter may be null.
+   * @return {@link Date} Current value or its default value.
+   */
+  protected static Date getDateValue(JsonParser pParser, Date pDefaultValue) {
+    String lString = getStringValue(pParser, null);
+    Date lValue;
+    if (lString != null) {
+      lValue = DateTools.getDateTools().toDate(lString, false);
+    }
+    else {
+      lValue = pDefaultValue;
+    }
+    return lValue;
+  }
+
+  /**
+   * Method reads the current value using the passed deserializer.
+   *
+   * @param pParser Parser that is positioned on the value. The parameter must not be null.
+   * @param pContext Context information. The parameter may be null.
+   * @param pDeserializer Deserializer for the value. The parameter must not be null.
+   * @param pDefaultValue Default value that should be used in case that the value is null. The parameter may be null.
+   * @return V Deserialized value or its default value.
+   */
+  protected static <V> V getObjectValue(JsonParser pParser, DeserializationContext pContext,
+      ValueDeserializer<V> pDeserializer, V pDefaultValue) {
+    V lValue;
+    if (pParser.currentToken() != JsonToken.VALUE_NULL) {
+      lValue = pDeserializer.deserialize(pParser, pContext);
+    }
+    else {
+      lValue = pDefaultValue;
+    }
+    return lValue;
+  }
+
+  /**
+   * Interface is implemented by all readers of single fields. A reader is called when the parser is positioned on the
+   * value of its field and has to consume the complete value.
+   *
+   * @param <S> Type of the state object that collects the values of the fields.
+   */
+  @FunctionalInterface
+  public interface FieldReader<S> {
+    /**
+     * Method reads the current value and stores it in the passed state object.
+     *
+     * @param pParser Parser that is positioned on the value of the field. The parameter is never null.
+     * @param pContext Context information. The parameter may be null.
+     * @param pState State object in which the value should be stored. The parameter is never null.
+     */
+    void read(JsonParser pParser, DeserializationContext pContext, S pState);
+  }
+
+  /**
+   * Class is used to declare all fields that are supported by a deserializer together with their readers. Tables are
+   * only used during construction of a deserializer and are intended to be defined once per deserializer class.
+   *
+   * @param <S> Type of the state object that collects the values of the fields.
+   */
+  public static final class FieldTable<S> {
+    private final List<String> names = new ArrayList<>();
+
+    private final List<FieldReader<? super S>> readers = new ArrayList<>();
+
+    /**
+     * Method adds the field with the passed name.
+     *
+     * @param pName JSON name of the field. The parameter must not be null and has to be unique within the table.
+     * @param pReader Reader for the value of the field. The parameter must not be null.
+     * @return {@link FieldTable} This table so that calls can be chained. The method never returns null.
+     */
+    public FieldTable<S> add(String pName, FieldReader<? super S> pReader) {
+      // Check parameters
+      Check.checkInvalidParameterNull(pName, "pName");
+      Check.checkInvalidParameterNull(pReader, "pReader");
+
+      names.add(pName);
+      readers.add(pReader);
+      return this;
+    }
+  }
+}
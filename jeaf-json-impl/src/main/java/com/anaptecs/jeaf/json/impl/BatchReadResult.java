@@ -0,0 +1,116 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
+
+/**
+ * Class represents the result of a batch deserialization. Results are in the same order as the payloads of the batch.
+ * As payloads are deserialized independently, failures are reported per payload.
+ *
+ * @author JEAF Development Team
+ */
+public final class BatchReadResult<T> {
+  /**
+   * Deserialized objects. Entries of failed payloads are null.
+   */
+  private final List<T> values;
+
+  /**
+   * Failures per payload. Entries of successfully deserialized payloads are null.
+   */
+  private final JEAFSystemException[] failures;
+
+  /**
+   * Initialize object.
+   *
+   * @param pValues Deserialized objects. The parameter must not be null.
+   * @param pFailures Failures per payload. The parameter must not be null.
+   */
+  @SuppressWarnings("unchecked")
+  BatchReadResult( Object[] pValues, JEAFSystemException[] pFailures ) {
+    values = Collections.unmodifiableList((List<T>) Arrays.asList(pValues));
+    failures = pFailures;
+  }
+
+  /**
+   * Method returns the number of payloads of the batch.
+   *
+   * @return int Number of payloads.
+   */
+  public int size( ) {
+    return values.size();
+  }
+
+  /**
+   * Method returns all deserialized objects in the order of the payloads. Entries of payloads that could not be
+   * deserialized are null.
+   *
+   * @return {@link List} Unmodifiable list of all deserialized objects. The method never returns null.
+   */
+  public List<T> getValues( ) {
+    return values;
+  }
+
+  /**
+   * Method returns the deserialized object of the payload with the passed index.
+   *
+   * @param pIndex Index of the payload.
+   * @return T Deserialized object. The method returns null if null was serialized or if deserialization failed.
+   */
+  public T getValue(int pIndex) {
+    return values.get(pIndex);
+  }
+
+  /**
+   * Method checks if deserialization of the payload with the passed index failed.
+   *
+   * @param pIndex Index of the payload.
+   * @return boolean Method returns true if deserialization failed and false otherwise.
+   */
+  public boolean isFailed(int pIndex) {
+    return failures[pIndex] != null;
+  }
+
+  /**
+   * Method returns the exception that occurred during deserialization of the payload with the passed index.
+   *
+   * @param pIndex Index of the payload.
+   * @return {@link JEAFSystemException} Exception that occurred or null if the payload was deserialized successfully.
+   */
+  public JEAFSystemException getFailure(int pIndex) {
+    return failures[pIndex];
+  }
+
+  /**
+   * Method checks if deserialization of at least one payload failed.
+   *
+   * @return boolean Method returns true if there is at least one failure and false otherwise.
+   */
+  public boolean hasFailures( ) {
+    return this.getFailedIndexes().isEmpty() == false;
+  }
+
+  /**
+   * Method returns the indexes of all payloads whose deserialization failed.
+   *
+   * @return {@link List} Indexes of all failed payloads in ascending order. The method never returns null.
+   */
+  public List<Integer> getFailedIndexes( ) {
+    List<Integer> lFailedIndexes = new ArrayList<>();
+    for (int i = 0; i < failures.length; i++) {
+      if (failures[i] != null) {
+        lFailedIndexes.add(i);
+      }
+    }
+    return lFailedIndexes;
+  }
+}
@@ -0,0 +1,130 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+
+/**
+ * Class implements a simple thread-safe cache with an upper bound for the number of entries. Entries are created on
+ * demand. If the cache is full an arbitrary entry will be removed. This is sufficient as the cache is intended to hold
+ * objects whose number is usually small and stable (e.g. readers and writers per type).
+ *
+ * @author JEAF Development Team
+ */
+public final class BoundedCache<K, V> {
+  /**
+   * Map contains all cached entries.
+   */
+  private final ConcurrentHashMap<K, V> entries;
+
+  /**
+   * Maximum number of entries inside the cache.
+   */
+  private final int maxSize;
+
+  /**
+   * Number of lookups that could be served from the cache.
+   */
+  private final LongAdder hits = new LongAdder();
+
+  /**
+   * Number of lookups that required to create a new value.
+   */
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Initialize object.
+   *
+   * @param pMaxSize Maximum number of entries inside the cache. The value must be zero or greater. 0 means that caching
+   * is disabled.
+   */
+  public BoundedCache( int pMaxSize ) {
+    Check.checkIsZeroOrGreater(pMaxSize, "pMaxSize");
+    entries = new ConcurrentHashMap<>();
+    maxSize = pMaxSize;
+  }
+
+  /**
+   * Method returns the cached value for the passed key. If there is no entry yet then it will be created using the
+   * passed factory.
+   *
+   * @param pKey Key of the entry. The parameter must not be null.
+   * @param pFactory Function that is used to create the value if it is not yet cached. The parameter must not be null.
+   * The function must not return null.
+   * @return V Cached or newly created value. The method never returns null.
+   */
+  public V get(K pKey, Function<? super K, ? extends V> pFactory) {
+    V lValue = entries.get(pKey);
+    if (lValue != null) {
+      hits.increment();
+    }
+    else if (maxSize == 0) {
+      misses.increment();
+      lValue = pFactory.apply(pKey);
+    }
+    else {
+      misses.increment();
+
+      // Ensure that upper bound is respected.
+      if (entries.size() >= maxSize) {
+        Iterator<K> lIterator = entries.keySet().iterator();
+        if (lIterator.hasNext()) {
+          lIterator.next();
+          lIterator.remove();
+        }
+      }
+
+      // Creation of value is done outside of the map to avoid blocking of other keys during the creation.
+      V lNewValue = pFactory.apply(pKey);
+      lValue = entries.putIfAbsent(pKey, lNewValue);
+      if (lValue == null) {
+        lValue = lNewValue;
+      }
+    }
+    return lValue;
+  }
+
+  /**
+   * Method returns the current number of entries inside the cache.
+   *
+   * @return int Number of cached entries.
+   */
+  public int size( ) {
+    return entries.size();
+  }
+
+  /**
+   * Method returns the maximum number of entries inside the cache.
+   *
+   * @return int Maximum number of entries.
+   */
+  public int getMaxSize( ) {
+    return maxSize;
+  }
+
+  /**
+   * Method returns the current statistics of this cache.
+   *
+   * @return {@link CacheStatistics} Statistics of this cache. The method never returns null.
+   */
+  public CacheStatistics getStatistics( ) {
+    return new CacheStatistics(hits.sum(), misses.sum(), entries.size(), maxSize);
+  }
+
+  /**
+   * Method removes all entries from the cache and resets its statistics.
+   */
+  public void clear( ) {
+    entries.clear();
+    hits.reset();
+    misses.reset();
+  }
+}
@@ -0,0 +1,37 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Class extends {@link ByteArrayOutputStream} so that its content can be accessed as {@link ByteBuffer} without
+ * copying it into a new byte array.
+ *
+ * @author JEAF Development Team
+ */
+class ByteBufferOutputStream extends ByteArrayOutputStream {
+  /**
+   * Initialize object.
+   *
+   * @param pInitialSize Initial size of the internal buffer.
+   */
+  ByteBufferOutputStream( int pInitialSize ) {
+    super(pInitialSize);
+  }
+
+  /**
+   * Method returns a heap buffer that is backed by the internal buffer of this stream. The returned buffer is ready to
+   * be read.
+   *
+   * @return {@link ByteBuffer} Buffer containing all bytes that were written to this stream. The method never returns
+   * null.
+   */
+  ByteBuffer toByteBuffer( ) {
+    return ByteBuffer.wrap(buf, 0, count);
+  }
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Class implements a simple thread-safe pool of direct buffers of the same size. The pool only keeps a limited number
+ * of buffers. Buffers that are released when the pool is full are left to the garbage collector.
+ *
+ * @author JEAF Development Team
+ */
+final class ByteBufferPool {
+  /**
+   * Pooled buffers that are currently not in use.
+   */
+  private final ConcurrentLinkedQueue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Number of buffers inside the pool.
+   */
+  private final AtomicInteger pooledBuffers = new AtomicInteger();
+
+  /**
+   * Size of each buffer in bytes.
+   */
+  private final int bufferSize;
+
+  /**
+   * Maximum number of buffers that are kept in the pool.
+   */
+  private final int maxPooledBuffers;
+
+  /**
+   * Initialize object.
+   *
+   * @param pBufferSize Size of each buffer in bytes.
+   * @param pMaxPooledBuffers Maximum number of buffers that are kept in the pool.
+   */
+  ByteBufferPool( int pBufferSize, int pMaxPooledBuffers ) {
+    bufferSize = pBufferSize;
+    maxPooledBuffers = pMaxPooledBuffers;
+  }
+
+  /**
+   * Method returns a cleared buffer from the pool. If the pool is empty a new buffer will be created.
+   *
+   * @return {@link ByteBuffer} Buffer that can be used exclusively until it is released. The method never returns null.
+   */
+  ByteBuffer acquire( ) {
+    ByteBuffer lBuffer = buffers.poll();
+    if (lBuffer != null) {
+      pooledBuffers.decrementAndGet();
+    }
+    else {
+      lBuffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+    return lBuffer;
+  }
+
+  /**
+   * Method returns the passed buffer to the pool. The buffer must not be used afterwards any longer.
+   *
+   * @param pBuffer Buffer that should be released. The parameter must not be null.
+   */
+  void release(ByteBuffer pBuffer) {
+    if (pooledBuffers.incrementAndGet() <= maxPooledBuffers) {
+      pBuffer.clear();
+      buffers.offer(pBuffer);
+    }
+    else {
+      pooledBuffers.decrementAndGet();
+    }
+  }
+}
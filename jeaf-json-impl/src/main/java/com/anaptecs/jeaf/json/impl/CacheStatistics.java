@@ -0,0 +1,94 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl;
+
+/**
+ * Class represents a snapshot of the statistics of a {@link BoundedCache}.
+ *
+ * @author JEAF Development Team
+ */
+public final class CacheStatistics {
+  private final long hits;
+
+  private final long misses;
+
+  private final int size;
+
+  private final int maxSize;
+
+  /**
+   * Initialize object.
+   *
+   * @param pHits Number of lookups that could be served from the cache.
+   * @param pMisses Number of lookups that required to create a new entry.
+   * @param pSize Current number of entries.
+   * @param pMaxSize Maximum number of entries.
+   */
+  public CacheStatistics( long pHits, long pMisses, int pSize, int pMaxSize ) {
+    hits = pHits;
+    misses = pMisses;
+    size = pSize;
+    maxSize = pMaxSize;
+  }
+
+  /**
+   * Method returns the number of lookups that could be served from the cache.
+   *
+   * @return long Number of cache hits.
+   */
+  public long getHits( ) {
+    return hits;
+  }
+
+  /**
+   * Method returns the number of lookups that required to create a new entry.
+   *
+   * @return long Number of cache misses.
+   */
+  public long getMisses( ) {
+    return misses;
+  }
+
+  /**
+   * Method returns the ratio of cache hits compared to all lookups.
+   *
+   * @return double Hit ratio between 0 and 1. If there were no lookups yet then 0 is returned.
+   */
+  public double getHitRatio( ) {
+    long lLookups = hits + misses;
+    double lHitRatio;
+    if (lLookups > 0) {
+      lHitRatio = (double) hits / lLookups;
+    }
+    else {
+      lHitRatio = 0;
+    }
+    return lHitRatio;
+  }
+
+  /**
+   * Method returns the number of entries inside the cache at the time when the statistics were taken.
+   *
+   * @return int Number of entries.
+   */
+  public int getSize( ) {
+    return size;
+  }
+
+  /**
+   * Method returns the maximum number of entries of the cache.
+   *
+   * @return int Maximum number of entries.
+   */
+  public int getMaxSize( ) {
+    return maxSize;
+  }
+
+  @Override
+  public String toString( ) {
+    return "hits=" + hits + ", misses=" + misses + ", size=" + size + ", maxSize=" + maxSize;
+  }
+}
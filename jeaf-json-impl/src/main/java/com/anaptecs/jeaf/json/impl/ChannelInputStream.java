@@ -0,0 +1,59 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Class implements an input stream that reads directly from a channel into the buffer of the caller. In contrast to
+ * {@link java.nio.channels.Channels#newInputStream(ReadableByteChannel)} closing the stream does not close the channel.
+ *
+ * The stream is intended to be used with channels in blocking mode.
+ *
+ * @author JEAF Development Team
+ */
+final class ChannelInputStream extends InputStream {
+  private final ReadableByteChannel channel;
+
+  /**
+   * Initialize object.
+   *
+   * @param pChannel Channel from which data should be read. The parameter must not be null.
+   */
+  ChannelInputStream( ReadableByteChannel pChannel ) {
+    channel = pChannel;
+  }
+
+  @Override
+  public int read( ) throws IOException {
+    byte[] lByte = new byte[1];
+    int lRead = this.read(lByte, 0, 1);
+    return lRead == 1 ? lByte[0] & 0xFF : -1;
+  }
+
+  @Override
+  public int read(byte[] pBytes, int pOffset, int pLength) throws IOException {
+    int lRead;
+    if (pLength == 0) {
+      lRead = 0;
+    }
+    else {
+      lRead = channel.read(ByteBuffer.wrap(pBytes, pOffset, pLength));
+    }
+    return lRead;
+  }
+
+  /**
+   * Method does nothing as the channel is still owned by the caller.
+   */
+  @Override
+  public void close( ) {
+    // Nothing to do.
+  }
+}
@@ -0,0 +1,124 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Class implements an output stream that collects all written data in pooled buffers. On flush all buffers are written
+ * to the channel at once. If the channel supports it gathering writes are used. Closing the stream does not close the
+ * channel.
+ *
+ * The stream is intended to be used with channels in blocking mode.
+ *
+ * @author JEAF Development Team
+ */
+final class ChannelOutputStream extends OutputStream {
+  /**
+   * Maximum number of buffers that are collected before they are written to the channel.
+   */
+  private static final int MAX_PENDING_BUFFERS = 16;
+
+  private final WritableByteChannel channel;
+
+  private final ByteBufferPool pool;
+
+  /**
+   * Buffers that contain data that is not yet written to the channel.
+   */
+  private final ByteBuffer[] buffers = new ByteBuffer[MAX_PENDING_BUFFERS];
+
+  private int bufferCount;
+
+  /**
+   * Initialize object.
+   *
+   * @param pChannel Channel to which all data should be written. The parameter must not be null.
+   * @param pPool Pool from which buffers should be taken. The parameter must not be null.
+   */
+  ChannelOutputStream( WritableByteChannel pChannel, ByteBufferPool pPool ) {
+    channel = pChannel;
+    pool = pPool;
+  }
+
+  @Override
+  public void write(int pByte) throws IOException {
+    this.currentBuffer().put((byte) pByte);
+  }
+
+  @Override
+  public void write(byte[] pBytes, int pOffset, int pLength) throws IOException {
+    int lOffset = pOffset;
+    int lLength = pLength;
+    while (lLength > 0) {
+      ByteBuffer lBuffer = this.currentBuffer();
+      int lChunk = Math.min(lBuffer.remaining(), lLength);
+      lBuffer.put(pBytes, lOffset, lChunk);
+      lOffset += lChunk;
+      lLength -= lChunk;
+    }
+  }
+
+  /**
+   * Method writes all pending buffers to the channel and returns them to the pool.
+   */
+  @Override
+  public void flush( ) throws IOException {
+    if (bufferCount > 0) {
+      for (int i = 0; i < bufferCount; i++) {
+        buffers[i].flip();
+      }
+      if (channel instanceof GatheringByteChannel) {
+        GatheringByteChannel lChannel = (GatheringByteChannel) channel;
+        ByteBuffer lLast = buffers[bufferCount - 1];
+        while (lLast.hasRemaining()) {
+          lChannel.write(buffers, 0, bufferCount);
+        }
+      }
+      else {
+        for (int i = 0; i < bufferCount; i++) {
+          while (buffers[i].hasRemaining()) {
+            channel.write(buffers[i]);
+          }
+        }
+      }
+      this.release();
+    }
+  }
+
+  /**
+   * Method flushes all pending data. The underlying channel will not be closed.
+   */
+  @Override
+  public void close( ) throws IOException {
+    this.flush();
+  }
+
+  /**
+   * Method returns all buffers to the pool without writing them.
+   */
+  void release( ) {
+    for (int i = 0; i < bufferCount; i++) {
+      pool.release(buffers[i]);
+      buffers[i] = null;
+    }
+    bufferCount = 0;
+  }
+
+  private ByteBuffer currentBuffer( ) throws IOException {
+    if (bufferCount == 0 || buffers[bufferCount - 1].hasRemaining() == false) {
+      if (bufferCount == MAX_PENDING_BUFFERS) {
+        this.flush();
+      }
+      buffers[bufferCount++] = pool.acquire();
+    }
+    return buffers[bufferCount - 1];
+  }
+}
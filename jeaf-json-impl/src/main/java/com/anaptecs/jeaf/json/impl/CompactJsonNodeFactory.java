@@ -0,0 +1,101 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl;
+
+import tools.jackson.databind.node.IntNode;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.node.NumericNode;
+import tools.jackson.databind.node.ObjectNode;
+import tools.jackson.databind.node.StringNode;
+
+/**
+ * Class implements a node factory that creates trees with a small memory footprint. Object nodes store their
+ * properties in a {@link CompactObjectMap} instead of a {@link java.util.LinkedHashMap}. Nodes for small integers and
+ * short strings are immutable and therefore shared between all trees that are created by the same factory.
+ *
+ * Only object nodes that are created through {@link #objectNode()} are compact. This also applies to
+ * {@link ObjectNode#deepCopy()} and {@link ObjectNode#putObject(String)} as Jackson creates these nodes through the
+ * factory of the node. However object nodes that are created directly using <code>new ObjectNode(factory)</code> bypass
+ * the factory and are backed by a {@link java.util.LinkedHashMap}.
+ *
+ * The factory is thread-safe.
+ *
+ * @author JEAF Development Team
+ */
+public class CompactJsonNodeFactory extends JsonNodeFactory {
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Smallest int value whose node is shared.
+   */
+  private static final int MIN_SHARED_INT = -128;
+
+  /**
+   * Largest int value whose node is shared.
+   */
+  private static final int MAX_SHARED_INT = 1023;
+
+  /**
+   * Number of slots of the cache for string nodes. The value has to be a power of 2.
+   */
+  private static final int STRING_CACHE_SIZE = 1024;
+
+  /**
+   * Maximum length of strings whose nodes are shared.
+   */
+  private static final int MAX_SHARED_STRING_LENGTH = 32;
+
+  /**
+   * Shared nodes for all int values between {@link #MIN_SHARED_INT} and {@link #MAX_SHARED_INT}.
+   */
+  private static final IntNode[] INT_NODES = new IntNode[MAX_SHARED_INT - MIN_SHARED_INT + 1];
+
+  static {
+    for (int i = 0; i < INT_NODES.length; i++) {
+      INT_NODES[i] = IntNode.valueOf(MIN_SHARED_INT + i);
+    }
+  }
+
+  /**
+   * Cache for nodes of short strings. Slots are selected by the hash code of the string. If two strings use the same
+   * slot then the latest one replaces the other one. As string nodes are immutable, unsynchronized access is safe.
+   */
+  private final StringNode[] stringNodes = new StringNode[STRING_CACHE_SIZE];
+
+  @Override
+  public ObjectNode objectNode( ) {
+    return new ObjectNode(this, new CompactObjectMap());
+  }
+
+  @Override
+  public NumericNode numberNode(int pValue) {
+    NumericNode lNode;
+    if (pValue >= MIN_SHARED_INT && pValue <= MAX_SHARED_INT) {
+      lNode = INT_NODES[pValue - MIN_SHARED_INT];
+    }
+    else {
+      lNode = IntNode.valueOf(pValue);
+    }
+    return lNode;
+  }
+
+  @Override
+  public StringNode stringNode(String pText) {
+    StringNode lNode;
+    if (pText != null && pText.length() <= MAX_SHARED_STRING_LENGTH) {
+      int lSlot = pText.hashCode() & (STRING_CACHE_SIZE - 1);
+      lNode = stringNodes[lSlot];
+      if (lNode == null || lNode.stringValue().equals(pText) == false) {
+        lNode = StringNode.valueOf(pText);
+        stringNodes[lSlot] = lNode;
+      }
+    }
+    else {
+      lNode = StringNode.valueOf(pText);
+    }
+    return lNode;
+  }
+}
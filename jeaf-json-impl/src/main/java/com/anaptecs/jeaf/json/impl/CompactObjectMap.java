@@ -0,0 +1,327 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Class implements the map of the properties of an object node with low memory overhead. Small objects store their
+ * properties in one flat array of alternating names and values. Lookups are done by a linear scan which is faster than
+ * hashing for the typical number of properties. Objects with more than {@link #MAX_COMPACT_SIZE} properties switch to
+ * a {@link LinkedHashMap}. The order of the properties is always preserved.
+ *
+ * The map is not thread-safe, just like the map that is used by Jackson itself.
+ *
+ * @author JEAF Development Team
+ */
+final class CompactObjectMap extends AbstractMap<String, JsonNode> {
+  /**
+   * Initial number of properties for which space is reserved.
+   */
+  private static final int INITIAL_CAPACITY = 4;
+
+  /**
+   * Maximum number of properties that are stored in the flat array.
+   */
+  static final int MAX_COMPACT_SIZE = 16;
+
+  /**
+   * Names and values of all properties. Names are stored at even and values at odd indexes.
+   */
+  private Object[] entries;
+
+  private int size;
+
+  /**
+   * Map that is used instead of the flat array once the object becomes too large.
+   */
+  private Map<String, JsonNode> overflow;
+
+  /**
+   * Number of structural changes. It is used to detect concurrent modifications during iterations.
+   */
+  private int modCount;
+
+  /**
+   * Initialize object.
+   */
+  CompactObjectMap( ) {
+    entries = new Object[INITIAL_CAPACITY * 2];
+  }
+
+  @Override
+  public int size( ) {
+    int lSize;
+    if (overflow == null) {
+      lSize = size;
+    }
+    else {
+      lSize = overflow.size();
+    }
+    return lSize;
+  }
+
+  @Override
+  public boolean containsKey(Object pKey) {
+    boolean lContained;
+    if (overflow == null) {
+      lContained = this.indexOf(pKey) >= 0;
+    }
+    else {
+      lContained = overflow.containsKey(pKey);
+    }
+    return lContained;
+  }
+
+  @Override
+  public JsonNode get(Object pKey) {
+    JsonNode lValue;
+    if (overflow == null) {
+      int lIndex = this.indexOf(pKey);
+      if (lIndex >= 0) {
+        lValue = (JsonNode) entries[lIndex + 1];
+      }
+      else {
+        lValue = null;
+      }
+    }
+    else {
+      lValue = overflow.get(pKey);
+    }
+    return lValue;
+  }
+
+  @Override
+  public JsonNode put(String pKey, JsonNode pValue) {
+    Objects.requireNonNull(pKey, "pKey");
+
+    JsonNode lOldValue;
+    if (overflow == null) {
+      int lIndex = this.indexOf(pKey);
+      if (lIndex >= 0) {
+        lOldValue = (JsonNode) entries[lIndex + 1];
+        entries[lIndex + 1] = pValue;
+      }
+      else {
+        lOldValue = null;
+        if (size < MAX_COMPACT_SIZE) {
+          int lSlot = size * 2;
+          if (lSlot == entries.length) {
+            entries = Arrays.copyOf(entries, Math.min(entries.length * 2, MAX_COMPACT_SIZE * 2));
+          }
+          entries[lSlot] = pKey;
+          entries[lSlot + 1] = pValue;
+          size++;
+        }
+        else {
+          overflow = new LinkedHashMap<>(this);
+          overflow.put(pKey, pValue);
+          entries = null;
+          size = 0;
+        }
+        modCount++;
+      }
+    }
+    else {
+      lOldValue = overflow.put(pKey, pValue);
+    }
+    return lOldValue;
+  }
+
+  @Override
+  public JsonNode remove(Object pKey) {
+    JsonNode lOldValue;
+    if (overflow == null) {
+      int lIndex = this.indexOf(pKey);
+      if (lIndex >= 0) {
+        lOldValue = (JsonNode) entries[lIndex + 1];
+        this.removeAt(lIndex);
+      }
+      else {
+        lOldValue = null;
+      }
+    }
+    else {
+      lOldValue = overflow.remove(pKey);
+    }
+    return lOldValue;
+  }
+
+  @Override
+  public void clear( ) {
+    if (overflow == null) {
+      Arrays.fill(entries, 0, size * 2, null);
+      size = 0;
+      modCount++;
+    }
+    else {
+      overflow.clear();
+    }
+  }
+
+  @Override
+  public Set<Entry<String, JsonNode>> entrySet( ) {
+    Set<Entry<String, JsonNode>> lEntries;
+    if (overflow == null) {
+      lEntries = new EntrySet();
+    }
+    else {
+      lEntries = overflow.entrySet();
+    }
+    return lEntries;
+  }
+
+  /**
+   * Method returns the index of the name of the passed property within the flat array.
+   *
+   * @param pKey Name of the property.
+   * @return int Index of the name or -1 if there is no property with the passed name.
+   */
+  private int indexOf(Object pKey) {
+    int lEnd = size * 2;
+    for (int i = 0; i < lEnd; i += 2) {
+      Object lKey = entries[i];
+      if (lKey == pKey || lKey.equals(pKey)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Method removes the property at the passed index of the flat array.
+   *
+   * @param pIndex Index of the name of the property.
+   */
+  private void removeAt(int pIndex) {
+    int lEnd = size * 2;
+    System.arraycopy(entries, pIndex + 2, entries, pIndex, lEnd - pIndex - 2);
+    entries[lEnd - 2] = null;
+    entries[lEnd - 1] = null;
+    size--;
+    modCount++;
+  }
+
+  /**
+   * View on the properties of the flat array.
+   */
+  private final class EntrySet extends AbstractSet<Entry<String, JsonNode>> {
+    @Override
+    public int size( ) {
+      return size;
+    }
+
+    @Override
+    public Iterator<Entry<String, JsonNode>> iterator( ) {
+      return new EntryIterator();
+    }
+  }
+
+  /**
+   * Iterator over the properties of the flat array.
+   */
+  private final class EntryIterator implements Iterator<Entry<String, JsonNode>> {
+    private int next;
+
+    private int last = -1;
+
+    private int expectedModCount = modCount;
+
+    @Override
+    public boolean hasNext( ) {
+      return next < size * 2;
+    }
+
+    @Override
+    public Entry<String, JsonNode> next( ) {
+      if (expectedModCount != modCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (next >= size * 2) {
+        throw new NoSuchElementException();
+      }
+      last = next;
+      next += 2;
+      return new IndexEntry(last);
+    }
+
+    @Override
+    public void remove( ) {
+      if (last < 0) {
+        throw new IllegalStateException();
+      }
+      if (expectedModCount != modCount) {
+        throw new ConcurrentModificationException();
+      }
+      CompactObjectMap.this.removeAt(last);
+      next = last;
+      last = -1;
+      expectedModCount = modCount;
+    }
+  }
+
+  /**
+   * Entry that directly reads and writes the flat array.
+   */
+  private final class IndexEntry implements Entry<String, JsonNode> {
+    private final int index;
+
+    IndexEntry( int pIndex ) {
+      index = pIndex;
+    }
+
+    @Override
+    public String getKey( ) {
+      return (String) entries[index];
+    }
+
+    @Override
+    public JsonNode getValue( ) {
+      return (JsonNode) entries[index + 1];
+    }
+
+    @Override
+    public JsonNode setValue(JsonNode pValue) {
+      JsonNode lOldValue = (JsonNode) entries[index + 1];
+      entries[index + 1] = pValue;
+      return lOldValue;
+    }
+
+    @Override
+    public boolean equals(Object pObject) {
+      boolean lEquals;
+      if (pObject instanceof Entry) {
+        Entry<?, ?> lOther = (Entry<?, ?>) pObject;
+        lEquals = Objects.equals(this.getKey(), lOther.getKey()) && Objects.equals(this.getValue(), lOther.getValue());
+      }
+      else {
+        lEquals = false;
+      }
+      return lEquals;
+    }
+
+    @Override
+    public int hashCode( ) {
+      return Objects.hashCode(this.getKey()) ^ Objects.hashCode(this.getValue());
+    }
+
+    @Override
+    public String toString( ) {
+      return this.getKey() + "=" + this.getValue();
+    }
+  }
+}
@@ -0,0 +1,43 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl;
+
+/**
+ * Class provides access to settings of JSON Tools that are defined using system properties.
+ *
+ * @author JEAF Development Team
+ */
+final class ConfigurationProperties {
+  /**
+   * Hide public constructor.
+   */
+  private ConfigurationProperties( ) {
+  }
+
+  /**
+   * Method returns the enumeration literal that is defined by the passed system property. Names of literals are
+   * compared ignoring case and surrounding whitespace.
+   *
+   * @param pPropertyName Name of the system property. The parameter must not be null.
+   * @param pDefaultValue Literal that is returned if the system property is not set or does not contain the name of a
+   * literal. The parameter must not be null.
+   * @param pEnumType Enumeration to which the literal belongs. The parameter must not be null.
+   * @return E Configured literal or the passed default value. The method never returns null.
+   */
+  static <E extends Enum<E>> E getEnumProperty(String pPropertyName, E pDefaultValue, Class<E> pEnumType) {
+    E lLiteral = pDefaultValue;
+    String lValue = System.getProperty(pPropertyName);
+    if (lValue != null) {
+      for (E lNext : pEnumType.getEnumConstants()) {
+        if (lNext.name().equalsIgnoreCase(lValue.trim())) {
+          lLiteral = lNext;
+          break;
+        }
+      }
+    }
+    return lLiteral;
+  }
+}
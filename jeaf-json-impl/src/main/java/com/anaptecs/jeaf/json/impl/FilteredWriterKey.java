@@ -0,0 +1,80 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl;
+
+/**
+ * Class is used as key of the cache for writers that only write some of the properties of an object. Keys consist of
+ * the type of the written object and either a view class or a {@link PropertySelection}.
+ *
+ * @author JEAF Development Team
+ */
+final class FilteredWriterKey {
+  /**
+   * Type of the written object.
+   */
+  private final Class<?> objectType;
+
+  /**
+   * View class or {@link PropertySelection}.
+   */
+  private final Object filter;
+
+  /**
+   * Hash code of the key. As keys are immutable it is calculated only once.
+   */
+  private final int hashCode;
+
+  /**
+   * Initialize object.
+   *
+   * @param pObjectType Type of the written object. The parameter must not be null.
+   * @param pFilter View class or {@link PropertySelection}. The parameter must not be null.
+   */
+  FilteredWriterKey( Class<?> pObjectType, Object pFilter ) {
+    objectType = pObjectType;
+    filter = pFilter;
+    hashCode = 31 * pObjectType.hashCode() + pFilter.hashCode();
+  }
+
+  /**
+   * Method returns the type of the written object.
+   *
+   * @return {@link Class} Type of the written object. The method never returns null.
+   */
+  Class<?> getObjectType( ) {
+    return objectType;
+  }
+
+  /**
+   * Method returns the filter of the key.
+   *
+   * @return {@link Object} View class or {@link PropertySelection}. The method never returns null.
+   */
+  Object getFilter( ) {
+    return filter;
+  }
+
+  @Override
+  public boolean equals(Object pObject) {
+    boolean lEquals;
+    if (pObject == this) {
+      lEquals = true;
+    }
+    else if (pObject instanceof FilteredWriterKey) {
+      FilteredWriterKey lOther = (FilteredWriterKey) pObject;
+      lEquals = objectType == lOther.objectType && filter.equals(lOther.filter);
+    }
+    else {
+      lEquals = false;
+    }
+    return lEquals;
+  }
+
+  @Override
+  public int hashCode( ) {
+    return hashCode;
+  }
+}
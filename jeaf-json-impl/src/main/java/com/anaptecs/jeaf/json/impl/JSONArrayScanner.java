@@ -0,0 +1,303 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * Class scans UTF-8 encoded JSON documents whose root is an array for the boundaries of the array elements. Scanning
+ * only tracks strings and nesting depth so that the elements can afterwards be deserialized independently of each
+ * other. Validation of the JSON content itself is left to the parser.
+ *
+ * The scanner processes the document incrementally. This way also documents that do not fit into one buffer, e.g. files
+ * of 2 GB or more, can be scanned through a window. All positions are absolute positions within the document.
+ *
+ * @author JEAF Development Team
+ */
+final class JSONArrayScanner {
+  /**
+   * Initial capacity for the element boundaries.
+   */
+  private static final int INITIAL_CAPACITY = 1024;
+
+  /**
+   * Size of the window that is used to scan files.
+   */
+  private static final int SCAN_WINDOW_SIZE = 1024 * 1024;
+
+  /**
+   * UTF-8 byte order mark.
+   */
+  private static final int[] BOM = new int[] { 0xEF, 0xBB, 0xBF };
+
+  /**
+   * Scanner waits for the opening bracket of the root array.
+   */
+  private static final int BEFORE_ARRAY = 0;
+
+  /**
+   * Scanner waits for the first element of the array or its closing bracket.
+   */
+  private static final int BEFORE_FIRST_ELEMENT = 1;
+
+  /**
+   * Scanner waits for an element after a separator.
+   */
+  private static final int BEFORE_ELEMENT = 2;
+
+  /**
+   * Scanner is inside an element.
+   */
+  private static final int IN_ELEMENT = 3;
+
+  /**
+   * Scanner is behind the closing bracket of the root array.
+   */
+  private static final int AFTER_ARRAY = 4;
+
+  /**
+   * Document is not an array or malformed.
+   */
+  private static final int INVALID = 5;
+
+  /**
+   * Current state of the scanner.
+   */
+  private int state = BEFORE_ARRAY;
+
+  /**
+   * Number of bytes of the byte order mark that were already found.
+   */
+  private int bomLength;
+
+  /**
+   * Nesting depth within the current element.
+   */
+  private int depth;
+
+  /**
+   * Attribute defines if the scanner is currently inside a string.
+   */
+  private boolean inString;
+
+  /**
+   * Attribute defines if the previous character inside a string was an unescaped backslash.
+   */
+  private boolean escaped;
+
+  /**
+   * Absolute start and end positions of all elements that were found so far.
+   */
+  private long[] boundaries = new long[INITIAL_CAPACITY];
+
+  /**
+   * Number of positions that were already added to {@link #boundaries}.
+   */
+  private int count;
+
+  /**
+   * Initialize object. Scanners are only used through the static methods of this class.
+   */
+  private JSONArrayScanner( ) {
+  }
+
+  /**
+   * Method scans the remaining content of the passed buffer for the boundaries of the elements of the root array. The
+   * position of the passed buffer is not changed.
+   *
+   * @param pBuffer Buffer containing the JSON document. The parameter must not be null.
+   * @return long[] Absolute start and end positions of all elements of the root array. Start of element <i>i</i> is
+   * located at index <code>2*i</code> and its end (exclusive) at index <code>2*i+1</code>. The method returns null if
+   * the root of the document is not an array or if the document is malformed. In this case the document has to be
+   * processed sequentially.
+   */
+  static long[] findElements(ByteBuffer pBuffer) {
+    JSONArrayScanner lScanner = new JSONArrayScanner();
+    lScanner.scan(pBuffer, pBuffer.position(), pBuffer.limit(), 0);
+    return lScanner.getElements();
+  }
+
+  /**
+   * Method scans the complete content of the passed file for the boundaries of the elements of the root array. The file
+   * is read through a window of fixed size so that files of any size can be scanned.
+   *
+   * @param pChannel Channel of the file containing the JSON document. The parameter must not be null.
+   * @return long[] Absolute start and end positions of all elements of the root array within the file. The method
+   * returns null if the root of the document is not an array or if the document is malformed.
+   * @throws IOException if the file can not be read.
+   * @see #findElements(ByteBuffer)
+   */
+  static long[] findElements(FileChannel pChannel) throws IOException {
+    JSONArrayScanner lScanner = new JSONArrayScanner();
+    ByteBuffer lWindow = ByteBuffer.allocate(SCAN_WINDOW_SIZE);
+    long lPosition = 0;
+    long lSize = pChannel.size();
+    while (lPosition < lSize && lScanner.state != INVALID) {
+      lWindow.clear();
+      int lRead = pChannel.read(lWindow, lPosition);
+      if (lRead < 0) {
+        break;
+      }
+      lScanner.scan(lWindow, 0, lWindow.position(), lPosition);
+      lPosition = lPosition + lRead;
+    }
+    return lScanner.getElements();
+  }
+
+  /**
+   * Method scans the passed part of the document.
+   *
+   * @param pBuffer Buffer containing the part of the document. The parameter must not be null.
+   * @param pStart Position of the first byte within the buffer that should be scanned.
+   * @param pEnd Position after the last byte within the buffer that should be scanned.
+   * @param pBase Absolute position of the byte at index 0 of the buffer within the document.
+   */
+  private void scan(ByteBuffer pBuffer, int pStart, int pEnd, long pBase) {
+    for (int i = pStart; i < pEnd && state != INVALID; i++) {
+      byte lByte = pBuffer.get(i);
+      switch (state) {
+        case BEFORE_ARRAY:
+          if (bomLength < BOM.length && pBase + i - pStart == bomLength && (lByte & 0xFF) == BOM[bomLength]) {
+            bomLength++;
+          }
+          else if (lByte == '[') {
+            state = BEFORE_FIRST_ELEMENT;
+          }
+          else if (isWhitespace(lByte) == false) {
+            state = INVALID;
+          }
+          break;
+
+        case BEFORE_FIRST_ELEMENT:
+        case BEFORE_ELEMENT:
+          if (lByte == ']' && state == BEFORE_FIRST_ELEMENT) {
+            // Empty array
+            state = AFTER_ARRAY;
+          }
+          else if (lByte == ',' || lByte == ']') {
+            // Missing element
+            state = INVALID;
+          }
+          else if (isWhitespace(lByte) == false) {
+            this.addBoundary(pBase + i);
+            state = IN_ELEMENT;
+            this.scanElementByte(lByte, pBase + i);
+          }
+          break;
+
+        case IN_ELEMENT:
+          this.scanElementByte(lByte, pBase + i);
+          break;
+
+        case AFTER_ARRAY:
+          // There must not be any content after the root array.
+          if (isWhitespace(lByte) == false) {
+            state = INVALID;
+          }
+          break;
+
+        default:
+          // Nothing to do.
+      }
+    }
+  }
+
+  /**
+   * Method scans the passed byte of an element until the next separator on the level of the root array.
+   *
+   * @param pByte Byte that should be scanned.
+   * @param pPosition Absolute position of the byte within the document.
+   */
+  private void scanElementByte(byte pByte, long pPosition) {
+    if (inString) {
+      if (escaped) {
+        escaped = false;
+      }
+      else if (pByte == '\\') {
+        escaped = true;
+      }
+      else if (pByte == '"') {
+        inString = false;
+      }
+    }
+    else {
+      switch (pByte) {
+        case '"':
+          inString = true;
+          break;
+        case '{':
+        case '[':
+          depth++;
+          break;
+        case '}':
+        case ']':
+          if (depth == 0) {
+            if (pByte == ']') {
+              this.addBoundary(pPosition);
+              state = AFTER_ARRAY;
+            }
+            else {
+              state = INVALID;
+            }
+          }
+          else {
+            depth--;
+          }
+          break;
+        case ',':
+          if (depth == 0) {
+            this.addBoundary(pPosition);
+            state = BEFORE_ELEMENT;
+          }
+          break;
+        default:
+          // Nothing to do.
+      }
+    }
+  }
+
+  /**
+   * Method adds the passed start or end position of an element.
+   *
+   * @param pPosition Absolute position within the document.
+   */
+  private void addBoundary(long pPosition) {
+    if (count == boundaries.length) {
+      boundaries = Arrays.copyOf(boundaries, boundaries.length * 2);
+    }
+    boundaries[count] = pPosition;
+    count++;
+  }
+
+  /**
+   * Method returns the boundaries of all elements that were found.
+   *
+   * @return long[] Boundaries of all elements or null if the scanned document is not a complete array.
+   */
+  private long[] getElements( ) {
+    long[] lElements;
+    if (state == AFTER_ARRAY) {
+      lElements = Arrays.copyOf(boundaries, count);
+    }
+    else {
+      lElements = null;
+    }
+    return lElements;
+  }
+
+  /**
+   * Method checks if the passed byte is a JSON whitespace character.
+   *
+   * @param pByte Byte that should be checked.
+   * @return boolean Method returns true if the byte is a whitespace character and false otherwise.
+   */
+  private static boolean isWhitespace(byte pByte) {
+    return pByte == ' ' || pByte == '\n' || pByte == '\r' || pByte == '\t';
+  }
+}
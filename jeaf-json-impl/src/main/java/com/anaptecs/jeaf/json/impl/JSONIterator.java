@@ -0,0 +1,126 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.anaptecs.jeaf.json.api.JSONMessages;
+import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.MappingIterator;
+
+/**
+ * Class implements an iterator that deserializes the elements of a JSON array one after the other. This way only the
+ * current element has to be kept in memory no matter how large the array is.
+ *
+ * The iterator releases the underlying parser as soon as all elements were read. If iteration is stopped before then
+ * the iterator has to be closed explicitly.
+ *
+ * @author JEAF Development Team
+ */
+public final class JSONIterator<T> implements Iterator<T>, Closeable {
+  /**
+   * Jackson iterator that does the actual work.
+   */
+  private final MappingIterator<T> iterator;
+
+  /**
+   * Parser that is owned by this iterator but not managed by the Jackson iterator. The attribute is null if the Jackson
+   * iterator manages its parser itself.
+   */
+  private final JsonParser parser;
+
+  /**
+   * Initialize object.
+   *
+   * @param pIterator Jackson iterator that should be used to read the elements. The parameter must not be null.
+   */
+  JSONIterator( MappingIterator<T> pIterator ) {
+    this(pIterator, null);
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pIterator Jackson iterator that should be used to read the elements. The parameter must not be null.
+   * @param pParser Parser that is used by the passed iterator and that has to be closed together with this iterator.
+   * The parameter may be null.
+   */
+  JSONIterator( MappingIterator<T> pIterator, JsonParser pParser ) {
+    iterator = pIterator;
+    parser = pParser;
+  }
+
+  /**
+   * Method checks if there are further elements.
+   *
+   * @return boolean Method returns true if there are further elements and false otherwise.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  @Override
+  public boolean hasNext( ) throws JEAFSystemException {
+    try {
+      boolean lHasNext = iterator.hasNextValue();
+      if (lHasNext == false && parser != null) {
+        parser.close();
+      }
+      return lHasNext;
+    }
+    catch (JacksonException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method deserializes the next element.
+   *
+   * @return T Next element. The method never returns null.
+   * @throws NoSuchElementException if there are no further elements.
+   * @throws JEAFSystemException if an error occurs during deserialization. This also includes elements that are JSON
+   * null values as they are not supported.
+   */
+  @Override
+  public T next( ) throws JEAFSystemException {
+    if (this.hasNext() == false) {
+      throw new NoSuchElementException();
+    }
+    try {
+      return iterator.nextValue();
+    }
+    catch (JacksonException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method closes the iterator and releases the underlying parser and its source.
+   */
+  @Override
+  public void close( ) {
+    iterator.close();
+    if (parser != null) {
+      parser.close();
+    }
+  }
+
+  /**
+   * Method returns a sequential {@link Stream} that is based on this iterator. Closing the stream also closes this
+   * iterator.
+   *
+   * @return {@link Stream} Stream of all remaining elements. The method never returns null.
+   */
+  public Stream<T> stream( ) {
+    Spliterator<T> lSpliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED);
+    return StreamSupport.stream(lSpliterator, false).onClose(this::close);
+  }
+}
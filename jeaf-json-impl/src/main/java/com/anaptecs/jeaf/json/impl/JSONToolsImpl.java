@@ -6,29 +6,59 @@
 package com.anaptecs.jeaf.json.impl;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import com.anaptecs.jeaf.json.annotations.ModuleFactory;
 import com.anaptecs.jeaf.json.annotations.ObjectMapperConfig;
 import com.anaptecs.jeaf.json.api.JSONMessages;
 import com.anaptecs.jeaf.json.api.JSONTools;
 import com.anaptecs.jeaf.json.api.ObjectType;
-import com.anaptecs.jeaf.json.api.ObjectType.CollectionObjectType;
-import com.anaptecs.jeaf.json.api.ObjectType.GenericsObjectType;
-import com.anaptecs.jeaf.json.api.ObjectType.SingleObjectType;
 import com.anaptecs.jeaf.tools.annotations.ToolsImplementation;
 import com.anaptecs.jeaf.xfun.api.checks.Assert;
 import com.anaptecs.jeaf.xfun.api.checks.Check;
 import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
+import tools.jackson.core.JsonEncoding;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonPointer;
+import tools.jackson.core.filter.FilteringParserDelegate;
+import tools.jackson.core.filter.JsonPointerBasedFilter;
+import tools.jackson.core.filter.TokenFilter;
 import tools.jackson.databind.JavaType;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
 import tools.jackson.databind.ObjectWriter;
-import tools.jackson.databind.type.TypeFactory;
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.util.ByteBufferBackedInputStream;
+import tools.jackson.databind.util.ByteBufferBackedOutputStream;
 
 /**
  * Class provides an implementation of JEAF JSON Tools
@@ -37,10 +67,127 @@ import tools.jackson.databind.type.TypeFactory;
  */
 @ToolsImplementation(toolsInterface = JSONTools.class)
 public class JSONToolsImpl implements JSONTools {
+  /**
+   * Maximum number of readers that are cached.
+   */
+  private static final int READER_CACHE_SIZE = 512;
+
+  /**
+   * Maximum number of collection writers that are cached.
+   */
+  private static final int WRITER_CACHE_SIZE = 256;
+
+  /**
+   * Initial size of buffers that are created during serialization.
+   */
+  private static final int BYTE_BUFFER_INITIAL_SIZE = 512;
+
+  /**
+   * Size of the pooled buffers that are used to write to channels.
+   */
+  private static final int CHANNEL_BUFFER_SIZE = 8 * 1024;
+
+  /**
+   * Maximum number of buffers that are pooled for writing to channels.
+   */
+  private static final int CHANNEL_BUFFER_POOL_SIZE = 64;
+
+  /**
+   * Number of objects after which the output is flushed when writing sequences of objects.
+   */
+  private static final int SEQUENCE_FLUSH_INTERVAL = 1000;
+
+  /**
+   * Number of chunks per available processor into which batches are split for concurrent deserialization.
+   */
+  private static final int BATCH_CHUNKS_PER_PROCESSOR = 4;
+
+  /**
+   * Approximate number of bytes per chunk when JSON arrays are deserialized concurrently.
+   */
+  private static final int PARALLEL_READ_CHUNK_SIZE = 1024 * 1024;
+
+  /**
+   * Number of objects per chunk when collections are serialized concurrently.
+   */
+  private static final int PARALLEL_WRITE_CHUNK_SIZE = 1000;
+
+  /**
+   * JSON representation of an empty array.
+   */
+  private static final String EMPTY_JSON_ARRAY = "[]";
+
+  /**
+   * Separator between objects in newline delimited JSON.
+   */
+  private static final String NDJSON_SEPARATOR = "\n";
+
+  /**
+   * JSON representation of null.
+   */
+  private static final byte[] JSON_NULL = "null".getBytes(StandardCharsets.UTF_8);
+
   /**
    * Instance of {@link ObjectMapper} that will be used for serialization / deserialization.
    */
-  private final ObjectMapper defaultObjectMapper = ObjectMapperFactory.createObjectMapper();
+  private final ObjectMapper defaultObjectMapper;
+
+  /**
+   * Cache contains already prepared readers per type. Readers are immutable and can be shared between threads.
+   */
+  private final BoundedCache<ObjectTypeKey, ObjectReader> readerCache = new BoundedCache<>(READER_CACHE_SIZE);
+
+  /**
+   * Cache contains already prepared writers for collections per collection and element type.
+   */
+  private final BoundedCache<ObjectTypeKey, ObjectWriter> collectionWriterCache =
+      new BoundedCache<>(WRITER_CACHE_SIZE);
+
+  /**
+   * Pool of direct buffers that are used to write to channels.
+   */
+  private final ByteBufferPool bufferPool = new ByteBufferPool(CHANNEL_BUFFER_SIZE, CHANNEL_BUFFER_POOL_SIZE);
+
+  /**
+   * Cache contains already prepared writers for sequences of objects per element type.
+   */
+  private final BoundedCache<ObjectTypeKey, ObjectWriter> sequenceWriterCache = new BoundedCache<>(WRITER_CACHE_SIZE);
+
+  /**
+   * Cache contains already prepared writers for newline delimited JSON per element type.
+   */
+  private final BoundedCache<ObjectTypeKey, ObjectWriter> ndjsonWriterCache = new BoundedCache<>(WRITER_CACHE_SIZE);
+
+  /**
+   * Cache contains already prepared writers per written type and view class respectively property selection.
+   */
+  private final BoundedCache<FilteredWriterKey, ObjectWriter> filteredWriterCache =
+      new BoundedCache<>(WRITER_CACHE_SIZE);
+
+  /**
+   * Object mapper that is used for serialization with property selections. It is created on first use.
+   */
+  private volatile ObjectMapper selectionObjectMapper;
+
+  /**
+   * Initialize object. The shared object mapper of the standard configuration will be used.
+   */
+  public JSONToolsImpl( ) {
+    this(ObjectMapperFactory.getSharedObjectMapper());
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pObjectMapper Object mapper that should be used for serialization and deserialization. The parameter must
+   * not be null.
+   */
+  public JSONToolsImpl( ObjectMapper pObjectMapper ) {
+    // Check parameters
+    Check.checkInvalidParameterNull(pObjectMapper, "pObjectMapper");
+
+    defaultObjectMapper = pObjectMapper;
+  }
 
   /**
    * Method returns a JSON {@link ObjectMapper} that is configured as defined using {@link ObjectMapperConfig} and
@@ -50,9 +197,9 @@ public class JSONToolsImpl implements JSONTools {
    */
   @Override
   public ObjectMapper getDefaultObjectMapper( ) {
-    // In order to ensure that internal object is not changed from the outside we always return a new instance of the
-    // object mapper.
-    return ObjectMapperFactory.createObjectMapper();
+    // Object mappers of Jackson 3 are immutable. So we can return the shared instance that is also used internally
+    // without any risk that it is changed from the outside.
+    return defaultObjectMapper;
   }
 
   /**
@@ -299,7 +446,7 @@ public class JSONToolsImpl implements JSONTools {
     Check.checkInvalidParameterNull(pResultType, "pResultType");
 
     try {
-      return defaultObjectMapper.readValue(pInputStream, pResultType);
+      return this.getReader(pResultType).readValue(pInputStream);
     }
     catch (RuntimeException e) {
       throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
@@ -321,7 +468,7 @@ public class JSONToolsImpl implements JSONTools {
     Check.checkInvalidParameterNull(pResultType, "pResultType");
 
     try {
-      return defaultObjectMapper.readValue(pReader, pResultType);
+      return this.getReader(pResultType).readValue(pReader);
     }
     catch (RuntimeException e) {
       throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
@@ -343,7 +490,7 @@ public class JSONToolsImpl implements JSONTools {
     Check.checkInvalidParameterNull(pResultType, "pResultType");
 
     try {
-      return defaultObjectMapper.readValue(pFile, pResultType);
+      return this.getReader(pResultType).readValue(pFile);
     }
     catch (RuntimeException e) {
       throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
@@ -365,7 +512,7 @@ public class JSONToolsImpl implements JSONTools {
     Check.checkInvalidParameterNull(pResultType, "pResultType");
 
     try {
-      return defaultObjectMapper.readValue(pString, pResultType);
+      return this.getReader(pResultType).readValue(pString);
     }
     catch (RuntimeException e) {
       throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
@@ -387,7 +534,7 @@ public class JSONToolsImpl implements JSONTools {
     Check.checkInvalidParameterNull(pResultType, "pResultType");
 
     try {
-      return defaultObjectMapper.readValue(pBytes, pResultType);
+      return this.getReader(pResultType).readValue(pBytes);
     }
     catch (RuntimeException e) {
       throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
@@ -409,7 +556,7 @@ public class JSONToolsImpl implements JSONTools {
     Check.checkInvalidParameterNull(pResultType, "pResultType");
 
     try {
-      return defaultObjectMapper.readValue(pString, this.getJavaType(pResultType));
+      return this.getReader(pResultType).readValue(pString);
     }
     catch (RuntimeException e) {
       throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
@@ -431,7 +578,7 @@ public class JSONToolsImpl implements JSONTools {
     Check.checkInvalidParameterNull(pResultType, "pResultType");
 
     try {
-      return defaultObjectMapper.readValue(pBytes, this.getJavaType(pResultType));
+      return this.getReader(pResultType).readValue(pBytes);
     }
     catch (RuntimeException e) {
       throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
@@ -453,7 +600,7 @@ public class JSONToolsImpl implements JSONTools {
     Check.checkInvalidParameterNull(pResultType, "pResultType");
 
     try {
-      return defaultObjectMapper.readValue(pInputStream, this.getJavaType(pResultType));
+      return this.getReader(pResultType).readValue(pInputStream);
     }
     catch (RuntimeException e) {
       throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
@@ -475,7 +622,7 @@ public class JSONToolsImpl implements JSONTools {
     Check.checkInvalidParameterNull(pResultType, "pResultType");
 
     try {
-      return defaultObjectMapper.readValue(pReader, this.getJavaType(pResultType));
+      return this.getReader(pResultType).readValue(pReader);
     }
     catch (RuntimeException e) {
       throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
@@ -497,7 +644,7 @@ public class JSONToolsImpl implements JSONTools {
     Check.checkInvalidParameterNull(pResultType, "pResultType");
 
     try {
-      return defaultObjectMapper.readValue(pFile, this.getJavaType(pResultType));
+      return this.getReader(pResultType).readValue(pFile);
     }
     catch (RuntimeException e) {
       throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
@@ -523,7 +670,7 @@ public class JSONToolsImpl implements JSONTools {
     Check.checkInvalidParameterNull(pResultType, "pResultType");
 
     try {
-      return defaultObjectMapper.readValue(pInputStream, this.getCollectionType(pCollectionType, pResultType));
+      return this.getCollectionReader(pCollectionType, pResultType).readValue(pInputStream);
     }
     catch (RuntimeException e) {
       throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
@@ -548,7 +695,7 @@ public class JSONToolsImpl implements JSONTools {
     Check.checkInvalidParameterNull(pResultType, "pResultType");
 
     try {
-      return defaultObjectMapper.readValue(pReader, this.getCollectionType(pCollectionType, pResultType));
+      return this.getCollectionReader(pCollectionType, pResultType).readValue(pReader);
     }
     catch (RuntimeException e) {
       throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
@@ -573,7 +720,7 @@ public class JSONToolsImpl implements JSONTools {
     Check.checkInvalidParameterNull(pResultType, "pResultType");
 
     try {
-      return defaultObjectMapper.readValue(pFile, this.getCollectionType(pCollectionType, pResultType));
+      return this.getCollectionReader(pCollectionType, pResultType).readValue(pFile);
     }
     catch (RuntimeException e) {
       throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
@@ -598,7 +745,7 @@ public class JSONToolsImpl implements JSONTools {
     Check.checkInvalidParameterNull(pResultType, "pResultType");
 
     try {
-      return defaultObjectMapper.readValue(pString, this.getCollectionType(pCollectionType, pResultType));
+      return this.getCollectionReader(pCollectionType, pResultType).readValue(pString);
     }
     catch (RuntimeException e) {
       throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
@@ -623,7 +770,7 @@ public class JSONToolsImpl implements JSONTools {
     Check.checkInvalidParameterNull(pResultType, "pResultType");
 
     try {
-      return defaultObjectMapper.readValue(pBytes, this.getCollectionType(pCollectionType, pResultType));
+      return this.getCollectionReader(pCollectionType, pResultType).readValue(pBytes);
     }
     catch (RuntimeException e) {
       throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
@@ -641,7 +788,7 @@ public class JSONToolsImpl implements JSONTools {
     Check.checkInvalidParameterNull(pObjectType, "pObjectType");
 
     try {
-      return defaultObjectMapper.readValue(pInputStream, this.getCollectionType(pCollectionType, pObjectType));
+      return this.getCollectionReader(pCollectionType, pObjectType).readValue(pInputStream);
     }
     catch (RuntimeException e) {
       throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
@@ -658,7 +805,7 @@ public class JSONToolsImpl implements JSONTools {
     Check.checkInvalidParameterNull(pObjectType, "pObjectType");
 
     try {
-      return defaultObjectMapper.readValue(pReader, this.getCollectionType(pCollectionType, pObjectType));
+      return this.getCollectionReader(pCollectionType, pObjectType).readValue(pReader);
     }
     catch (RuntimeException e) {
       throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
@@ -674,7 +821,7 @@ public class JSONToolsImpl implements JSONTools {
     Check.checkInvalidParameterNull(pObjectType, "pObjectType");
 
     try {
-      return defaultObjectMapper.readValue(pFile, this.getCollectionType(pCollectionType, pObjectType));
+      return this.getCollectionReader(pCollectionType, pObjectType).readValue(pFile);
     }
     catch (RuntimeException e) {
       throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
@@ -691,7 +838,7 @@ public class JSONToolsImpl implements JSONTools {
     Check.checkInvalidParameterNull(pObjectType, "pObjectType");
 
     try {
-      return defaultObjectMapper.readValue(pJSONString, this.getCollectionType(pCollectionType, pObjectType));
+      return this.getCollectionReader(pCollectionType, pObjectType).readValue(pJSONString);
     }
     catch (RuntimeException e) {
       throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
@@ -707,7 +854,7 @@ public class JSONToolsImpl implements JSONTools {
     Check.checkInvalidParameterNull(pObjectType, "pResultType");
 
     try {
-      return defaultObjectMapper.readValue(pBytes, this.getCollectionType(pCollectionType, pObjectType));
+      return this.getCollectionReader(pCollectionType, pObjectType).readValue(pBytes);
     }
     catch (RuntimeException e) {
       throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
@@ -715,63 +862,2523 @@ public class JSONToolsImpl implements JSONTools {
   }
 
   /**
-   * Method uses the passed {@link ObjectType} to creating a Jackson type definition that can be used for
-   * deserialization.
+   * Method returns an iterator that deserializes the elements of the JSON array from the passed stream one after the
+   * other. In contrast to <code>readToCollection(...)</code> memory consumption does not depend on the size of the
+   * array.
    *
-   * @param pObjectType Response type that should be used to create matching Jackson {@link JavaType}
-   * @return {@link JavaType} JavaType that was created using the passed response type. The method never returns null.
+   * @param pInputStream Stream from which the data should be read. The parameter must not be null.
+   * @param pElementType Type of the elements of the array. The parameter must not be null.
+   * @return {@link JSONIterator} Iterator over all elements of the array. The iterator has to be closed if not all
+   * elements are read. The method never returns null.
+   * @throws JEAFSystemException if an error occurs during deserialization
    */
-  private JavaType getJavaType(ObjectType pObjectType) {
-    TypeFactory lTypeFactory = defaultObjectMapper.getTypeFactory();
+  public <T> JSONIterator<T> readAsIterator(InputStream pInputStream, Class<T> pElementType)
+    throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pInputStream, "pInputStream");
+    Check.checkInvalidParameterNull(pElementType, "pElementType");
 
-    JavaType lJavaType;
-    if (pObjectType instanceof SingleObjectType) {
-      lJavaType = lTypeFactory.constructType(((SingleObjectType) pObjectType).getObjectType());
+    try {
+      return new JSONIterator<>(this.getReader(pElementType).readValues(pInputStream));
     }
-    else if (pObjectType instanceof CollectionObjectType) {
-      CollectionObjectType lCollectionResponseType = (CollectionObjectType) pObjectType;
-      lJavaType = lTypeFactory.constructCollectionType(lCollectionResponseType.getCollectionType(),
-          lCollectionResponseType.getObjectType());
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
     }
-    else if (pObjectType instanceof GenericsObjectType) {
-      GenericsObjectType lGenericsObjectType = (GenericsObjectType) pObjectType;
-      lJavaType = lTypeFactory.constructParametricType(lGenericsObjectType.getGenericType(),
-          lGenericsObjectType.getParameterType());
+  }
+
+  /**
+   * Method returns a sequential stream that deserializes the elements of the JSON array from the passed stream one
+   * after the other. In contrast to <code>readToCollection(...)</code> memory consumption does not depend on the size
+   * of the array.
+   *
+   * @param pInputStream Stream from which the data should be read. The parameter must not be null.
+   * @param pElementType Type of the elements of the array. The parameter must not be null.
+   * @return {@link Stream} Stream of all elements of the array. The stream should be closed after usage e.g. using
+   * try-with-resources. The method never returns null.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public <T> Stream<T> readAsStream(InputStream pInputStream, Class<T> pElementType) throws JEAFSystemException {
+    return this.readAsIterator(pInputStream, pElementType).stream();
+  }
+
+  /**
+   * Method returns an iterator that deserializes the elements of the JSON array from the passed reader one after the
+   * other. In contrast to <code>readToCollection(...)</code> memory consumption does not depend on the size of the
+   * array.
+   *
+   * @param pReader Reader from which the data should be read. The parameter must not be null.
+   * @param pElementType Type of the elements of the array. The parameter must not be null.
+   * @return {@link JSONIterator} Iterator over all elements of the array. The iterator has to be closed if not all
+   * elements are read. The method never returns null.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public <T> JSONIterator<T> readAsIterator(Reader pReader, Class<T> pElementType) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pReader, "pReader");
+    Check.checkInvalidParameterNull(pElementType, "pElementType");
+
+    try {
+      return new JSONIterator<>(this.getReader(pElementType).readValues(pReader));
     }
-    else {
-      Assert.internalError("Unexpected ResponseType implementation " + pObjectType.getClass().getName());
-      lJavaType = null;
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
     }
-    return lJavaType;
   }
 
-  private <T> JavaType getCollectionType(Class<? extends Collection<?>> pCollectionType, Class<T> pResultType) {
-    return defaultObjectMapper.getTypeFactory().constructCollectionType(pCollectionType, pResultType);
+  /**
+   * Method returns a sequential stream that deserializes the elements of the JSON array from the passed reader one
+   * after the other. In contrast to <code>readToCollection(...)</code> memory consumption does not depend on the size
+   * of the array.
+   *
+   * @param pReader Reader from which the data should be read. The parameter must not be null.
+   * @param pElementType Type of the elements of the array. The parameter must not be null.
+   * @return {@link Stream} Stream of all elements of the array. The stream should be closed after usage e.g. using
+   * try-with-resources. The method never returns null.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public <T> Stream<T> readAsStream(Reader pReader, Class<T> pElementType) throws JEAFSystemException {
+    return this.readAsIterator(pReader, pElementType).stream();
   }
 
-  private JavaType getCollectionType(Class<? extends Collection<?>> pCollectionType, ObjectType pResultType) {
-    JavaType lJavaType = this.getJavaType(pResultType);
-    return defaultObjectMapper.getTypeFactory().constructCollectionType(pCollectionType, lJavaType);
+  /**
+   * Method returns an iterator that deserializes the elements of the JSON array from the passed file one after the
+   * other. In contrast to <code>readToCollection(...)</code> memory consumption does not depend on the size of the
+   * array.
+   *
+   * @param pFile File from which the data should be read. The parameter must not be null.
+   * @param pElementType Type of the elements of the array. The parameter must not be null.
+   * @return {@link JSONIterator} Iterator over all elements of the array. The iterator has to be closed if not all
+   * elements are read. The method never returns null.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public <T> JSONIterator<T> readAsIterator(File pFile, Class<T> pElementType) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pFile, "pFile");
+    Check.checkInvalidParameterNull(pElementType, "pElementType");
+
+    try {
+      return new JSONIterator<>(this.getReader(pElementType).readValues(pFile));
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
   }
 
-  @SuppressWarnings("rawtypes")
-  private ObjectWriter getCollectionWriter(Collection<?> pCollection, Class<?> pObjectType) {
-    // Check parameters.
-    Assert.assertNotNull(pObjectType, "pObjectType");
+  /**
+   * Method returns a sequential stream that deserializes the elements of the JSON array from the passed file one
+   * after the other. In contrast to <code>readToCollection(...)</code> memory consumption does not depend on the size
+   * of the array.
+   *
+   * @param pFile File from which the data should be read. The parameter must not be null.
+   * @param pElementType Type of the elements of the array. The parameter must not be null.
+   * @return {@link Stream} Stream of all elements of the array. The stream should be closed after usage e.g. using
+   * try-with-resources. The method never returns null.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public <T> Stream<T> readAsStream(File pFile, Class<T> pElementType) throws JEAFSystemException {
+    return this.readAsIterator(pFile, pElementType).stream();
+  }
 
-    // As null is also a valid value for the collection have to be use a default type in this case.
-    Class<? extends Collection> lCollectionType;
-    if (pCollection != null) {
-      lCollectionType = pCollection.getClass();
+  /**
+   * Method serializes the passed object into the passed buffer. Writing starts at the current position of the buffer.
+   * Afterwards the position of the buffer is directly behind the serialized object. Heap as well as direct buffers are
+   * supported.
+   *
+   * @param pObject Object that should be serialized as JSON. The parameter may be null.
+   * @param pBuffer Buffer to which the object should be written. The parameter must not be null. The buffer must have
+   * enough remaining space for the serialized object.
+   * @throws JEAFSystemException if an error occurs during serialization or if the buffer is too small.
+   */
+  public void writeObject(Object pObject, ByteBuffer pBuffer) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pBuffer, "pBuffer");
+
+    try {
+      defaultObjectMapper.writeValue(new ByteBufferBackedOutputStream(pBuffer), pObject);
     }
-    else {
-      lCollectionType = Collection.class;
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_SERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method serializes the passed object into a new heap buffer. In contrast to {@link #writeObjectToBytes(Object)} the
+   * serialized data does not have to be copied into a byte array of exactly the right size.
+   *
+   * @param pObject Object that should be serialized as JSON. The parameter may be null.
+   * @return {@link ByteBuffer} Buffer containing the serialized object. The buffer is ready to be read. The method
+   * never returns null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public ByteBuffer writeObjectToByteBuffer(Object pObject) throws JEAFSystemException {
+    try {
+      ByteBufferOutputStream lOutputStream = new ByteBufferOutputStream(BYTE_BUFFER_INITIAL_SIZE);
+      defaultObjectMapper.writeValue(lOutputStream, pObject);
+      return lOutputStream.toByteBuffer();
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_SERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method deserializes the remaining content of the passed buffer into an object of the passed type. Heap as well as
+   * direct buffers are supported. Content of heap buffers is read directly from their backing array. Afterwards all
+   * remaining bytes of the buffer are consumed, i.e. the position of the buffer is set to its limit.
+   *
+   * @param pBuffer Buffer from which the data should be read. The parameter must not be null.
+   * @param pResultType Type of the object that should be created. The parameter must not be null.
+   * @return T Object of passed type that was created. The method may return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public <T> T read(ByteBuffer pBuffer, Class<T> pResultType) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pBuffer, "pBuffer");
+    Check.checkInvalidParameterNull(pResultType, "pResultType");
+
+    return this.read(pBuffer, this.getReader(pResultType));
+  }
+
+  /**
+   * Method deserializes the remaining content of the passed buffer into an object of the passed type. Heap as well as
+   * direct buffers are supported. Content of heap buffers is read directly from their backing array. Afterwards all
+   * remaining bytes of the buffer are consumed, i.e. the position of the buffer is set to its limit.
+   *
+   * @param pBuffer Buffer from which the data should be read. The parameter must not be null.
+   * @param pResultType Type of the object that should be created. The parameter must not be null.
+   * @return T Object of passed type that was created. The method may return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public <T> T read(ByteBuffer pBuffer, ObjectType pResultType) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pBuffer, "pBuffer");
+    Check.checkInvalidParameterNull(pResultType, "pResultType");
+
+    return this.read(pBuffer, this.getReader(pResultType));
+  }
+
+  /**
+   * Method serializes the passed object to the passed channel. Output is collected in pooled buffers and written to the
+   * channel using gathering writes if supported by the channel. The channel will not be closed.
+   *
+   * @param pObject Object that should be serialized as JSON. The parameter may be null.
+   * @param pChannel Channel to which the object should be written. The parameter must not be null. The channel has to
+   * be in blocking mode.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public void writeObject(Object pObject, WritableByteChannel pChannel) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pChannel, "pChannel");
+
+    ChannelOutputStream lOutputStream = new ChannelOutputStream(pChannel, bufferPool);
+    try {
+      defaultObjectMapper.writeValue(lOutputStream, pObject);
+      lOutputStream.flush();
+    }
+    catch (IOException | RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_SERIALIZATION_FAILED, e, e.getMessage());
+    }
+    finally {
+      lOutputStream.release();
+    }
+  }
+
+  /**
+   * Method serializes the passed {@link Collection} to the passed channel. Output is collected in pooled buffers and
+   * written to the channel using gathering writes if supported by the channel. The channel will not be closed.
+   *
+   * @param pObjects Collection of objects that should be serialized as JSON. The parameter may be null.
+   * @param pChannel Channel to which the objects should be written. The parameter must not be null. The channel has to
+   * be in blocking mode.
+   * @param pObjectType {@link Class} object representing the type of objects that are inside the collection. The
+   * parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public void writeObjects(Collection<?> pObjects, WritableByteChannel pChannel, Class<?> pObjectType)
+    throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pObjectType, "pObjectType");
+    Check.checkInvalidParameterNull(pChannel, "pChannel");
+
+    // Get special writer that is able to preserve type information when serializing collections.
+    ObjectWriter lWriter = this.getCollectionWriter(pObjects, pObjectType);
+
+    ChannelOutputStream lOutputStream = new ChannelOutputStream(pChannel, bufferPool);
+    try {
+      lWriter.writeValue(lOutputStream, pObjects);
+      lOutputStream.flush();
+    }
+    catch (IOException | RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_SERIALIZATION_FAILED, e, e.getMessage());
+    }
+    finally {
+      lOutputStream.release();
+    }
+  }
+
+  /**
+   * Method deserializes the data from the passed channel into an object of the passed type. Data is read directly from
+   * the channel without additional buffering layers. The channel will not be closed.
+   *
+   * @param pChannel Channel from which the data should be read. The parameter must not be null. The channel has to be
+   * in blocking mode.
+   * @param pResultType Type of the object that should be created. The parameter must not be null.
+   * @return T Object of passed type that was created. The method may return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public <T> T read(ReadableByteChannel pChannel, Class<T> pResultType) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pChannel, "pChannel");
+    Check.checkInvalidParameterNull(pResultType, "pResultType");
+
+    try {
+      return this.getReader(pResultType).readValue(new ChannelInputStream(pChannel));
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method deserializes the data from the passed channel into an object of the passed type. Data is read directly from
+   * the channel without additional buffering layers. The channel will not be closed.
+   *
+   * @param pChannel Channel from which the data should be read. The parameter must not be null. The channel has to be
+   * in blocking mode.
+   * @param pResultType Type of the object that should be created. The parameter must not be null.
+   * @return T Object of passed type that was created. The method may return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public <T> T read(ReadableByteChannel pChannel, ObjectType pResultType) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pChannel, "pChannel");
+    Check.checkInvalidParameterNull(pResultType, "pResultType");
+
+    try {
+      return this.getReader(pResultType).readValue(new ChannelInputStream(pChannel));
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method serializes the objects of the passed iterator as JSON array. Objects are written one after the other and the
+   * output is flushed periodically. This way the iterator may also be backed by a lazy source like a database cursor
+   * and memory consumption does not depend on the number of objects.
+   *
+   * @param pObjects Iterator providing the objects that should be serialized. The parameter must not be null.
+   * @param pOutputStream Stream to which the objects should be written. The parameter must not be null.
+   * @param pObjectType {@link Class} object representing the type of objects that are provided by the iterator. The
+   * parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public void writeObjectsLazily(Iterator<?> pObjects, OutputStream pOutputStream, Class<?> pObjectType)
+    throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pObjects, "pObjects");
+    Check.checkInvalidParameterNull(pOutputStream, "pOutputStream");
+    Check.checkInvalidParameterNull(pObjectType, "pObjectType");
+
+    try {
+      this.writeArray(pObjects, this.getSequenceWriter(pObjectType).writeValuesAsArray(pOutputStream));
     }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_SERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
 
-    // Create writer and return it.
-    TypeFactory lTypeFactory = defaultObjectMapper.getTypeFactory();
-    JavaType lType = lTypeFactory.constructCollectionType(lCollectionType, pObjectType);
-    return defaultObjectMapper.writerFor(lType);
+  /**
+   * Method serializes the passed objects as JSON array. Objects are written one after the other and the output is
+   * flushed periodically.
+   *
+   * @param pObjects Objects that should be serialized. The parameter must not be null.
+   * @param pOutputStream Stream to which the objects should be written. The parameter must not be null.
+   * @param pObjectType {@link Class} object representing the type of the passed objects. The parameter must not be
+   * null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public void writeObjectsLazily(Iterable<?> pObjects, OutputStream pOutputStream, Class<?> pObjectType)
+    throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pObjects, "pObjects");
+
+    this.writeObjectsLazily(pObjects.iterator(), pOutputStream, pObjectType);
+  }
+
+  /**
+   * Method serializes the elements of the passed stream as JSON array. Objects are written one after the other and the
+   * output is flushed periodically. The stream will be consumed but not closed.
+   *
+   * @param pObjects Stream providing the objects that should be serialized. The parameter must not be null.
+   * @param pOutputStream Stream to which the objects should be written. The parameter must not be null.
+   * @param pObjectType {@link Class} object representing the type of objects that are provided by the stream. The
+   * parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public void writeObjectsLazily(Stream<?> pObjects, OutputStream pOutputStream, Class<?> pObjectType)
+    throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pObjects, "pObjects");
+
+    this.writeObjectsLazily(pObjects.iterator(), pOutputStream, pObjectType);
+  }
+
+  /**
+   * Method serializes the objects of the passed iterator as JSON array. Objects are written one after the other and the
+   * output is flushed periodically. This way the iterator may also be backed by a lazy source like a database cursor
+   * and memory consumption does not depend on the number of objects.
+   *
+   * @param pObjects Iterator providing the objects that should be serialized. The parameter must not be null.
+   * @param pWriter Writer to which the objects should be written. The parameter must not be null.
+   * @param pObjectType {@link Class} object representing the type of objects that are provided by the iterator. The
+   * parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public void writeObjectsLazily(Iterator<?> pObjects, Writer pWriter, Class<?> pObjectType)
+    throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pObjects, "pObjects");
+    Check.checkInvalidParameterNull(pWriter, "pWriter");
+    Check.checkInvalidParameterNull(pObjectType, "pObjectType");
+
+    try {
+      this.writeArray(pObjects, this.getSequenceWriter(pObjectType).writeValuesAsArray(pWriter));
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_SERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method serializes the passed objects as JSON array. Objects are written one after the other and the output is
+   * flushed periodically.
+   *
+   * @param pObjects Objects that should be serialized. The parameter must not be null.
+   * @param pWriter Writer to which the objects should be written. The parameter must not be null.
+   * @param pObjectType {@link Class} object representing the type of the passed objects. The parameter must not be
+   * null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public void writeObjectsLazily(Iterable<?> pObjects, Writer pWriter, Class<?> pObjectType)
+    throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pObjects, "pObjects");
+
+    this.writeObjectsLazily(pObjects.iterator(), pWriter, pObjectType);
+  }
+
+  /**
+   * Method serializes the elements of the passed stream as JSON array. Objects are written one after the other and the
+   * output is flushed periodically. The stream will be consumed but not closed.
+   *
+   * @param pObjects Stream providing the objects that should be serialized. The parameter must not be null.
+   * @param pWriter Writer to which the objects should be written. The parameter must not be null.
+   * @param pObjectType {@link Class} object representing the type of objects that are provided by the stream. The
+   * parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public void writeObjectsLazily(Stream<?> pObjects, Writer pWriter, Class<?> pObjectType) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pObjects, "pObjects");
+
+    this.writeObjectsLazily(pObjects.iterator(), pWriter, pObjectType);
+  }
+
+  /**
+   * Method serializes the objects of the passed iterator as JSON array. Objects are written one after the other and the
+   * output is flushed periodically. This way the iterator may also be backed by a lazy source like a database cursor
+   * and memory consumption does not depend on the number of objects.
+   *
+   * @param pObjects Iterator providing the objects that should be serialized. The parameter must not be null.
+   * @param pFile File to which the objects should be written. The parameter must not be null.
+   * @param pObjectType {@link Class} object representing the type of objects that are provided by the iterator. The
+   * parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public void writeObjectsLazily(Iterator<?> pObjects, File pFile, Class<?> pObjectType) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pObjects, "pObjects");
+    Check.checkInvalidParameterNull(pFile, "pFile");
+    Check.checkInvalidParameterNull(pObjectType, "pObjectType");
+
+    try {
+      this.writeArray(pObjects, this.getSequenceWriter(pObjectType).writeValuesAsArray(pFile));
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_SERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method serializes the passed objects as JSON array. Objects are written one after the other and the output is
+   * flushed periodically.
+   *
+   * @param pObjects Objects that should be serialized. The parameter must not be null.
+   * @param pFile File to which the objects should be written. The parameter must not be null.
+   * @param pObjectType {@link Class} object representing the type of the passed objects. The parameter must not be
+   * null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public void writeObjectsLazily(Iterable<?> pObjects, File pFile, Class<?> pObjectType) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pObjects, "pObjects");
+
+    this.writeObjectsLazily(pObjects.iterator(), pFile, pObjectType);
+  }
+
+  /**
+   * Method serializes the elements of the passed stream as JSON array. Objects are written one after the other and the
+   * output is flushed periodically. The stream will be consumed but not closed.
+   *
+   * @param pObjects Stream providing the objects that should be serialized. The parameter must not be null.
+   * @param pFile File to which the objects should be written. The parameter must not be null.
+   * @param pObjectType {@link Class} object representing the type of objects that are provided by the stream. The
+   * parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public void writeObjectsLazily(Stream<?> pObjects, File pFile, Class<?> pObjectType) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pObjects, "pObjects");
+
+    this.writeObjectsLazily(pObjects.iterator(), pFile, pObjectType);
+  }
+
+  /**
+   * Method serializes the objects of the passed iterator as newline delimited JSON (NDJSON / JSON Lines). Every object
+   * is written as a single line. Objects are written one after the other so that the iterator may also be backed by a
+   * lazy source like a database cursor.
+   *
+   * @param pObjects Iterator providing the objects that should be serialized. The parameter must not be null.
+   * @param pOutputStream Stream to which the objects should be written. The parameter must not be null.
+   * @param pElementType Type of the objects that should be serialized. The parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public void writeNDJSON(Iterator<?> pObjects, OutputStream pOutputStream, ObjectType pElementType)
+    throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pObjects, "pObjects");
+    Check.checkInvalidParameterNull(pOutputStream, "pOutputStream");
+    Check.checkInvalidParameterNull(pElementType, "pElementType");
+
+    try {
+      ObjectWriter lWriter = this.getNDJSONWriter(pElementType);
+      this.writeNDJSON(pObjects, lWriter.createGenerator(pOutputStream), lWriter);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_SERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method serializes the passed objects as newline delimited JSON (NDJSON / JSON Lines). Every object is written as a
+   * single line.
+   *
+   * @param pObjects Objects that should be serialized. The parameter must not be null.
+   * @param pOutputStream Stream to which the objects should be written. The parameter must not be null.
+   * @param pElementType Type of the objects that should be serialized. The parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public void writeNDJSON(Iterable<?> pObjects, OutputStream pOutputStream, ObjectType pElementType)
+    throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pObjects, "pObjects");
+
+    this.writeNDJSON(pObjects.iterator(), pOutputStream, pElementType);
+  }
+
+  /**
+   * Method serializes the elements of the passed stream as newline delimited JSON (NDJSON / JSON Lines). Every object
+   * is written as a single line. The stream will be consumed but not closed.
+   *
+   * @param pObjects Stream providing the objects that should be serialized. The parameter must not be null.
+   * @param pOutputStream Stream to which the objects should be written. The parameter must not be null.
+   * @param pElementType Type of the objects that should be serialized. The parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public void writeNDJSON(Stream<?> pObjects, OutputStream pOutputStream, ObjectType pElementType)
+    throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pObjects, "pObjects");
+
+    this.writeNDJSON(pObjects.iterator(), pOutputStream, pElementType);
+  }
+
+  /**
+   * Method serializes the objects of the passed iterator as newline delimited JSON (NDJSON / JSON Lines). Every object
+   * is written as a single line. Objects are written one after the other so that the iterator may also be backed by a
+   * lazy source like a database cursor.
+   *
+   * @param pObjects Iterator providing the objects that should be serialized. The parameter must not be null.
+   * @param pWriter Writer to which the objects should be written. The parameter must not be null.
+   * @param pElementType Type of the objects that should be serialized. The parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public void writeNDJSON(Iterator<?> pObjects, Writer pWriter, ObjectType pElementType)
+    throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pObjects, "pObjects");
+    Check.checkInvalidParameterNull(pWriter, "pWriter");
+    Check.checkInvalidParameterNull(pElementType, "pElementType");
+
+    try {
+      ObjectWriter lWriter = this.getNDJSONWriter(pElementType);
+      this.writeNDJSON(pObjects, lWriter.createGenerator(pWriter), lWriter);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_SERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method serializes the passed objects as newline delimited JSON (NDJSON / JSON Lines). Every object is written as a
+   * single line.
+   *
+   * @param pObjects Objects that should be serialized. The parameter must not be null.
+   * @param pWriter Writer to which the objects should be written. The parameter must not be null.
+   * @param pElementType Type of the objects that should be serialized. The parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public void writeNDJSON(Iterable<?> pObjects, Writer pWriter, ObjectType pElementType)
+    throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pObjects, "pObjects");
+
+    this.writeNDJSON(pObjects.iterator(), pWriter, pElementType);
+  }
+
+  /**
+   * Method serializes the elements of the passed stream as newline delimited JSON (NDJSON / JSON Lines). Every object
+   * is written as a single line. The stream will be consumed but not closed.
+   *
+   * @param pObjects Stream providing the objects that should be serialized. The parameter must not be null.
+   * @param pWriter Writer to which the objects should be written. The parameter must not be null.
+   * @param pElementType Type of the objects that should be serialized. The parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public void writeNDJSON(Stream<?> pObjects, Writer pWriter, ObjectType pElementType)
+    throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pObjects, "pObjects");
+
+    this.writeNDJSON(pObjects.iterator(), pWriter, pElementType);
+  }
+
+  /**
+   * Method serializes the objects of the passed iterator as newline delimited JSON (NDJSON / JSON Lines). Every object
+   * is written as a single line. Objects are written one after the other so that the iterator may also be backed by a
+   * lazy source like a database cursor.
+   *
+   * @param pObjects Iterator providing the objects that should be serialized. The parameter must not be null.
+   * @param pFile File to which the objects should be written. The parameter must not be null.
+   * @param pElementType Type of the objects that should be serialized. The parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public void writeNDJSON(Iterator<?> pObjects, File pFile, ObjectType pElementType)
+    throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pObjects, "pObjects");
+    Check.checkInvalidParameterNull(pFile, "pFile");
+    Check.checkInvalidParameterNull(pElementType, "pElementType");
+
+    try {
+      ObjectWriter lWriter = this.getNDJSONWriter(pElementType);
+      this.writeNDJSON(pObjects, lWriter.createGenerator(pFile, JsonEncoding.UTF8), lWriter);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_SERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method serializes the passed objects as newline delimited JSON (NDJSON / JSON Lines). Every object is written as a
+   * single line.
+   *
+   * @param pObjects Objects that should be serialized. The parameter must not be null.
+   * @param pFile File to which the objects should be written. The parameter must not be null.
+   * @param pElementType Type of the objects that should be serialized. The parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public void writeNDJSON(Iterable<?> pObjects, File pFile, ObjectType pElementType)
+    throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pObjects, "pObjects");
+
+    this.writeNDJSON(pObjects.iterator(), pFile, pElementType);
+  }
+
+  /**
+   * Method serializes the elements of the passed stream as newline delimited JSON (NDJSON / JSON Lines). Every object
+   * is written as a single line. The stream will be consumed but not closed.
+   *
+   * @param pObjects Stream providing the objects that should be serialized. The parameter must not be null.
+   * @param pFile File to which the objects should be written. The parameter must not be null.
+   * @param pElementType Type of the objects that should be serialized. The parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public void writeNDJSON(Stream<?> pObjects, File pFile, ObjectType pElementType)
+    throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pObjects, "pObjects");
+
+    this.writeNDJSON(pObjects.iterator(), pFile, pElementType);
+  }
+
+  /**
+   * Method returns an iterator that deserializes newline delimited JSON (NDJSON / JSON Lines) from the passed stream
+   * line by line.
+   *
+   * @param pInputStream Stream from which the data should be read. The parameter must not be null.
+   * @param pElementType Type of the objects that are contained in the data. The parameter must not be null.
+   * @return {@link JSONIterator} Iterator over all objects. The iterator has to be closed if not all objects are read.
+   * The method never returns null.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public <T> JSONIterator<T> readNDJSON(InputStream pInputStream, ObjectType pElementType) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pInputStream, "pInputStream");
+    Check.checkInvalidParameterNull(pElementType, "pElementType");
+
+    try {
+      ObjectReader lReader = this.getReader(pElementType);
+      return this.readNDJSON(lReader, lReader.createParser(pInputStream));
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method returns an iterator that deserializes newline delimited JSON (NDJSON / JSON Lines) from the passed reader
+   * line by line.
+   *
+   * @param pReader Reader from which the data should be read. The parameter must not be null.
+   * @param pElementType Type of the objects that are contained in the data. The parameter must not be null.
+   * @return {@link JSONIterator} Iterator over all objects. The iterator has to be closed if not all objects are read.
+   * The method never returns null.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public <T> JSONIterator<T> readNDJSON(Reader pReader, ObjectType pElementType) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pReader, "pReader");
+    Check.checkInvalidParameterNull(pElementType, "pElementType");
+
+    try {
+      ObjectReader lReader = this.getReader(pElementType);
+      return this.readNDJSON(lReader, lReader.createParser(pReader));
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method returns an iterator that deserializes newline delimited JSON (NDJSON / JSON Lines) from the passed file
+   * line by line.
+   *
+   * @param pFile File from which the data should be read. The parameter must not be null.
+   * @param pElementType Type of the objects that are contained in the data. The parameter must not be null.
+   * @return {@link JSONIterator} Iterator over all objects. The iterator has to be closed if not all objects are read.
+   * The method never returns null.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public <T> JSONIterator<T> readNDJSON(File pFile, ObjectType pElementType) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pFile, "pFile");
+    Check.checkInvalidParameterNull(pElementType, "pElementType");
+
+    try {
+      ObjectReader lReader = this.getReader(pElementType);
+      return this.readNDJSON(lReader, lReader.createParser(pFile));
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method returns an iterator that reads all root level values of the passed parser. In contrast to
+   * {@link ObjectReader#readValues(InputStream)} a leading array is not unwrapped so that every line may also contain
+   * an array or collection.
+   *
+   * @param pReader Reader that should be used to deserialize the values. The parameter must not be null.
+   * @param pParser Parser from which the values should be read. The parameter must not be null.
+   * @return {@link JSONIterator} Iterator over all values. The iterator owns the parser. The method never returns null.
+   */
+  private <T> JSONIterator<T> readNDJSON(ObjectReader pReader, JsonParser pParser) {
+    try {
+      return new JSONIterator<>(pReader.readValues(pParser), pParser);
+    }
+    catch (RuntimeException e) {
+      pParser.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Method deserializes the passed byte arrays concurrently using the common fork join pool. Every byte array is
+   * deserialized independently into an object of the passed type.
+   *
+   * @param pPayloads Payloads that should be deserialized. The parameter must not be null.
+   * @param pResultType Type of the objects that should be created. The parameter must not be null.
+   * @return {@link BatchReadResult} Result containing the objects in the order of the payloads as well as failures per
+   * payload. The method never returns null.
+   */
+  public <T> BatchReadResult<T> readAllBytes(List<byte[]> pPayloads, Class<T> pResultType) {
+    return this.readAllBytes(pPayloads, pResultType, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Method deserializes the passed byte arrays concurrently using the passed executor. Every byte array is deserialized
+   * independently into an object of the passed type.
+   *
+   * @param pPayloads Payloads that should be deserialized. The parameter must not be null.
+   * @param pResultType Type of the objects that should be created. The parameter must not be null.
+   * @param pExecutor Executor that should be used e.g. a fork join pool or an executor using virtual threads. The
+   * parameter must not be null.
+   * @return {@link BatchReadResult} Result containing the objects in the order of the payloads as well as failures per
+   * payload. The method never returns null.
+   */
+  public <T> BatchReadResult<T> readAllBytes(List<byte[]> pPayloads, Class<T> pResultType, Executor pExecutor) {
+    // Check parameters
+    Check.checkInvalidParameterNull(pPayloads, "pPayloads");
+    Check.checkInvalidParameterNull(pResultType, "pResultType");
+    Check.checkInvalidParameterNull(pExecutor, "pExecutor");
+
+    return this.readAll(pPayloads, this.getReader(pResultType), ObjectReader::readValue, pExecutor);
+  }
+
+  /**
+   * Method deserializes the passed byte arrays concurrently using the common fork join pool. Every byte array is
+   * deserialized independently into an object of the passed type.
+   *
+   * @param pPayloads Payloads that should be deserialized. The parameter must not be null.
+   * @param pResultType Type of the objects that should be created. The parameter must not be null.
+   * @return {@link BatchReadResult} Result containing the objects in the order of the payloads as well as failures per
+   * payload. The method never returns null.
+   */
+  public <T> BatchReadResult<T> readAllBytes(List<byte[]> pPayloads, ObjectType pResultType) {
+    return this.readAllBytes(pPayloads, pResultType, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Method deserializes the passed byte arrays concurrently using the passed executor. Every byte array is deserialized
+   * independently into an object of the passed type.
+   *
+   * @param pPayloads Payloads that should be deserialized. The parameter must not be null.
+   * @param pResultType Type of the objects that should be created. The parameter must not be null.
+   * @param pExecutor Executor that should be used e.g. a fork join pool or an executor using virtual threads. The
+   * parameter must not be null.
+   * @return {@link BatchReadResult} Result containing the objects in the order of the payloads as well as failures per
+   * payload. The method never returns null.
+   */
+  public <T> BatchReadResult<T> readAllBytes(List<byte[]> pPayloads, ObjectType pResultType, Executor pExecutor) {
+    // Check parameters
+    Check.checkInvalidParameterNull(pPayloads, "pPayloads");
+    Check.checkInvalidParameterNull(pResultType, "pResultType");
+    Check.checkInvalidParameterNull(pExecutor, "pExecutor");
+
+    return this.readAll(pPayloads, this.getReader(pResultType), ObjectReader::readValue, pExecutor);
+  }
+
+  /**
+   * Method deserializes the passed strings concurrently using the common fork join pool. Every string is
+   * deserialized independently into an object of the passed type.
+   *
+   * @param pPayloads Payloads that should be deserialized. The parameter must not be null.
+   * @param pResultType Type of the objects that should be created. The parameter must not be null.
+   * @return {@link BatchReadResult} Result containing the objects in the order of the payloads as well as failures per
+   * payload. The method never returns null.
+   */
+  public <T> BatchReadResult<T> readAllStrings(List<String> pPayloads, Class<T> pResultType) {
+    return this.readAllStrings(pPayloads, pResultType, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Method deserializes the passed strings concurrently using the passed executor. Every string is deserialized
+   * independently into an object of the passed type.
+   *
+   * @param pPayloads Payloads that should be deserialized. The parameter must not be null.
+   * @param pResultType Type of the objects that should be created. The parameter must not be null.
+   * @param pExecutor Executor that should be used e.g. a fork join pool or an executor using virtual threads. The
+   * parameter must not be null.
+   * @return {@link BatchReadResult} Result containing the objects in the order of the payloads as well as failures per
+   * payload. The method never returns null.
+   */
+  public <T> BatchReadResult<T> readAllStrings(List<String> pPayloads, Class<T> pResultType, Executor pExecutor) {
+    // Check parameters
+    Check.checkInvalidParameterNull(pPayloads, "pPayloads");
+    Check.checkInvalidParameterNull(pResultType, "pResultType");
+    Check.checkInvalidParameterNull(pExecutor, "pExecutor");
+
+    return this.readAll(pPayloads, this.getReader(pResultType), ObjectReader::readValue, pExecutor);
+  }
+
+  /**
+   * Method deserializes the passed strings concurrently using the common fork join pool. Every string is
+   * deserialized independently into an object of the passed type.
+   *
+   * @param pPayloads Payloads that should be deserialized. The parameter must not be null.
+   * @param pResultType Type of the objects that should be created. The parameter must not be null.
+   * @return {@link BatchReadResult} Result containing the objects in the order of the payloads as well as failures per
+   * payload. The method never returns null.
+   */
+  public <T> BatchReadResult<T> readAllStrings(List<String> pPayloads, ObjectType pResultType) {
+    return this.readAllStrings(pPayloads, pResultType, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Method deserializes the passed strings concurrently using the passed executor. Every string is deserialized
+   * independently into an object of the passed type.
+   *
+   * @param pPayloads Payloads that should be deserialized. The parameter must not be null.
+   * @param pResultType Type of the objects that should be created. The parameter must not be null.
+   * @param pExecutor Executor that should be used e.g. a fork join pool or an executor using virtual threads. The
+   * parameter must not be null.
+   * @return {@link BatchReadResult} Result containing the objects in the order of the payloads as well as failures per
+   * payload. The method never returns null.
+   */
+  public <T> BatchReadResult<T> readAllStrings(List<String> pPayloads, ObjectType pResultType, Executor pExecutor) {
+    // Check parameters
+    Check.checkInvalidParameterNull(pPayloads, "pPayloads");
+    Check.checkInvalidParameterNull(pResultType, "pResultType");
+    Check.checkInvalidParameterNull(pExecutor, "pExecutor");
+
+    return this.readAll(pPayloads, this.getReader(pResultType), ObjectReader::readValue, pExecutor);
+  }
+
+  /**
+   * Method deserializes the JSON array from the passed byte array into a collection. Elements of the array are
+   * deserialized concurrently using the common fork join pool.
+   *
+   * @see #readToCollectionParallel(byte[], Class, Class, Executor)
+   */
+  public <T extends Collection<?>> T readToCollectionParallel(byte[] pBytes, Class<T> pCollectionType,
+      Class<?> pResultType)
+    throws JEAFSystemException {
+    return this.readToCollectionParallel(pBytes, pCollectionType, pResultType, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Method deserializes the JSON array from the passed byte array into a collection. Elements of the array are
+   * deserialized concurrently using the common fork join pool.
+   *
+   * @see #readToCollectionParallel(byte[], Class, ObjectType, Executor)
+   */
+  public <T extends Collection<?>> T readToCollectionParallel(byte[] pBytes, Class<T> pCollectionType,
+      ObjectType pObjectType)
+    throws JEAFSystemException {
+    return this.readToCollectionParallel(pBytes, pCollectionType, pObjectType, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Method deserializes the JSON array from the passed byte array into a collection. Elements of the array are
+   * deserialized concurrently using the passed executor.
+   *
+   * To find the elements the UTF-8 encoded content is scanned for the boundaries of the elements first. Afterwards the
+   * elements are deserialized on multiple threads and added to the collection in the order of the array. As elements
+   * are deserialized independently of each other, this operation must not be used for elements that reference object
+   * ids of other elements. If the content is not a JSON array, e.g. <code>null</code>, it is deserialized sequentially.
+   *
+   * @param pBytes Byte array from which the data should be read. The parameter must not be null.
+   * @param pCollectionType Type of the collection that should be created. The parameter must not be null.
+   * @param pResultType Type of the elements that should be created. The parameter must not be null.
+   * @param pExecutor Executor that should be used to deserialize the elements. The parameter must not be null.
+   * @return T Collection with all elements of the array. The method may return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public <T extends Collection<?>> T readToCollectionParallel(byte[] pBytes, Class<T> pCollectionType,
+      Class<?> pResultType, Executor pExecutor)
+    throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pBytes, "pBytes");
+    Check.checkInvalidParameterNull(pCollectionType, "pCollectionType");
+    Check.checkInvalidParameterNull(pResultType, "pResultType");
+    Check.checkInvalidParameterNull(pExecutor, "pExecutor");
+
+    try {
+      ObjectReader lCollectionReader = this.getCollectionReader(pCollectionType, pResultType);
+      return this.readToCollectionParallel(ByteBuffer.wrap(pBytes), lCollectionReader, this.getReader(pResultType),
+          pExecutor);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method deserializes the JSON array from the passed byte array into a collection. Elements of the array are
+   * deserialized concurrently using the passed executor.
+   *
+   * To find the elements the UTF-8 encoded content is scanned for the boundaries of the elements first. Afterwards the
+   * elements are deserialized on multiple threads and added to the collection in the order of the array. As elements
+   * are deserialized independently of each other, this operation must not be used for elements that reference object
+   * ids of other elements. If the content is not a JSON array, e.g. <code>null</code>, it is deserialized sequentially.
+   *
+   * @param pBytes Byte array from which the data should be read. The parameter must not be null.
+   * @param pCollectionType Type of the collection that should be created. The parameter must not be null.
+   * @param pObjectType Type of the elements that should be created. The parameter must not be null.
+   * @param pExecutor Executor that should be used to deserialize the elements. The parameter must not be null.
+   * @return T Collection with all elements of the array. The method may return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public <T extends Collection<?>> T readToCollectionParallel(byte[] pBytes, Class<T> pCollectionType,
+      ObjectType pObjectType, Executor pExecutor)
+    throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pBytes, "pBytes");
+    Check.checkInvalidParameterNull(pCollectionType, "pCollectionType");
+    Check.checkInvalidParameterNull(pObjectType, "pObjectType");
+    Check.checkInvalidParameterNull(pExecutor, "pExecutor");
+
+    try {
+      ObjectReader lCollectionReader = this.getCollectionReader(pCollectionType, pObjectType);
+      return this.readToCollectionParallel(ByteBuffer.wrap(pBytes), lCollectionReader, this.getReader(pObjectType),
+          pExecutor);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method deserializes the JSON array from the passed file into a collection. Elements of the array are deserialized
+   * concurrently using the common fork join pool.
+   *
+   * @see #readToCollectionParallel(File, Class, Class, Executor)
+   */
+  public <T extends Collection<?>> T readToCollectionParallel(File pFile, Class<T> pCollectionType,
+      Class<?> pResultType)
+    throws JEAFSystemException {
+    return this.readToCollectionParallel(pFile, pCollectionType, pResultType, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Method deserializes the JSON array from the passed file into a collection. Elements of the array are deserialized
+   * concurrently using the common fork join pool.
+   *
+   * @see #readToCollectionParallel(File, Class, ObjectType, Executor)
+   */
+  public <T extends Collection<?>> T readToCollectionParallel(File pFile, Class<T> pCollectionType,
+      ObjectType pObjectType)
+    throws JEAFSystemException {
+    return this.readToCollectionParallel(pFile, pCollectionType, pObjectType, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Method deserializes the JSON array from the passed file into a collection. Elements of the array are deserialized
+   * concurrently using the passed executor. The file is scanned through a window and the chunks of elements are memory
+   * mapped. This way also files of 2 GB or more are deserialized in parallel.
+   *
+   * To find the elements the UTF-8 encoded content is scanned for the boundaries of the elements first. Afterwards the
+   * elements are deserialized on multiple threads and added to the collection in the order of the array. As elements
+   * are deserialized independently of each other, this operation must not be used for elements that reference object
+   * ids of other elements. If the content is not a JSON array, e.g. <code>null</code>, it is deserialized sequentially.
+   *
+   * @param pFile File from which the data should be read. The parameter must not be null.
+   * @param pCollectionType Type of the collection that should be created. The parameter must not be null.
+   * @param pResultType Type of the elements that should be created. The parameter must not be null.
+   * @param pExecutor Executor that should be used to deserialize the elements. The parameter must not be null.
+   * @return T Collection with all elements of the array. The method may return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public <T extends Collection<?>> T readToCollectionParallel(File pFile, Class<T> pCollectionType,
+      Class<?> pResultType, Executor pExecutor)
+    throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pFile, "pFile");
+    Check.checkInvalidParameterNull(pCollectionType, "pCollectionType");
+    Check.checkInvalidParameterNull(pResultType, "pResultType");
+    Check.checkInvalidParameterNull(pExecutor, "pExecutor");
+
+    ObjectReader lCollectionReader = this.getCollectionReader(pCollectionType, pResultType);
+    try (FileChannel lChannel = FileChannel.open(pFile.toPath(), StandardOpenOption.READ)) {
+      return this.readToCollectionParallel(pFile, lChannel, lCollectionReader, this.getReader(pResultType), pExecutor);
+    }
+    catch (IOException | RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method deserializes the JSON array from the passed file into a collection. Elements of the array are deserialized
+   * concurrently using the passed executor. The file is scanned through a window and the chunks of elements are memory
+   * mapped. This way also files of 2 GB or more are deserialized in parallel.
+   *
+   * To find the elements the UTF-8 encoded content is scanned for the boundaries of the elements first. Afterwards the
+   * elements are deserialized on multiple threads and added to the collection in the order of the array. As elements
+   * are deserialized independently of each other, this operation must not be used for elements that reference object
+   * ids of other elements. If the content is not a JSON array, e.g. <code>null</code>, it is deserialized sequentially.
+   *
+   * @param pFile File from which the data should be read. The parameter must not be null.
+   * @param pCollectionType Type of the collection that should be created. The parameter must not be null.
+   * @param pObjectType Type of the elements that should be created. The parameter must not be null.
+   * @param pExecutor Executor that should be used to deserialize the elements. The parameter must not be null.
+   * @return T Collection with all elements of the array. The method may return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public <T extends Collection<?>> T readToCollectionParallel(File pFile, Class<T> pCollectionType,
+      ObjectType pObjectType, Executor pExecutor)
+    throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pFile, "pFile");
+    Check.checkInvalidParameterNull(pCollectionType, "pCollectionType");
+    Check.checkInvalidParameterNull(pObjectType, "pObjectType");
+    Check.checkInvalidParameterNull(pExecutor, "pExecutor");
+
+    ObjectReader lCollectionReader = this.getCollectionReader(pCollectionType, pObjectType);
+    try (FileChannel lChannel = FileChannel.open(pFile.toPath(), StandardOpenOption.READ)) {
+      return this.readToCollectionParallel(pFile, lChannel, lCollectionReader, this.getReader(pObjectType), pExecutor);
+    }
+    catch (IOException | RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method serializes the passed collection as JSON array to the passed stream. Elements are serialized concurrently
+   * using the common fork join pool.
+   *
+   * @see #writeObjectsParallel(Collection, OutputStream, Class, Executor)
+   */
+  public void writeObjectsParallel(Collection<?> pObjects, OutputStream pOutputStream, Class<?> pObjectType)
+    throws JEAFSystemException {
+    this.writeObjectsParallel(pObjects, pOutputStream, pObjectType, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Method serializes the passed collection as JSON array to the passed stream. The collection is split into chunks
+   * that are serialized concurrently into their own buffers using the passed executor. Afterwards the buffers are
+   * written to the stream in the order of the collection. The number of chunks that are processed at the same time is
+   * limited so that memory consumption does not depend on the size of the collection. The stream will be flushed but
+   * not closed.
+   *
+   * As chunks are serialized independently of each other, this operation must not be used for elements that share
+   * objects with object ids.
+   *
+   * @param pObjects Collection of objects that should be serialized as JSON. The parameter may be null.
+   * @param pOutputStream Stream to which the objects should be written. The parameter must not be null.
+   * @param pObjectType {@link Class} object representing the type of objects that are inside the collection. The
+   * parameter must not be null.
+   * @param pExecutor Executor that should be used to serialize the chunks. The parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public void writeObjectsParallel(Collection<?> pObjects, OutputStream pOutputStream, Class<?> pObjectType,
+      Executor pExecutor)
+    throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pOutputStream, "pOutputStream");
+    Check.checkInvalidParameterNull(pObjectType, "pObjectType");
+    Check.checkInvalidParameterNull(pExecutor, "pExecutor");
+
+    try {
+      if (pObjects != null) {
+        this.writeArrayParallel(pObjects.iterator(), pOutputStream, this.getSequenceWriter(pObjectType), pExecutor);
+      }
+      // Null is written directly so that the stream is not closed in this case either.
+      else {
+        pOutputStream.write(JSON_NULL);
+        pOutputStream.flush();
+      }
+    }
+    catch (IOException | RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_SERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method serializes the passed collection as JSON array. Elements are serialized concurrently using the common fork
+   * join pool.
+   *
+   * @see #writeObjectsToBytesParallel(Collection, Class, Executor)
+   */
+  public byte[] writeObjectsToBytesParallel(Collection<?> pObjects, Class<?> pObjectType) throws JEAFSystemException {
+    return this.writeObjectsToBytesParallel(pObjects, pObjectType, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Method serializes the passed collection as JSON array. Elements are serialized concurrently using the passed
+   * executor.
+   *
+   * @param pObjects Collection of objects that should be serialized as JSON. The parameter may be null.
+   * @param pObjectType {@link Class} object representing the type of objects that are inside the collection. The
+   * parameter must not be null.
+   * @param pExecutor Executor that should be used to serialize the chunks. The parameter must not be null.
+   * @return byte[] JSON serialized collection as byte array. The method never returns null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   * @see #writeObjectsParallel(Collection, OutputStream, Class, Executor)
+   */
+  public byte[] writeObjectsToBytesParallel(Collection<?> pObjects, Class<?> pObjectType, Executor pExecutor)
+    throws JEAFSystemException {
+    ByteBufferOutputStream lOutputStream = new ByteBufferOutputStream(BYTE_BUFFER_INITIAL_SIZE);
+    this.writeObjectsParallel(pObjects, lOutputStream, pObjectType, pExecutor);
+    return lOutputStream.toByteArray();
+  }
+
+  /**
+   * Method deserializes the data from the passed stream into the passed existing object. Properties that are contained
+   * in the JSON data overwrite the current values of the object. All other properties keep their values. This way
+   * long living objects can be refreshed without creating a new object graph.
+   *
+   * Objects that are created using builders or creators can not be updated.
+   *
+   * @param pInputStream Stream from which the data should be read. The parameter must not be null.
+   * @param pExistingObject Object that should be updated. The parameter must not be null.
+   * @return T Updated object. This is the passed object unless null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public <T> T readInto(InputStream pInputStream, T pExistingObject) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pInputStream, "pInputStream");
+    Check.checkInvalidParameterNull(pExistingObject, "pExistingObject");
+
+    try {
+      return this.getReader(pExistingObject.getClass()).withValueToUpdate(pExistingObject).readValue(pInputStream);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method deserializes the data from the passed byte array into the passed existing object. Properties that are
+   * contained in the JSON data overwrite the current values of the object. All other properties keep their values. This
+   * way long living objects can be refreshed without creating a new object graph.
+   *
+   * Objects that are created using builders or creators can not be updated.
+   *
+   * @param pBytes Byte array from which the data should be read. The parameter must not be null.
+   * @param pExistingObject Object that should be updated. The parameter must not be null.
+   * @return T Updated object. This is the passed object unless null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public <T> T readInto(byte[] pBytes, T pExistingObject) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pBytes, "pBytes");
+    Check.checkInvalidParameterNull(pExistingObject, "pExistingObject");
+
+    try {
+      return this.getReader(pExistingObject.getClass()).withValueToUpdate(pExistingObject).readValue(pBytes);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method deserializes the data from the passed string into the passed existing object. Properties that are contained
+   * in the JSON data overwrite the current values of the object. All other properties keep their values. This way
+   * long living objects can be refreshed without creating a new object graph.
+   *
+   * Objects that are created using builders or creators can not be updated.
+   *
+   * @param pString String from which the data should be read. The parameter must not be null.
+   * @param pExistingObject Object that should be updated. The parameter must not be null.
+   * @return T Updated object. This is the passed object unless null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public <T> T readInto(String pString, T pExistingObject) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pString, "pString");
+    Check.checkInvalidParameterNull(pExistingObject, "pExistingObject");
+
+    try {
+      return this.getReader(pExistingObject.getClass()).withValueToUpdate(pExistingObject).readValue(pString);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method deserializes the JSON array from the passed stream and appends its elements to the passed existing
+   * collection.
+   *
+   * @param pInputStream Stream from which the data should be read. The parameter must not be null.
+   * @param pCollection Collection to which the elements should be added. The parameter must not be null.
+   * @param pResultType Type of the elements that should be created. The parameter must not be null.
+   * @return T Collection to which the elements were added. This is the passed collection unless null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends Collection<?>> T readIntoCollection(InputStream pInputStream, T pCollection, Class<?> pResultType)
+    throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pInputStream, "pInputStream");
+    Check.checkInvalidParameterNull(pCollection, "pCollection");
+    Check.checkInvalidParameterNull(pResultType, "pResultType");
+
+    try {
+      Class<? extends Collection<?>> lCollectionType = (Class<? extends Collection<?>>) pCollection.getClass();
+      ObjectReader lReader = this.getCollectionReader(lCollectionType, pResultType).withValueToUpdate(pCollection);
+      return lReader.readValue(pInputStream);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method deserializes the JSON array from the passed byte array and appends its elements to the passed existing
+   * collection.
+   *
+   * @param pBytes Byte array from which the data should be read. The parameter must not be null.
+   * @param pCollection Collection to which the elements should be added. The parameter must not be null.
+   * @param pResultType Type of the elements that should be created. The parameter must not be null.
+   * @return T Collection to which the elements were added. This is the passed collection unless null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends Collection<?>> T readIntoCollection(byte[] pBytes, T pCollection, Class<?> pResultType)
+    throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pBytes, "pBytes");
+    Check.checkInvalidParameterNull(pCollection, "pCollection");
+    Check.checkInvalidParameterNull(pResultType, "pResultType");
+
+    try {
+      Class<? extends Collection<?>> lCollectionType = (Class<? extends Collection<?>>) pCollection.getClass();
+      return this.getCollectionReader(lCollectionType, pResultType).withValueToUpdate(pCollection).readValue(pBytes);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method deserializes the JSON array from the passed string and appends its elements to the passed existing
+   * collection.
+   *
+   * @param pString String from which the data should be read. The parameter must not be null.
+   * @param pCollection Collection to which the elements should be added. The parameter must not be null.
+   * @param pResultType Type of the elements that should be created. The parameter must not be null.
+   * @return T Collection to which the elements were added. This is the passed collection unless null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends Collection<?>> T readIntoCollection(String pString, T pCollection, Class<?> pResultType)
+    throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pString, "pString");
+    Check.checkInvalidParameterNull(pCollection, "pCollection");
+    Check.checkInvalidParameterNull(pResultType, "pResultType");
+
+    try {
+      Class<? extends Collection<?>> lCollectionType = (Class<? extends Collection<?>>) pCollection.getClass();
+      return this.getCollectionReader(lCollectionType, pResultType).withValueToUpdate(pCollection).readValue(pString);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method deserializes only the part of the JSON document from the passed stream that is addressed by the passed
+   * JSON pointer. All other parts of the document are skipped on token level without binding them and parsing stops as
+   * soon as the addressed part was read.
+   *
+   * @param pInputStream Stream from which the data should be read. The parameter must not be null.
+   * @param pPath JSON pointer to the part of the document that should be deserialized, e.g.
+   * <code>/header/correlationId</code>. The parameter must not be null.
+   * @param pResultType Type of the object that should be created. The parameter must not be null.
+   * @return T Object that was created from the addressed part of the document. The method returns null if the document
+   * does not contain the addressed part or if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public <T> T read(InputStream pInputStream, JsonPointer pPath, Class<T> pResultType) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pInputStream, "pInputStream");
+    Check.checkInvalidParameterNull(pPath, "pPath");
+    Check.checkInvalidParameterNull(pResultType, "pResultType");
+
+    try {
+      ObjectReader lReader = this.getReader(pResultType);
+      return this.read(lReader.createParser(pInputStream), pPath, lReader);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method deserializes only the part of the JSON document from the passed stream that is addressed by the passed
+   * JSON pointer.
+   *
+   * @param pInputStream Stream from which the data should be read. The parameter must not be null.
+   * @param pPath JSON pointer to the part of the document that should be deserialized. The parameter must not be null.
+   * @param pObjectType Type of the object that should be created. The parameter must not be null.
+   * @return T Object that was created from the addressed part of the document. The method returns null if the document
+   * does not contain the addressed part or if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   * @see #read(InputStream, JsonPointer, Class)
+   */
+  public <T> T read(InputStream pInputStream, JsonPointer pPath, ObjectType pObjectType) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pInputStream, "pInputStream");
+    Check.checkInvalidParameterNull(pPath, "pPath");
+    Check.checkInvalidParameterNull(pObjectType, "pObjectType");
+
+    try {
+      ObjectReader lReader = this.getReader(pObjectType);
+      return this.read(lReader.createParser(pInputStream), pPath, lReader);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method deserializes only the part of the JSON document from the passed byte array that is addressed by the passed
+   * JSON pointer. All other parts of the document are skipped on token level without binding them and parsing stops as
+   * soon as the addressed part was read.
+   *
+   * @param pBytes Byte array from which the data should be read. The parameter must not be null.
+   * @param pPath JSON pointer to the part of the document that should be deserialized, e.g.
+   * <code>/header/correlationId</code>. The parameter must not be null.
+   * @param pResultType Type of the object that should be created. The parameter must not be null.
+   * @return T Object that was created from the addressed part of the document. The method returns null if the document
+   * does not contain the addressed part or if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public <T> T read(byte[] pBytes, JsonPointer pPath, Class<T> pResultType) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pBytes, "pBytes");
+    Check.checkInvalidParameterNull(pPath, "pPath");
+    Check.checkInvalidParameterNull(pResultType, "pResultType");
+
+    try {
+      ObjectReader lReader = this.getReader(pResultType);
+      return this.read(lReader.createParser(pBytes), pPath, lReader);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method deserializes only the part of the JSON document from the passed byte array that is addressed by the passed
+   * JSON pointer.
+   *
+   * @param pBytes Byte array from which the data should be read. The parameter must not be null.
+   * @param pPath JSON pointer to the part of the document that should be deserialized. The parameter must not be null.
+   * @param pObjectType Type of the object that should be created. The parameter must not be null.
+   * @return T Object that was created from the addressed part of the document. The method returns null if the document
+   * does not contain the addressed part or if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   * @see #read(byte[], JsonPointer, Class)
+   */
+  public <T> T read(byte[] pBytes, JsonPointer pPath, ObjectType pObjectType) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pBytes, "pBytes");
+    Check.checkInvalidParameterNull(pPath, "pPath");
+    Check.checkInvalidParameterNull(pObjectType, "pObjectType");
+
+    try {
+      ObjectReader lReader = this.getReader(pObjectType);
+      return this.read(lReader.createParser(pBytes), pPath, lReader);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method deserializes only the part of the JSON document from the passed string that is addressed by the passed
+   * JSON pointer. All other parts of the document are skipped on token level without binding them and parsing stops as
+   * soon as the addressed part was read.
+   *
+   * @param pString String from which the data should be read. The parameter must not be null.
+   * @param pPath JSON pointer to the part of the document that should be deserialized, e.g.
+   * <code>/header/correlationId</code>. The parameter must not be null.
+   * @param pResultType Type of the object that should be created. The parameter must not be null.
+   * @return T Object that was created from the addressed part of the document. The method returns null if the document
+   * does not contain the addressed part or if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public <T> T read(String pString, JsonPointer pPath, Class<T> pResultType) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pString, "pString");
+    Check.checkInvalidParameterNull(pPath, "pPath");
+    Check.checkInvalidParameterNull(pResultType, "pResultType");
+
+    try {
+      ObjectReader lReader = this.getReader(pResultType);
+      return this.read(lReader.createParser(pString), pPath, lReader);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method deserializes only the part of the JSON document from the passed string that is addressed by the passed
+   * JSON pointer.
+   *
+   * @param pString String from which the data should be read. The parameter must not be null.
+   * @param pPath JSON pointer to the part of the document that should be deserialized. The parameter must not be null.
+   * @param pObjectType Type of the object that should be created. The parameter must not be null.
+   * @return T Object that was created from the addressed part of the document. The method returns null if the document
+   * does not contain the addressed part or if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   * @see #read(String, JsonPointer, Class)
+   */
+  public <T> T read(String pString, JsonPointer pPath, ObjectType pObjectType) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pString, "pString");
+    Check.checkInvalidParameterNull(pPath, "pPath");
+    Check.checkInvalidParameterNull(pObjectType, "pObjectType");
+
+    try {
+      ObjectReader lReader = this.getReader(pObjectType);
+      return this.read(lReader.createParser(pString), pPath, lReader);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method deserializes the JSON data from the passed stream but only binds the properties that are selected by the
+   * passed projection. All other properties are skipped on token level without creating values for them. Properties of
+   * the created object that are not selected keep their default values.
+   *
+   * @param pInputStream Stream from which the data should be read. The parameter must not be null.
+   * @param pProjection Projection defining the properties that should be deserialized. The parameter must not be null.
+   * @param pResultType Type of the object that should be created. The parameter must not be null.
+   * @return T Object that was created from the JSON data. The method may return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public <T> T read(InputStream pInputStream, PropertyProjection pProjection, Class<T> pResultType)
+    throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pInputStream, "pInputStream");
+    Check.checkInvalidParameterNull(pProjection, "pProjection");
+    Check.checkInvalidParameterNull(pResultType, "pResultType");
+
+    try {
+      ObjectReader lReader = this.getReader(pResultType);
+      return this.read(pProjection.createParser(lReader.createParser(pInputStream)), lReader);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method deserializes the JSON data from the passed stream but only binds the properties that are selected by the
+   * passed projection.
+   *
+   * @param pInputStream Stream from which the data should be read. The parameter must not be null.
+   * @param pProjection Projection defining the properties that should be deserialized. The parameter must not be null.
+   * @param pObjectType Type of the object that should be created. The parameter must not be null.
+   * @return T Object that was created from the JSON data. The method may return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   * @see #read(InputStream, PropertyProjection, Class)
+   */
+  public <T> T read(InputStream pInputStream, PropertyProjection pProjection, ObjectType pObjectType)
+    throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pInputStream, "pInputStream");
+    Check.checkInvalidParameterNull(pProjection, "pProjection");
+    Check.checkInvalidParameterNull(pObjectType, "pObjectType");
+
+    try {
+      ObjectReader lReader = this.getReader(pObjectType);
+      return this.read(pProjection.createParser(lReader.createParser(pInputStream)), lReader);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method deserializes the JSON data from the passed byte array but only binds the properties that are selected by the
+   * passed projection. All other properties are skipped on token level without creating values for them. Properties of
+   * the created object that are not selected keep their default values.
+   *
+   * @param pBytes Byte array from which the data should be read. The parameter must not be null.
+   * @param pProjection Projection defining the properties that should be deserialized. The parameter must not be null.
+   * @param pResultType Type of the object that should be created. The parameter must not be null.
+   * @return T Object that was created from the JSON data. The method may return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public <T> T read(byte[] pBytes, PropertyProjection pProjection, Class<T> pResultType) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pBytes, "pBytes");
+    Check.checkInvalidParameterNull(pProjection, "pProjection");
+    Check.checkInvalidParameterNull(pResultType, "pResultType");
+
+    try {
+      ObjectReader lReader = this.getReader(pResultType);
+      return this.read(pProjection.createParser(lReader.createParser(pBytes)), lReader);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method deserializes the JSON data from the passed byte array but only binds the properties that are selected by the
+   * passed projection.
+   *
+   * @param pBytes Byte array from which the data should be read. The parameter must not be null.
+   * @param pProjection Projection defining the properties that should be deserialized. The parameter must not be null.
+   * @param pObjectType Type of the object that should be created. The parameter must not be null.
+   * @return T Object that was created from the JSON data. The method may return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   * @see #read(byte[], PropertyProjection, Class)
+   */
+  public <T> T read(byte[] pBytes, PropertyProjection pProjection, ObjectType pObjectType) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pBytes, "pBytes");
+    Check.checkInvalidParameterNull(pProjection, "pProjection");
+    Check.checkInvalidParameterNull(pObjectType, "pObjectType");
+
+    try {
+      ObjectReader lReader = this.getReader(pObjectType);
+      return this.read(pProjection.createParser(lReader.createParser(pBytes)), lReader);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method deserializes the JSON data from the passed string but only binds the properties that are selected by the
+   * passed projection. All other properties are skipped on token level without creating values for them. Properties of
+   * the created object that are not selected keep their default values.
+   *
+   * @param pString String from which the data should be read. The parameter must not be null.
+   * @param pProjection Projection defining the properties that should be deserialized. The parameter must not be null.
+   * @param pResultType Type of the object that should be created. The parameter must not be null.
+   * @return T Object that was created from the JSON data. The method may return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public <T> T read(String pString, PropertyProjection pProjection, Class<T> pResultType) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pString, "pString");
+    Check.checkInvalidParameterNull(pProjection, "pProjection");
+    Check.checkInvalidParameterNull(pResultType, "pResultType");
+
+    try {
+      ObjectReader lReader = this.getReader(pResultType);
+      return this.read(pProjection.createParser(lReader.createParser(pString)), lReader);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method deserializes the JSON data from the passed string but only binds the properties that are selected by the
+   * passed projection.
+   *
+   * @param pString String from which the data should be read. The parameter must not be null.
+   * @param pProjection Projection defining the properties that should be deserialized. The parameter must not be null.
+   * @param pObjectType Type of the object that should be created. The parameter must not be null.
+   * @return T Object that was created from the JSON data. The method may return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   * @see #read(String, PropertyProjection, Class)
+   */
+  public <T> T read(String pString, PropertyProjection pProjection, ObjectType pObjectType) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pString, "pString");
+    Check.checkInvalidParameterNull(pProjection, "pProjection");
+    Check.checkInvalidParameterNull(pObjectType, "pObjectType");
+
+    try {
+      ObjectReader lReader = this.getReader(pObjectType);
+      return this.read(pProjection.createParser(lReader.createParser(pString)), lReader);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method serializes the passed object to the passed stream. Only properties that belong to the passed view are
+   * written. Whether properties without any view are written depends on
+   * {@link tools.jackson.databind.MapperFeature#DEFAULT_VIEW_INCLUSION}, which is disabled by default in Jackson 3.
+   *
+   * @param pObject Object that should be serialized as JSON. The parameter may be null.
+   * @param pOutputStream Stream to which the object should be written. The parameter must not be null.
+   * @param pView View class as used in {@link com.fasterxml.jackson.annotation.JsonView}. The parameter must not be
+   * null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public void writeObjectWithView(Object pObject, OutputStream pOutputStream, Class<?> pView)
+    throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pOutputStream, "pOutputStream");
+    Check.checkInvalidParameterNull(pView, "pView");
+
+    try {
+      this.getFilteredWriter(pObject, pView).writeValue(pOutputStream, pObject);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_SERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method serializes the passed object to the passed writer. Only properties that belong to the passed view are
+   * written.
+   *
+   * @param pObject Object that should be serialized as JSON. The parameter may be null.
+   * @param pWriter Writer to which the object should be written. The parameter must not be null.
+   * @param pView View class as used in {@link com.fasterxml.jackson.annotation.JsonView}. The parameter must not be
+   * null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public void writeObjectWithView(Object pObject, Writer pWriter, Class<?> pView) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pWriter, "pWriter");
+    Check.checkInvalidParameterNull(pView, "pView");
+
+    try {
+      this.getFilteredWriter(pObject, pView).writeValue(pWriter, pObject);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_SERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method serializes the passed object as string. Only properties that belong to the passed view are written.
+   *
+   * @param pObject Object that should be serialized as JSON. The parameter may be null.
+   * @param pView View class as used in {@link com.fasterxml.jackson.annotation.JsonView}. The parameter must not be
+   * null.
+   * @return {@link String} JSON serialized object as String. The method never returns null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public String writeObjectToStringWithView(Object pObject, Class<?> pView) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pView, "pView");
+
+    try {
+      return this.getFilteredWriter(pObject, pView).writeValueAsString(pObject);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_SERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method serializes the passed object as byte[]. Only properties that belong to the passed view are written.
+   *
+   * @param pObject Object that should be serialized as JSON. The parameter may be null.
+   * @param pView View class as used in {@link com.fasterxml.jackson.annotation.JsonView}. The parameter must not be
+   * null.
+   * @return byte[] JSON serialized object as byte[]. The method never returns null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public byte[] writeObjectToBytesWithView(Object pObject, Class<?> pView) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pView, "pView");
+
+    try {
+      return this.getFilteredWriter(pObject, pView).writeValueAsBytes(pObject);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_SERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method serializes the passed object to the passed stream. Only the properties as defined by the passed selection
+   * are written.
+   *
+   * @param pObject Object that should be serialized as JSON. The parameter may be null.
+   * @param pOutputStream Stream to which the object should be written. The parameter must not be null.
+   * @param pSelection Selection of the properties that should be written. The parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public void writeObject(Object pObject, OutputStream pOutputStream, PropertySelection pSelection)
+    throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pOutputStream, "pOutputStream");
+    Check.checkInvalidParameterNull(pSelection, "pSelection");
+
+    try {
+      this.getFilteredWriter(pObject, pSelection).writeValue(pOutputStream, pObject);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_SERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method serializes the passed object to the passed writer. Only the properties as defined by the passed selection
+   * are written.
+   *
+   * @param pObject Object that should be serialized as JSON. The parameter may be null.
+   * @param pWriter Writer to which the object should be written. The parameter must not be null.
+   * @param pSelection Selection of the properties that should be written. The parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public void writeObject(Object pObject, Writer pWriter, PropertySelection pSelection) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pWriter, "pWriter");
+    Check.checkInvalidParameterNull(pSelection, "pSelection");
+
+    try {
+      this.getFilteredWriter(pObject, pSelection).writeValue(pWriter, pObject);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_SERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method serializes the passed object as string. Only the properties as defined by the passed selection are written.
+   *
+   * @param pObject Object that should be serialized as JSON. The parameter may be null.
+   * @param pSelection Selection of the properties that should be written. The parameter must not be null.
+   * @return {@link String} JSON serialized object as String. The method never returns null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public String writeObjectToString(Object pObject, PropertySelection pSelection) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pSelection, "pSelection");
+
+    try {
+      return this.getFilteredWriter(pObject, pSelection).writeValueAsString(pObject);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_SERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method serializes the passed object as byte[]. Only the properties as defined by the passed selection are written.
+   *
+   * @param pObject Object that should be serialized as JSON. The parameter may be null.
+   * @param pSelection Selection of the properties that should be written. The parameter must not be null.
+   * @return byte[] JSON serialized object as byte[]. The method never returns null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public byte[] writeObjectToBytes(Object pObject, PropertySelection pSelection) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pSelection, "pSelection");
+
+    try {
+      return this.getFilteredWriter(pObject, pSelection).writeValueAsBytes(pObject);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_SERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method creates a new non-blocking reader for objects of the passed type. Data can be fed to the reader in chunks as
+   * it arrives and every complete object is passed to the passed consumer. The returned reader is intended to be used
+   * for exactly one JSON document and is not thread-safe.
+   *
+   * @param pResultType Type of the objects that should be read. The parameter must not be null.
+   * @param pConsumer Consumer that receives all deserialized objects. The parameter must not be null.
+   * @return {@link NonBlockingJSONReader} Created reader. The method never returns null.
+   */
+  public <T> NonBlockingJSONReader<T> createNonBlockingReader(Class<T> pResultType, Consumer<? super T> pConsumer) {
+    // Check parameters
+    Check.checkInvalidParameterNull(pResultType, "pResultType");
+    Check.checkInvalidParameterNull(pConsumer, "pConsumer");
+
+    return new NonBlockingJSONReader<>(this.getReader(pResultType), pConsumer);
+  }
+
+  /**
+   * Method creates a new non-blocking reader for objects that are described by the passed {@link ObjectType}. Data can
+   * be fed to the reader in chunks as it arrives and every complete object is passed to the passed consumer. The
+   * returned reader is intended to be used for exactly one JSON document and is not thread-safe.
+   *
+   * @param pResultType Type of the objects that should be read. The parameter must not be null.
+   * @param pConsumer Consumer that receives all deserialized objects. The parameter must not be null.
+   * @return {@link NonBlockingJSONReader} Created reader. The method never returns null.
+   */
+  public <T> NonBlockingJSONReader<T> createNonBlockingReader(ObjectType pResultType, Consumer<? super T> pConsumer) {
+    // Check parameters
+    Check.checkInvalidParameterNull(pResultType, "pResultType");
+    Check.checkInvalidParameterNull(pConsumer, "pConsumer");
+
+    return new NonBlockingJSONReader<>(this.getReader(pResultType), pConsumer);
+  }
+
+  /**
+   * Method returns a prepared reader for objects of the passed type. The returned reader is thread-safe and should be
+   * reused whenever objects of the same type are read many times.
+   *
+   * @param pResultType Type of the objects that should be read. The parameter must not be null.
+   * @return {@link TypedJSONReader} Reader for the passed type. The method never returns null.
+   */
+  public <T> TypedJSONReader<T> readerFor(Class<T> pResultType) {
+    // Check parameters
+    Check.checkInvalidParameterNull(pResultType, "pResultType");
+
+    return new TypedJSONReader<>(this.getReader(pResultType));
+  }
+
+  /**
+   * Method returns a prepared reader for objects that are described by the passed {@link ObjectType}. The returned
+   * reader is thread-safe and should be reused whenever objects of the same type are read many times.
+   *
+   * @param pResultType Type of the objects that should be read. The parameter must not be null.
+   * @return {@link TypedJSONReader} Reader for the passed type. The method never returns null.
+   */
+  public <T> TypedJSONReader<T> readerFor(ObjectType pResultType) {
+    // Check parameters
+    Check.checkInvalidParameterNull(pResultType, "pResultType");
+
+    return new TypedJSONReader<>(this.getReader(pResultType));
+  }
+
+  /**
+   * Method returns a prepared writer for objects of the passed type. Objects are serialized as the passed type and not
+   * as their runtime type. The returned writer is thread-safe and should be reused whenever objects of the same type
+   * are written many times.
+   *
+   * @param pObjectType Type of the objects that should be written. The parameter must not be null.
+   * @return {@link TypedJSONWriter} Writer for the passed type. The method never returns null.
+   */
+  public <T> TypedJSONWriter<T> writerFor(Class<T> pObjectType) {
+    // Check parameters
+    Check.checkInvalidParameterNull(pObjectType, "pObjectType");
+
+    return new TypedJSONWriter<>(this.createWriter(ObjectTypeKey.of(pObjectType)));
+  }
+
+  /**
+   * Method returns a prepared writer for objects that are described by the passed {@link ObjectType}. The returned
+   * writer is thread-safe and should be reused whenever objects of the same type are written many times.
+   *
+   * @param pObjectType Type of the objects that should be written. The parameter must not be null.
+   * @return {@link TypedJSONWriter} Writer for the passed type. The method never returns null.
+   */
+  public <T> TypedJSONWriter<T> writerFor(ObjectType pObjectType) {
+    // Check parameters
+    Check.checkInvalidParameterNull(pObjectType, "pObjectType");
+
+    return new TypedJSONWriter<>(this.createWriter(ObjectTypeKey.of(pObjectType)));
+  }
+
+  /**
+   * Method returns the reader for objects of the passed type.
+   *
+   * @param pResultType Type of the objects that should be read. The parameter must not be null.
+   * @return {@link ObjectReader} Reader for the passed type. The method never returns null.
+   */
+  private ObjectReader getReader(Class<?> pResultType) {
+    return readerCache.get(ObjectTypeKey.of(pResultType), this::createReader);
+  }
+
+  /**
+   * Method returns the reader for objects that are described by the passed {@link ObjectType}.
+   *
+   * @param pObjectType Type of the objects that should be read. The parameter must not be null.
+   * @return {@link ObjectReader} Reader for the passed type. The method never returns null.
+   */
+  private ObjectReader getReader(ObjectType pObjectType) {
+    return readerCache.get(ObjectTypeKey.of(pObjectType), this::createReader);
+  }
+
+  private ObjectReader getCollectionReader(Class<? extends Collection<?>> pCollectionType, Class<?> pResultType) {
+    return readerCache.get(ObjectTypeKey.of(pCollectionType, pResultType), this::createReader);
+  }
+
+  private ObjectReader getCollectionReader(Class<? extends Collection<?>> pCollectionType, ObjectType pResultType) {
+    return readerCache.get(ObjectTypeKey.of(pCollectionType, pResultType), this::createReader);
+  }
+
+  /**
+   * Method uses the passed key to create a Jackson type definition and a reader for it.
+   *
+   * @param pKey Key describing the type that should be read. The parameter must not be null.
+   * @return {@link ObjectReader} Reader that was created. The method never returns null.
+   */
+  private ObjectReader createReader(ObjectTypeKey pKey) {
+    JavaType lJavaType = pKey.toJavaType(defaultObjectMapper.getTypeFactory());
+    return defaultObjectMapper.readerFor(lJavaType);
+  }
+
+  @SuppressWarnings("rawtypes")
+  private ObjectWriter getCollectionWriter(Collection<?> pCollection, Class<?> pObjectType) {
+    // Check parameters.
+    Assert.assertNotNull(pObjectType, "pObjectType");
+
+    // As null is also a valid value for the collection have to be use a default type in this case.
+    Class<? extends Collection> lCollectionType;
+    if (pCollection != null) {
+      lCollectionType = pCollection.getClass();
+    }
+    else {
+      lCollectionType = Collection.class;
+    }
+
+    // Resolve writer from cache.
+    return collectionWriterCache.get(ObjectTypeKey.of(lCollectionType, pObjectType), this::createWriter);
+  }
+
+  /**
+   * Method reads the remaining content of the passed buffer using the passed reader.
+   *
+   * @param pBuffer Buffer from which the data should be read. The parameter must not be null.
+   * @param pReader Reader that should be used. The parameter must not be null.
+   * @return T Object that was created. The method may return null if null was serialized.
+   */
+  private <T> T read(ByteBuffer pBuffer, ObjectReader pReader) {
+    try {
+      T lObject;
+      if (pBuffer.hasArray()) {
+        // Heap buffers can be read directly from their backing array without copying.
+        lObject = pReader.readValue(pBuffer.array(), pBuffer.arrayOffset() + pBuffer.position(), pBuffer.remaining());
+      }
+      else {
+        lObject = pReader.readValue(new ByteBufferBackedInputStream(pBuffer));
+      }
+
+      // Streams only advance direct buffers as far as the parser read ahead. So the position is set explicitly for
+      // both kinds of buffers.
+      pBuffer.position(pBuffer.limit());
+      return lObject;
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method deserializes the part of the document that is addressed by the passed JSON pointer. The parser will be
+   * closed afterwards.
+   *
+   * @param pParser Parser for the whole document. The parameter must not be null.
+   * @param pPath JSON pointer to the part of the document that should be deserialized. The parameter must not be null.
+   * @param pReader Reader for the addressed part. The parameter must not be null.
+   * @return T Object that was created. The method returns null if the path does not exist or if null was serialized.
+   */
+  private <T> T read(JsonParser pParser, JsonPointer pPath, ObjectReader pReader) {
+    // Filter skips all subtrees that are not on the path. Only the first match is of interest. An empty pointer
+    // addresses the whole document so no filter is required.
+    JsonParser lParser;
+    if (pPath.matches()) {
+      lParser = pParser;
+    }
+    else {
+      lParser = new FilteringParserDelegate(pParser, new JsonPointerBasedFilter(pPath),
+          TokenFilter.Inclusion.ONLY_INCLUDE_ALL, false);
+    }
+    return this.read(lParser, pReader);
+  }
+
+  /**
+   * Method deserializes the first value of the passed parser. The parser will be closed afterwards.
+   *
+   * @param pParser Parser that should be used. The parameter must not be null.
+   * @param pReader Reader for the value. The parameter must not be null.
+   * @return T Object that was created. The method returns null if the parser does not return any token or if null was
+   * serialized.
+   */
+  private <T> T read(JsonParser pParser, ObjectReader pReader) {
+    try (JsonParser lParser = pParser) {
+      T lObject;
+      if (lParser.nextToken() != null) {
+        lObject = pReader.readValue(lParser);
+      }
+      else {
+        lObject = null;
+      }
+      return lObject;
+    }
+  }
+
+  /**
+   * Method deserializes all passed payloads concurrently. Payloads are split into chunks so that the overhead of task
+   * creation does not dominate for small payloads.
+   *
+   * @param pPayloads Payloads that should be deserialized. The parameter must not be null.
+   * @param pReader Reader that should be used. The parameter must not be null.
+   * @param pReadFunction Function that deserializes a single payload with the passed reader. The parameter must not be
+   * null.
+   * @param pExecutor Executor that should be used. The parameter must not be null.
+   * @return {@link BatchReadResult} Result of the batch. The method never returns null.
+   */
+  private <S, T> BatchReadResult<T> readAll(List<S> pPayloads, ObjectReader pReader,
+      BiFunction<ObjectReader, S, Object> pReadFunction, Executor pExecutor) {
+
+    int lSize = pPayloads.size();
+    Object[] lValues = new Object[lSize];
+    JEAFSystemException[] lFailures = new JEAFSystemException[lSize];
+
+    // Determine chunks that are processed by one task.
+    int lChunks = Math.min(lSize, Runtime.getRuntime().availableProcessors() * BATCH_CHUNKS_PER_PROCESSOR);
+    List<CompletableFuture<Void>> lTasks = new ArrayList<>(lChunks);
+    for (int lChunk = 0; lChunk < lChunks; lChunk++) {
+      int lStart = (int) ((long) lSize * lChunk / lChunks);
+      int lEnd = (int) ((long) lSize * (lChunk + 1) / lChunks);
+      Runnable lTask = ( ) -> {
+        for (int i = lStart; i < lEnd; i++) {
+          try {
+            lValues[i] = pReadFunction.apply(pReader, pPayloads.get(i));
+          }
+          catch (RuntimeException e) {
+            lFailures[i] = new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+          }
+        }
+      };
+      lTasks.add(CompletableFuture.runAsync(lTask, pExecutor));
+    }
+
+    // Wait until all payloads are processed. Joining also ensures visibility of all results.
+    CompletableFuture.allOf(lTasks.toArray(new CompletableFuture<?>[lTasks.size()])).join();
+    return new BatchReadResult<>(lValues, lFailures);
+  }
+
+  /**
+   * Method deserializes the JSON array from the passed buffer. Elements are deserialized concurrently in chunks.
+   *
+   * @param pBuffer Buffer containing the UTF-8 encoded JSON array. The parameter must not be null.
+   * @param pCollectionReader Reader for the collection as a whole. The parameter must not be null.
+   * @param pElementReader Reader for the elements of the collection. The parameter must not be null.
+   * @param pExecutor Executor that should be used. The parameter must not be null.
+   * @return T Collection with all elements. The method may return null if null was serialized.
+   */
+  private <T> T readToCollectionParallel(ByteBuffer pBuffer, ObjectReader pCollectionReader,
+      ObjectReader pElementReader, Executor pExecutor) {
+
+    // Content that is not an array is read sequentially. This also ensures the usual error reporting.
+    long[] lElements = JSONArrayScanner.findElements(pBuffer);
+    T lResult;
+    if (lElements == null) {
+      if (pBuffer.hasArray()) {
+        lResult = pCollectionReader.readValue(pBuffer.array(), pBuffer.arrayOffset() + pBuffer.position(),
+            pBuffer.remaining());
+      }
+      else {
+        lResult = pCollectionReader.readValue(new ByteBufferBackedInputStream(pBuffer));
+      }
+    }
+    // Regions are views on the passed buffer.
+    else {
+      RegionMapper lMapper = (pStart, pLength) -> {
+        ByteBuffer lRegion = pBuffer.duplicate();
+        lRegion.limit((int) (pStart + pLength));
+        lRegion.position((int) pStart);
+        return lRegion;
+      };
+      lResult = this.readElementsParallel(lElements, pBuffer.remaining(), lMapper, pCollectionReader, pElementReader,
+          pExecutor);
+    }
+    return lResult;
+  }
+
+  /**
+   * Method deserializes the JSON array from the passed file. The file is scanned through a window and afterwards the
+   * chunks of elements are memory mapped and deserialized concurrently. This way also files of 2 GB or more are
+   * processed in parallel.
+   *
+   * @param pFile File containing the UTF-8 encoded JSON array. The parameter must not be null.
+   * @param pChannel Channel that is opened for the passed file. The parameter must not be null.
+   * @param pCollectionReader Reader for the collection as a whole. The parameter must not be null.
+   * @param pElementReader Reader for the elements of the collection. The parameter must not be null.
+   * @param pExecutor Executor that should be used. The parameter must not be null.
+   * @return T Collection with all elements. The method may return null if null was serialized.
+   * @throws IOException if the file can not be read.
+   */
+  private <T> T readToCollectionParallel(File pFile, FileChannel pChannel, ObjectReader pCollectionReader,
+      ObjectReader pElementReader, Executor pExecutor)
+    throws IOException {
+
+    // Content that is not an array is read sequentially. This also ensures the usual error reporting.
+    long[] lElements = JSONArrayScanner.findElements(pChannel);
+    T lResult;
+    if (lElements == null) {
+      lResult = pCollectionReader.readValue(pFile);
+    }
+    else {
+      RegionMapper lMapper = (pStart, pLength) -> pChannel.map(FileChannel.MapMode.READ_ONLY, pStart, pLength);
+      lResult = this.readElementsParallel(lElements, pChannel.size(), lMapper, pCollectionReader, pElementReader,
+          pExecutor);
+    }
+    return lResult;
+  }
+
+  /**
+   * Method deserializes the elements with the passed boundaries concurrently in chunks.
+   *
+   * @param pElements Boundaries of all elements as returned by {@link JSONArrayScanner}. The parameter must not be
+   * null.
+   * @param pSize Size of the complete JSON array in bytes.
+   * @param pMapper Mapper that provides the content of the chunks. The parameter must not be null.
+   * @param pCollectionReader Reader for the collection as a whole. The parameter must not be null.
+   * @param pElementReader Reader for the elements of the collection. The parameter must not be null.
+   * @param pExecutor Executor that should be used. The parameter must not be null.
+   * @return T Collection with all elements. The method never returns null.
+   */
+  @SuppressWarnings("unchecked")
+  private <T> T readElementsParallel(long[] pElements, long pSize, RegionMapper pMapper,
+      ObjectReader pCollectionReader, ObjectReader pElementReader, Executor pExecutor) {
+
+    // Collection is created by Jackson so that the same collection implementations are used as for sequential reads.
+    T lCollection = pCollectionReader.readValue(EMPTY_JSON_ARRAY);
+
+    // Split elements into chunks of similar size and deserialize them concurrently.
+    int lCount = pElements.length / 2;
+    Object[] lValues = new Object[lCount];
+    long lChunkCount = Math.max(Runtime.getRuntime().availableProcessors() * BATCH_CHUNKS_PER_PROCESSOR,
+        pSize / PARALLEL_READ_CHUNK_SIZE);
+    int lChunks = (int) Math.min(lCount, lChunkCount);
+    List<CompletableFuture<Void>> lTasks = new ArrayList<>(lChunks);
+    for (int lChunk = 0; lChunk < lChunks; lChunk++) {
+      int lStart = (int) ((long) lCount * lChunk / lChunks);
+      int lEnd = (int) ((long) lCount * (lChunk + 1) / lChunks);
+      lTasks.add(CompletableFuture.runAsync(
+          ( ) -> this.readElements(pMapper, pElements, lStart, lEnd, pElementReader, lValues), pExecutor));
+    }
+    try {
+      CompletableFuture.allOf(lTasks.toArray(new CompletableFuture<?>[lTasks.size()])).join();
+    }
+    catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      else {
+        throw e;
+      }
+    }
+    ((Collection<Object>) lCollection).addAll(Arrays.asList(lValues));
+    return lCollection;
+  }
+
+  /**
+   * Method deserializes the elements with the passed indexes.
+   *
+   * @param pMapper Mapper that provides the content of the elements. The parameter must not be null.
+   * @param pElements Boundaries of all elements as returned by {@link JSONArrayScanner}. The parameter must not be
+   * null.
+   * @param pStart Index of the first element that should be deserialized.
+   * @param pEnd Index after the last element that should be deserialized.
+   * @param pReader Reader for the elements. The parameter must not be null.
+   * @param pValues Array to which the deserialized elements are written. The parameter must not be null.
+   */
+  private void readElements(RegionMapper pMapper, long[] pElements, int pStart, int pEnd, ObjectReader pReader,
+      Object[] pValues) {
+
+    long lRegionStart = pElements[pStart * 2];
+    ByteBuffer lRegion;
+    try {
+      lRegion = pMapper.map(lRegionStart, pElements[pEnd * 2 - 1] - lRegionStart);
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    // Elements of heap buffers can be read directly. Otherwise the chunk is copied once to avoid a stream per element.
+    byte[] lBytes;
+    int lOffset;
+    if (lRegion.hasArray()) {
+      lBytes = lRegion.array();
+      lOffset = lRegion.arrayOffset() + lRegion.position();
+    }
+    else {
+      lBytes = new byte[lRegion.remaining()];
+      lRegion.get(lBytes);
+      lOffset = 0;
+    }
+
+    for (int i = pStart; i < pEnd; i++) {
+      long lElementStart = pElements[i * 2];
+      pValues[i] = pReader.readValue(lBytes, lOffset + (int) (lElementStart - lRegionStart),
+          (int) (pElements[i * 2 + 1] - lElementStart));
+    }
+  }
+
+  /**
+   * Interface provides access to a region of a JSON document that is deserialized in parallel.
+   */
+  @FunctionalInterface
+  private interface RegionMapper {
+    /**
+     * Method returns the passed region of the document.
+     *
+     * @param pStart Absolute position of the region within the document.
+     * @param pLength Length of the region in bytes.
+     * @return {@link ByteBuffer} Buffer whose remaining bytes are the region. The method never returns null.
+     * @throws IOException if the region can not be read.
+     */
+    ByteBuffer map(long pStart, long pLength) throws IOException;
+  }
+
+  /**
+   * Method returns a writer that is intended to be used to write sequences of objects of the passed type.
+   *
+   * @param pObjectType Type of the objects that should be written. The parameter must not be null.
+   * @return {@link ObjectWriter} Writer for sequences of objects. The method never returns null.
+   */
+  private ObjectWriter getSequenceWriter(Class<?> pObjectType) {
+    return sequenceWriterCache.get(ObjectTypeKey.of(pObjectType), this::createSequenceWriter);
+  }
+
+  private ObjectWriter createSequenceWriter(ObjectTypeKey pKey) {
+    // Flushing is done periodically and not after every object.
+    return this.createWriter(pKey).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+  }
+
+  /**
+   * Method writes all objects of the passed iterator using the passed sequence writer. Every
+   * {@link #SEQUENCE_FLUSH_INTERVAL} objects the output will be flushed. The sequence writer will be closed afterwards.
+   *
+   * @param pObjects Objects that should be written. The parameter must not be null.
+   * @param pSequenceWriter Sequence writer that should be used. The parameter must not be null.
+   */
+  private void writeArray(Iterator<?> pObjects, SequenceWriter pSequenceWriter) {
+    try (SequenceWriter lSequenceWriter = pSequenceWriter) {
+      int lCount = 0;
+      while (pObjects.hasNext()) {
+        lSequenceWriter.write(pObjects.next());
+        lCount++;
+        if (lCount % SEQUENCE_FLUSH_INTERVAL == 0) {
+          lSequenceWriter.flush();
+        }
+      }
+    }
+  }
+
+  /**
+   * Method writes all objects of the passed iterator as JSON array. Objects are grouped into chunks that are serialized
+   * concurrently into buffers. Buffers are reused for later chunks as soon as they were written to the stream.
+   *
+   * @param pObjects Objects that should be written. The parameter must not be null.
+   * @param pOutputStream Stream to which the array should be written. The parameter must not be null.
+   * @param pWriter Sequence writer for the objects. The parameter must not be null.
+   * @param pExecutor Executor that should be used. The parameter must not be null.
+   */
+  private void writeArrayParallel(Iterator<?> pObjects, OutputStream pOutputStream, ObjectWriter pWriter,
+      Executor pExecutor)
+    throws IOException {
+
+    int lMaxPendingChunks = Runtime.getRuntime().availableProcessors() * BATCH_CHUNKS_PER_PROCESSOR;
+    Deque<CompletableFuture<ByteBufferOutputStream>> lPendingChunks = new ArrayDeque<>(lMaxPendingChunks);
+    Queue<ByteBufferOutputStream> lBuffers = new ConcurrentLinkedQueue<>();
+    try {
+      pOutputStream.write('[');
+      boolean lFirst = true;
+      while (pObjects.hasNext()) {
+        List<Object> lChunk = new ArrayList<>(PARALLEL_WRITE_CHUNK_SIZE);
+        while (lChunk.size() < PARALLEL_WRITE_CHUNK_SIZE && pObjects.hasNext()) {
+          lChunk.add(pObjects.next());
+        }
+        lPendingChunks.add(CompletableFuture.supplyAsync(( ) -> this.writeChunk(lChunk, pWriter, lBuffers), pExecutor));
+
+        // Write completed chunks as soon as the maximum number of pending chunks is reached.
+        if (lPendingChunks.size() >= lMaxPendingChunks) {
+          this.transferChunk(lPendingChunks.poll().join(), pOutputStream, lFirst, lBuffers);
+          lFirst = false;
+        }
+      }
+      while (lPendingChunks.isEmpty() == false) {
+        this.transferChunk(lPendingChunks.poll().join(), pOutputStream, lFirst, lBuffers);
+        lFirst = false;
+      }
+      pOutputStream.write(']');
+      pOutputStream.flush();
+    }
+    catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      else {
+        throw e;
+      }
+    }
+    finally {
+      for (CompletableFuture<ByteBufferOutputStream> lNext : lPendingChunks) {
+        lNext.cancel(false);
+      }
+    }
+  }
+
+  /**
+   * Method serializes the passed chunk as JSON array into a buffer.
+   *
+   * @param pChunk Objects that should be serialized. The parameter must not be null.
+   * @param pWriter Sequence writer for the objects. The parameter must not be null.
+   * @param pBuffers Buffers that can be reused. The parameter must not be null.
+   * @return {@link ByteBufferOutputStream} Buffer containing the serialized chunk. The method never returns null.
+   */
+  private ByteBufferOutputStream writeChunk(List<?> pChunk, ObjectWriter pWriter,
+      Queue<ByteBufferOutputStream> pBuffers) {
+    ByteBufferOutputStream lBuffer = pBuffers.poll();
+    if (lBuffer == null) {
+      lBuffer = new ByteBufferOutputStream(BYTE_BUFFER_INITIAL_SIZE);
+    }
+    try (SequenceWriter lSequenceWriter = pWriter.writeValuesAsArray(lBuffer)) {
+      lSequenceWriter.writeAll(pChunk);
+    }
+    return lBuffer;
+  }
+
+  /**
+   * Method writes the elements of the passed serialized chunk to the passed stream. Afterwards the buffer is returned
+   * for reuse.
+   *
+   * @param pBuffer Buffer containing the chunk as JSON array. The parameter must not be null.
+   * @param pOutputStream Stream to which the elements should be written. The parameter must not be null.
+   * @param pFirst Parameter defines whether this is the first chunk of the array.
+   * @param pBuffers Buffers that can be reused. The parameter must not be null.
+   */
+  private void transferChunk(ByteBufferOutputStream pBuffer, OutputStream pOutputStream, boolean pFirst,
+      Queue<ByteBufferOutputStream> pBuffers)
+    throws IOException {
+
+    if (pFirst == false) {
+      pOutputStream.write(',');
+    }
+    // Enclosing brackets of the chunk are skipped as all chunks belong to the same array.
+    ByteBuffer lContent = pBuffer.toByteBuffer();
+    pOutputStream.write(lContent.array(), 1, lContent.limit() - 2);
+    pBuffer.reset();
+    pBuffers.add(pBuffer);
+  }
+
+  /**
+   * Method returns a writer that is able to write newline delimited JSON.
+   *
+   * @param pElementType Type of the objects that should be written. The parameter must not be null.
+   * @return {@link ObjectWriter} Writer for NDJSON. The method never returns null.
+   */
+  private ObjectWriter getNDJSONWriter(ObjectType pElementType) {
+    return ndjsonWriterCache.get(ObjectTypeKey.of(pElementType), this::createNDJSONWriter);
+  }
+
+  /**
+   * Method creates a writer that writes every object on a single line.
+   *
+   * @param pKey Key of the type of the objects that should be written. The parameter must not be null.
+   * @return {@link ObjectWriter} Writer for NDJSON. The method never returns null.
+   */
+  private ObjectWriter createNDJSONWriter(ObjectTypeKey pKey) {
+    // Objects are separated by new lines. As many objects are written there is no need to flush after every object.
+    // Indentation is disabled even if it is configured as otherwise objects would span several lines.
+    return this.createWriter(pKey).withRootValueSeparator(NDJSON_SEPARATOR)
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE).without(SerializationFeature.INDENT_OUTPUT);
+  }
+
+  /**
+   * Method writes all objects of the passed iterator as NDJSON using the passed generator. The generator will be
+   * closed afterwards.
+   *
+   * @param pObjects Objects that should be written. The parameter must not be null.
+   * @param pGenerator Generator that should be used. The parameter must not be null.
+   * @param pWriter Writer that should be used. The parameter must not be null.
+   */
+  private void writeNDJSON(Iterator<?> pObjects, JsonGenerator pGenerator, ObjectWriter pWriter) {
+    try (JsonGenerator lGenerator = pGenerator) {
+      boolean lEmpty = true;
+      while (pObjects.hasNext()) {
+        pWriter.writeValue(lGenerator, pObjects.next());
+        lEmpty = false;
+      }
+      // Also the last line has to be terminated.
+      if (lEmpty == false) {
+        lGenerator.writeRaw(NDJSON_SEPARATOR);
+      }
+    }
+  }
+
+  /**
+   * Method uses the passed key to create a Jackson type definition and a writer for it.
+   *
+   * @param pKey Key describing the type that should be written. The parameter must not be null.
+   * @return {@link ObjectWriter} Writer that was created. The method never returns null.
+   */
+  private ObjectWriter createWriter(ObjectTypeKey pKey) {
+    JavaType lJavaType = pKey.toJavaType(defaultObjectMapper.getTypeFactory());
+    return defaultObjectMapper.writerFor(lJavaType);
+  }
+
+  /**
+   * Method returns the writer for the passed object that applies the passed view class or property selection. Writers
+   * are cached per runtime type of the object so that its serializer only has to be looked up once.
+   *
+   * @param pObject Object that should be written. The parameter may be null.
+   * @param pFilter View class or {@link PropertySelection}. The parameter must not be null.
+   * @return {@link ObjectWriter} Writer for the passed object. The method never returns null.
+   */
+  private ObjectWriter getFilteredWriter(Object pObject, Object pFilter) {
+    Class<?> lObjectType;
+    if (pObject != null) {
+      lObjectType = pObject.getClass();
+    }
+    else {
+      lObjectType = Object.class;
+    }
+    return filteredWriterCache.get(new FilteredWriterKey(lObjectType, pFilter), this::createFilteredWriter);
+  }
+
+  /**
+   * Method creates a writer for the passed key.
+   *
+   * @param pKey Key describing the type and the view class respectively property selection. The parameter must not be
+   * null.
+   * @return {@link ObjectWriter} Writer that was created. The method never returns null.
+   */
+  private ObjectWriter createFilteredWriter(FilteredWriterKey pKey) {
+    ObjectWriter lWriter;
+    Object lFilter = pKey.getFilter();
+    if (lFilter instanceof PropertySelection) {
+      lWriter = this.getSelectionObjectMapper().writerFor(pKey.getObjectType())
+          .with(((PropertySelection) lFilter).createFilterProvider());
+    }
+    else {
+      lWriter = defaultObjectMapper.writerFor(pKey.getObjectType()).withView((Class<?>) lFilter);
+    }
+    return lWriter;
+  }
+
+  /**
+   * Method returns the object mapper that is used for serialization with property selections. As property filters have
+   * to be enabled for all classes, a separate object mapper based on the default one is used.
+   *
+   * @return {@link ObjectMapper} Object mapper supporting property selections. The method never returns null.
+   */
+  private ObjectMapper getSelectionObjectMapper( ) {
+    ObjectMapper lObjectMapper = selectionObjectMapper;
+    if (lObjectMapper == null) {
+      synchronized (this) {
+        lObjectMapper = selectionObjectMapper;
+        if (lObjectMapper == null) {
+          lObjectMapper = PropertySelection.createObjectMapper(defaultObjectMapper);
+          selectionObjectMapper = lObjectMapper;
+        }
+      }
+    }
+    return lObjectMapper;
+  }
+
+  /**
+   * Method returns the statistics of the cache for readers that are used for deserialization.
+   *
+   * @return {@link CacheStatistics} Statistics of the reader cache. The method never returns null.
+   */
+  public CacheStatistics getReaderCacheStatistics( ) {
+    return readerCache.getStatistics();
+  }
+
+  /**
+   * Method returns the statistics of the cache for writers that are used for serialization of collections.
+   *
+   * @return {@link CacheStatistics} Statistics of the collection writer cache. The method never returns null.
+   */
+  public CacheStatistics getCollectionWriterCacheStatistics( ) {
+    return collectionWriterCache.getStatistics();
+  }
+
+  /**
+   * Method returns the statistics of the cache for writers that apply views or property selections.
+   *
+   * @return {@link CacheStatistics} Statistics of the filtered writer cache. The method never returns null.
+   */
+  public CacheStatistics getFilteredWriterCacheStatistics( ) {
+    return filteredWriterCache.getStatistics();
   }
 
 }
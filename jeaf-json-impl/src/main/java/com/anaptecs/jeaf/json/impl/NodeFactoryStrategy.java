@@ -0,0 +1,64 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl;
+
+import tools.jackson.databind.node.JsonNodeFactory;
+
+/**
+ * Enumeration defines the node factories that can be used to create trees, e.g. by {@link AbstractDeserializer} or
+ * {@link tools.jackson.databind.ObjectMapper#readTree(String)}.
+ *
+ * @author JEAF Development Team
+ */
+public enum NodeFactoryStrategy {
+  /**
+   * Jackson's default node factory. Object nodes are backed by a {@link java.util.LinkedHashMap}.
+   */
+  STANDARD {
+    @Override
+    public JsonNodeFactory createNodeFactory( ) {
+      return JsonNodeFactory.instance;
+    }
+  },
+
+  /**
+   * Node factory that reduces the memory footprint of trees. For further details please refer to
+   * {@link CompactJsonNodeFactory}.
+   */
+  COMPACT {
+    @Override
+    public JsonNodeFactory createNodeFactory( ) {
+      return new CompactJsonNodeFactory();
+    }
+  };
+
+  /**
+   * Name of the system property that can be used to define the strategy of the standard configuration.
+   */
+  public static final String NODE_FACTORY_PROPERTY = "jeaf.json.nodeFactory";
+
+  /**
+   * Strategy that is used if nothing else is defined.
+   */
+  public static final NodeFactoryStrategy DEFAULT_STRATEGY = STANDARD;
+
+  /**
+   * Method creates the node factory that should be used by an object mapper.
+   *
+   * @return {@link JsonNodeFactory} Node factory. The method never returns null.
+   */
+  public abstract JsonNodeFactory createNodeFactory( );
+
+  /**
+   * Method returns the strategy that is defined by system property {@link #NODE_FACTORY_PROPERTY}.
+   *
+   * @return {@link NodeFactoryStrategy} Configured strategy. If the system property is not set or does not contain the
+   * name of a strategy then {@link #DEFAULT_STRATEGY} is returned. The method never returns null.
+   */
+  public static NodeFactoryStrategy getConfiguredStrategy( ) {
+    return ConfigurationProperties.getEnumProperty(NODE_FACTORY_PROPERTY, DEFAULT_STRATEGY, NodeFactoryStrategy.class);
+  }
+}
@@ -0,0 +1,233 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+import com.anaptecs.jeaf.json.api.JSONMessages;
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.async.ByteArrayFeeder;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.util.TokenBuffer;
+
+/**
+ * Class implements a non-blocking reader for JSON data. Data is fed in chunks as it arrives e.g. from the network.
+ * Whenever an object is complete it is deserialized and passed to the consumer of this reader. No thread is ever
+ * blocked waiting for further data.
+ *
+ * If the JSON data is an array and the type of the reader is not a container type (array, collection or map) then
+ * every element of the array will be passed to the consumer. Otherwise every root level value is passed to the
+ * consumer. This way also newline delimited JSON can be processed.
+ *
+ * Instances of this class are not thread-safe. Chunks of one JSON document have to be fed one after the other.
+ *
+ * @author JEAF Development Team
+ */
+public final class NonBlockingJSONReader<T> implements Closeable {
+  /**
+   * Size of the chunks that are used to feed data from direct buffers.
+   */
+  private static final int CHUNK_SIZE = 8 * 1024;
+
+  /**
+   * Reader that is used to deserialize complete objects.
+   */
+  private final ObjectReader reader;
+
+  /**
+   * Non-blocking parser.
+   */
+  private final JsonParser parser;
+
+  /**
+   * Feeder of the non-blocking parser through which the chunks of JSON data are passed to it.
+   */
+  private final ByteArrayFeeder feeder;
+
+  /**
+   * Consumer that receives all deserialized objects.
+   */
+  private final Consumer<? super T> consumer;
+
+  /**
+   * Attribute defines if the elements of root level arrays are read one by one. This is only the case if the type of
+   * the reader is not a container type itself.
+   */
+  private final boolean unwrapArrays;
+
+  /**
+   * Buffer that contains the tokens of the object that is currently read.
+   */
+  private TokenBuffer tokens;
+
+  /**
+   * Current nesting depth within the JSON data.
+   */
+  private int depth;
+
+  /**
+   * Nesting depth on which objects start. If the root value is an array the elements are read on depth 1.
+   */
+  private int valueDepth;
+
+  /**
+   * Buffer that is used to feed data from direct buffers.
+   */
+  private byte[] chunk;
+
+  /**
+   * Initialize object.
+   *
+   * @param pReader Reader for the objects that should be read. The parameter must not be null.
+   * @param pConsumer Consumer that receives all deserialized objects. The parameter must not be null.
+   */
+  NonBlockingJSONReader( ObjectReader pReader, Consumer<? super T> pConsumer ) {
+    reader = pReader;
+    parser = pReader.createNonBlockingByteArrayParser();
+    feeder = (ByteArrayFeeder) parser.nonBlockingInputFeeder();
+    consumer = pConsumer;
+    JavaType lType = pReader.getValueType();
+    unwrapArrays = lType == null || lType.isContainerType() == false;
+  }
+
+  /**
+   * Method feeds the passed data to this reader. All objects that are complete afterwards are passed to the consumer
+   * before the method returns. The passed array is not referenced after the method returns.
+   *
+   * @param pBytes Data that should be fed. The parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public void feed(byte[] pBytes) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pBytes, "pBytes");
+
+    this.feed(pBytes, 0, pBytes.length);
+  }
+
+  /**
+   * Method feeds the passed data to this reader. All objects that are complete afterwards are passed to the consumer
+   * before the method returns. The passed array is not referenced after the method returns.
+   *
+   * @param pBytes Data that should be fed. The parameter must not be null.
+   * @param pOffset Offset of the first byte that should be fed.
+   * @param pLength Number of bytes that should be fed.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public void feed(byte[] pBytes, int pOffset, int pLength) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pBytes, "pBytes");
+
+    try {
+      feeder.feedInput(pBytes, pOffset, pOffset + pLength);
+      this.processAvailableTokens();
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method feeds the remaining content of the passed buffer to this reader. All objects that are complete afterwards
+   * are passed to the consumer before the method returns. Afterwards the buffer has no remaining bytes.
+   *
+   * @param pBuffer Buffer containing the data that should be fed. The parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public void feed(ByteBuffer pBuffer) throws JEAFSystemException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pBuffer, "pBuffer");
+
+    if (pBuffer.hasArray()) {
+      this.feed(pBuffer.array(), pBuffer.arrayOffset() + pBuffer.position(), pBuffer.remaining());
+      pBuffer.position(pBuffer.limit());
+    }
+    else {
+      if (chunk == null) {
+        chunk = new byte[CHUNK_SIZE];
+      }
+      while (pBuffer.hasRemaining()) {
+        int lLength = Math.min(chunk.length, pBuffer.remaining());
+        pBuffer.get(chunk, 0, lLength);
+        this.feed(chunk, 0, lLength);
+      }
+    }
+  }
+
+  /**
+   * Method has to be called after all data was fed. If the data ends with an incomplete object an exception will be
+   * thrown.
+   *
+   * @throws JEAFSystemException if an error occurs during deserialization or if the data is incomplete.
+   */
+  public void endOfInput( ) throws JEAFSystemException {
+    try {
+      feeder.endOfInput();
+      this.processAvailableTokens();
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+
+    // All objects have to be complete.
+    if (tokens != null || depth > 0) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, "Unexpected end of JSON input.");
+    }
+  }
+
+  /**
+   * Method closes the underlying parser.
+   */
+  @Override
+  public void close( ) {
+    parser.close();
+  }
+
+  /**
+   * Method processes all tokens that are currently available. Whenever an object is complete it will be deserialized
+   * and passed to the consumer.
+   */
+  private void processAvailableTokens( ) {
+    JsonToken lToken = parser.nextToken();
+    while (lToken != null && lToken != JsonToken.NOT_AVAILABLE) {
+      if (unwrapArrays && tokens == null && depth == 0 && lToken == JsonToken.START_ARRAY) {
+        // Elements of root level arrays are read one by one.
+        depth = 1;
+        valueDepth = 1;
+      }
+      else if (unwrapArrays && tokens == null && lToken == JsonToken.END_ARRAY) {
+        // End of root level array
+        depth = 0;
+        valueDepth = 0;
+      }
+      else {
+        if (tokens == null) {
+          tokens = TokenBuffer.forBuffering(parser, parser.objectReadContext());
+        }
+        tokens.copyCurrentEvent(parser);
+        if (lToken.isStructStart()) {
+          depth++;
+        }
+        else if (lToken.isStructEnd()) {
+          depth--;
+        }
+
+        // Object is complete.
+        if (depth == valueDepth) {
+          T lObject = reader.readValue(tokens);
+          tokens = null;
+          consumer.accept(lObject);
+        }
+      }
+      lToken = parser.nextToken();
+    }
+  }
+}
@@ -6,13 +6,16 @@
 package com.anaptecs.jeaf.json.impl;
 
 import java.lang.annotation.Annotation;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 import com.anaptecs.jeaf.json.annotations.ModuleFactory;
 import com.anaptecs.jeaf.json.annotations.ObjectMapperConfig;
 import com.anaptecs.jeaf.json.api.JSONTools;
 import com.anaptecs.jeaf.json.api.ObjectMapperModuleFactory;
+import com.anaptecs.jeaf.xfun.api.checks.Check;
 import com.anaptecs.jeaf.xfun.api.config.AnnotationBasedConfiguration;
 import com.anaptecs.jeaf.xfun.api.config.ConfigurationReader;
 import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
@@ -24,9 +27,23 @@ import tools.jackson.databind.SerializationFeature;
 /**
  * Class can be used to read annotation based configuration for ObjectMappers.
  *
+ * Configurations are compared by the settings they define for an object mapper. This way configurations that were
+ * loaded separately but define the same settings share the same object mapper (see
+ * {@link ObjectMapperFactory#getSharedObjectMapper(ObjectMapperConfiguration)}).
+ *
  * @author JEAF Development Team
  */
 public class ObjectMapperConfiguration extends AnnotationBasedConfiguration<ObjectMapperConfig> {
+  /**
+   * Strategy that is used to recycle Jackson's internal buffers.
+   */
+  private final RecyclerPoolStrategy recyclerPoolStrategy;
+
+  /**
+   * Strategy that defines the node factory that is used to create trees.
+   */
+  private final NodeFactoryStrategy nodeFactoryStrategy;
+
   /**
    * Initialize object. During initialization configurations will be loaded.
    */
@@ -44,7 +61,50 @@ public class ObjectMapperConfiguration extends AnnotationBasedConfiguration<Obje
    * errors.
    */
   public ObjectMapperConfiguration( String pResourceName, String pConfigurationBasePath, boolean pExceptionOnError ) {
+    this(pResourceName, pConfigurationBasePath, pExceptionOnError, RecyclerPoolStrategy.getConfiguredStrategy());
+  }
+
+  /**
+   * Initialize object. During initialization configurations will be loaded.
+   *
+   * @param pResourceName Name of the file which contains the class name of the custom configuration class. The
+   * parameter must not be null.
+   * @param pConfigurationBasePath Path under which the file should be found in the classpath. The parameter may be
+   * null.
+   * @param pExceptionOnError If parameter is set to true then an exception will be thrown in case of configuration
+   * errors.
+   * @param pRecyclerPoolStrategy Strategy that should be used to recycle Jackson's internal buffers. The parameter must
+   * not be null.
+   */
+  public ObjectMapperConfiguration( String pResourceName, String pConfigurationBasePath, boolean pExceptionOnError,
+      RecyclerPoolStrategy pRecyclerPoolStrategy ) {
+    this(pResourceName, pConfigurationBasePath, pExceptionOnError, pRecyclerPoolStrategy,
+        NodeFactoryStrategy.getConfiguredStrategy());
+  }
+
+  /**
+   * Initialize object. During initialization configurations will be loaded.
+   *
+   * @param pResourceName Name of the file which contains the class name of the custom configuration class. The
+   * parameter must not be null.
+   * @param pConfigurationBasePath Path under which the file should be found in the classpath. The parameter may be
+   * null.
+   * @param pExceptionOnError If parameter is set to true then an exception will be thrown in case of configuration
+   * errors.
+   * @param pRecyclerPoolStrategy Strategy that should be used to recycle Jackson's internal buffers. The parameter must
+   * not be null.
+   * @param pNodeFactoryStrategy Strategy that defines the node factory that should be used to create trees. The
+   * parameter must not be null.
+   */
+  public ObjectMapperConfiguration( String pResourceName, String pConfigurationBasePath, boolean pExceptionOnError,
+      RecyclerPoolStrategy pRecyclerPoolStrategy, NodeFactoryStrategy pNodeFactoryStrategy ) {
     super(pResourceName, pConfigurationBasePath, pExceptionOnError);
+
+    // Check parameters
+    Check.checkInvalidParameterNull(pRecyclerPoolStrategy, "pRecyclerPoolStrategy");
+    Check.checkInvalidParameterNull(pNodeFactoryStrategy, "pNodeFactoryStrategy");
+    recyclerPoolStrategy = pRecyclerPoolStrategy;
+    nodeFactoryStrategy = pNodeFactoryStrategy;
   }
 
   @Override
@@ -238,10 +298,82 @@ public class ObjectMapperConfiguration extends AnnotationBasedConfiguration<Obje
     return theConfig.disabledDeserializationFeatures();
   }
 
+  /**
+   * Method returns the strategy that should be used to recycle Jackson's internal buffers. As
+   * {@link ObjectMapperConfig} does not provide this setting, the strategy of the standard configuration is defined by
+   * system property {@link RecyclerPoolStrategy#RECYCLER_POOL_PROPERTY}.
+   *
+   * @return {@link RecyclerPoolStrategy} Strategy for buffer recycling. The method never returns null.
+   */
+  public RecyclerPoolStrategy getRecyclerPoolStrategy( ) {
+    return recyclerPoolStrategy;
+  }
+
+  /**
+   * Method returns the strategy that defines the node factory that should be used to create trees. As
+   * {@link ObjectMapperConfig} does not provide this setting, the strategy of the standard configuration is defined by
+   * system property {@link NodeFactoryStrategy#NODE_FACTORY_PROPERTY}.
+   *
+   * @return {@link NodeFactoryStrategy} Strategy for the node factory. The method never returns null.
+   */
+  public NodeFactoryStrategy getNodeFactoryStrategy( ) {
+    return nodeFactoryStrategy;
+  }
+
   public List<ObjectMapperModuleFactory> getObjectMapperModuleFactories( ) {
     ConfigurationReader lReader = new ConfigurationReader();
     List<Class<? extends ObjectMapperModuleFactory>> lFactoryClasses =
         lReader.readClassesFromConfigFile(ModuleFactory.MODULE_FACTORY_CONFIG_PATH, ObjectMapperModuleFactory.class);
     return this.newInstances(lFactoryClasses, exceptionOnError);
   }
+
+  /**
+   * Method checks if the passed object is a configuration that defines the same settings for an object mapper.
+   *
+   * @param pObject Object that should be compared. The parameter may be null.
+   * @return boolean Method returns true if the passed object is a configuration with the same settings and false
+   * otherwise.
+   */
+  @Override
+  public boolean equals(Object pObject) {
+    boolean lEquals;
+    if (this == pObject) {
+      lEquals = true;
+    }
+    else if (pObject != null && this.getClass() == pObject.getClass()) {
+      ObjectMapperConfiguration lOther = (ObjectMapperConfiguration) pObject;
+      lEquals = exceptionOnError == lOther.exceptionOnError
+          && recyclerPoolStrategy == lOther.recyclerPoolStrategy
+          && nodeFactoryStrategy == lOther.nodeFactoryStrategy
+          && this.getDefaultFieldVisibility() == lOther.getDefaultFieldVisibility()
+          && this.getDefaultGetterVisibility() == lOther.getDefaultGetterVisibility()
+          && this.getDefaultSetterVisibility() == lOther.getDefaultSetterVisibility()
+          && this.getDefaultCreatorVisibility() == lOther.getDefaultCreatorVisibility()
+          && this.getDefaultPropertyInclusion() == lOther.getDefaultPropertyInclusion()
+          && Arrays.equals(this.getEnabledMapperFeatures(), lOther.getEnabledMapperFeatures())
+          && Arrays.equals(this.getDisabledMapperFeatures(), lOther.getDisabledMapperFeatures())
+          && Arrays.equals(this.getEnabledSerializationFeatures(), lOther.getEnabledSerializationFeatures())
+          && Arrays.equals(this.getDisabledSerializationFeatures(), lOther.getDisabledSerializationFeatures())
+          && Arrays.equals(this.getEnabledDeserializationFeatures(), lOther.getEnabledDeserializationFeatures())
+          && Arrays.equals(this.getDisabledDeserializationFeatures(), lOther.getDisabledDeserializationFeatures());
+    }
+    else {
+      lEquals = false;
+    }
+    return lEquals;
+  }
+
+  @Override
+  public int hashCode( ) {
+    int lHashCode = Objects.hash(exceptionOnError, recyclerPoolStrategy, nodeFactoryStrategy,
+        this.getDefaultFieldVisibility(), this.getDefaultGetterVisibility(), this.getDefaultSetterVisibility(),
+        this.getDefaultCreatorVisibility(), this.getDefaultPropertyInclusion());
+    lHashCode = 31 * lHashCode + Arrays.hashCode(this.getEnabledMapperFeatures());
+    lHashCode = 31 * lHashCode + Arrays.hashCode(this.getDisabledMapperFeatures());
+    lHashCode = 31 * lHashCode + Arrays.hashCode(this.getEnabledSerializationFeatures());
+    lHashCode = 31 * lHashCode + Arrays.hashCode(this.getDisabledSerializationFeatures());
+    lHashCode = 31 * lHashCode + Arrays.hashCode(this.getEnabledDeserializationFeatures());
+    lHashCode = 31 * lHashCode + Arrays.hashCode(this.getDisabledDeserializationFeatures());
+    return lHashCode;
+  }
 }
@@ -24,9 +24,8 @@ public class ObjectMapperContextResolver implements ContextResolver<ObjectMapper
   private final ObjectMapper mapper;
 
   public ObjectMapperContextResolver( ) {
-    // Create object mapper based on configuration
-    // Lookup configuration
-    mapper = ObjectMapperFactory.createObjectMapper();
+    // Use shared object mapper based on configuration. This way JAX-RS and JEAF JSON Tools share the caches of Jackson.
+    mapper = ObjectMapperFactory.getSharedObjectMapper();
   }
 
   /**
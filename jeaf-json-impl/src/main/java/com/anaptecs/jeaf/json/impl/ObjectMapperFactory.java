@@ -6,17 +6,21 @@
 package com.anaptecs.jeaf.json.impl;
 
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.anaptecs.jeaf.json.annotations.ObjectMapperConfig;
 import com.anaptecs.jeaf.json.api.ObjectMapperModuleFactory;
 import com.anaptecs.jeaf.xfun.api.checks.Check;
+import tools.jackson.core.json.JsonFactory;
 import tools.jackson.databind.MapperFeature;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.databind.json.JsonMapper.Builder;
 
 /**
- * Class can be used to create new object mappers for JSON serialization.
+ * Class can be used to create new object mappers for JSON serialization. As object mappers of Jackson 3 are immutable
+ * the class also provides shared instances per configuration. Shared instances should be preferred whenever possible as
+ * Jackson's internal caches for serializers, deserializers and types are bound to the object mapper.
  *
  * @author JEAF Development Team
  */
@@ -26,12 +30,44 @@ public class ObjectMapperFactory {
    */
   private static final ObjectMapperConfiguration STANDARD_CONFIG = new ObjectMapperConfiguration();
 
+  /**
+   * Registry contains the shared object mappers per configuration. Configurations are compared by the settings they
+   * define so the registry only grows with the number of different settings and not with the number of configuration
+   * instances.
+   */
+  private static final ConcurrentHashMap<ObjectMapperConfiguration, ObjectMapper> SHARED_MAPPERS =
+      new ConcurrentHashMap<>();
+
   /**
    * Hide public constructor.
    */
   private ObjectMapperFactory( ) {
   }
 
+  /**
+   * Method returns the shared {@link ObjectMapper} that is configured based on the default configuration mechanism
+   * {@link ObjectMapperConfig}.
+   *
+   * @return {@link ObjectMapper} Shared object mapper. The method never returns null.
+   */
+  public static ObjectMapper getSharedObjectMapper( ) {
+    return getSharedObjectMapper(STANDARD_CONFIG);
+  }
+
+  /**
+   * Method returns the shared {@link ObjectMapper} for the passed configuration. The object mapper will be created on
+   * first access. All configurations that define the same settings share the same object mapper.
+   *
+   * @param pConfiguration Configuration for the {@link ObjectMapper}. The parameter must not be null.
+   * @return {@link ObjectMapper} Shared object mapper. The method never returns null.
+   */
+  public static ObjectMapper getSharedObjectMapper(ObjectMapperConfiguration pConfiguration) {
+    // Check parameters.
+    Check.checkInvalidParameterNull(pConfiguration, "pConfiguration");
+
+    return SHARED_MAPPERS.computeIfAbsent(pConfiguration, ObjectMapperFactory::createObjectMapper);
+  }
+
   /**
    * Method creates a new {@link ObjectMapper} based on the default configuration mechanism {@link ObjectMapperConfig}.
    *
@@ -51,8 +87,11 @@ public class ObjectMapperFactory {
     // Check parameters.
     Check.checkInvalidParameterNull(pConfiguration, "pConfiguration");
 
-    // Create builder for object mappper.
-    Builder lBuilder = JsonMapper.builder();
+    // Create builder for object mappper. Buffer recycling is a setting of the underlying factory.
+    JsonFactory lJsonFactory =
+        JsonFactory.builder().recyclerPool(pConfiguration.getRecyclerPoolStrategy().createRecyclerPool()).build();
+    Builder lBuilder = JsonMapper.builder(lJsonFactory);
+    lBuilder.nodeFactory(pConfiguration.getNodeFactoryStrategy().createNodeFactory());
 
     // Set default visibilities.
     lBuilder.changeDefaultVisibility(v -> v.withFieldVisibility(pConfiguration.getDefaultFieldVisibility()));
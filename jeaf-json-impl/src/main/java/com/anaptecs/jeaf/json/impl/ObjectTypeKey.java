@@ -0,0 +1,184 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl;
+
+import java.util.Collection;
+
+import com.anaptecs.jeaf.json.api.ObjectType;
+import com.anaptecs.jeaf.json.api.ObjectType.CollectionObjectType;
+import com.anaptecs.jeaf.json.api.ObjectType.GenericsObjectType;
+import com.anaptecs.jeaf.json.api.ObjectType.SingleObjectType;
+import com.anaptecs.jeaf.xfun.api.checks.Assert;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.type.TypeFactory;
+
+/**
+ * Class represents the type information of an {@link ObjectType} in a way that it can be used as key of a cache. As
+ * {@link ObjectType} does not define equality itself, keys are only based on the classes that are referenced by it.
+ *
+ * @author JEAF Development Team
+ */
+final class ObjectTypeKey {
+  /**
+   * Enumeration defines the different kinds of types that are supported. They correspond to the implementations of
+   * {@link ObjectType}.
+   */
+  private enum Kind {
+    SINGLE, COLLECTION, GENERICS;
+  }
+
+  private final Kind kind;
+
+  /**
+   * Class of the object, the collection or the generic type.
+   */
+  private final Class<?> rawType;
+
+  /**
+   * Element respectively parameter type. It is either null, a {@link Class} or a nested {@link ObjectTypeKey}.
+   */
+  private final Object parameterType;
+
+  private final int hashCode;
+
+  private ObjectTypeKey( Kind pKind, Class<?> pRawType, Object pParameterType ) {
+    kind = pKind;
+    rawType = pRawType;
+    parameterType = pParameterType;
+
+    int lHashCode = 31 * pKind.hashCode() + pRawType.hashCode();
+    if (pParameterType != null) {
+      lHashCode = 31 * lHashCode + pParameterType.hashCode();
+    }
+    hashCode = lHashCode;
+  }
+
+  /**
+   * Method creates a key for the passed class.
+   *
+   * @param pObjectType Class of the object. The parameter must not be null.
+   * @return {@link ObjectTypeKey} Created key. The method never returns null.
+   */
+  static ObjectTypeKey of(Class<?> pObjectType) {
+    return new ObjectTypeKey(Kind.SINGLE, pObjectType, null);
+  }
+
+  /**
+   * Method creates a key for a collection of the passed type.
+   *
+   * @param pCollectionType Type of the collection. The parameter must not be null.
+   * @param pElementType Type of the elements of the collection. The parameter must not be null.
+   * @return {@link ObjectTypeKey} Created key. The method never returns null.
+   */
+  static ObjectTypeKey of(Class<?> pCollectionType, Class<?> pElementType) {
+    return new ObjectTypeKey(Kind.COLLECTION, pCollectionType, pElementType);
+  }
+
+  /**
+   * Method creates a key for a collection whose elements are described by the passed object type.
+   *
+   * @param pCollectionType Type of the collection. The parameter must not be null.
+   * @param pElementType Type of the elements of the collection. The parameter must not be null.
+   * @return {@link ObjectTypeKey} Created key. The method never returns null.
+   */
+  static ObjectTypeKey of(Class<?> pCollectionType, ObjectType pElementType) {
+    // Collections of simple objects should result in the same key no matter how the element type was defined.
+    Object lParameterType;
+    if (pElementType instanceof SingleObjectType) {
+      lParameterType = ((SingleObjectType) pElementType).getObjectType();
+    }
+    else {
+      lParameterType = ObjectTypeKey.of(pElementType);
+    }
+    return new ObjectTypeKey(Kind.COLLECTION, pCollectionType, lParameterType);
+  }
+
+  /**
+   * Method creates a key for the passed object type.
+   *
+   * @param pObjectType Object type for which a key should be created. The parameter must not be null.
+   * @return {@link ObjectTypeKey} Created key. The method never returns null.
+   */
+  static ObjectTypeKey of(ObjectType pObjectType) {
+    ObjectTypeKey lKey;
+    if (pObjectType instanceof SingleObjectType) {
+      lKey = new ObjectTypeKey(Kind.SINGLE, ((SingleObjectType) pObjectType).getObjectType(), null);
+    }
+    else if (pObjectType instanceof CollectionObjectType) {
+      CollectionObjectType lCollectionObjectType = (CollectionObjectType) pObjectType;
+      lKey = new ObjectTypeKey(Kind.COLLECTION, lCollectionObjectType.getCollectionType(),
+          lCollectionObjectType.getObjectType());
+    }
+    else if (pObjectType instanceof GenericsObjectType) {
+      GenericsObjectType lGenericsObjectType = (GenericsObjectType) pObjectType;
+      lKey = new ObjectTypeKey(Kind.GENERICS, lGenericsObjectType.getGenericType(),
+          lGenericsObjectType.getParameterType());
+    }
+    else {
+      Assert.internalError("Unexpected ObjectType implementation " + pObjectType.getClass().getName());
+      lKey = null;
+    }
+    return lKey;
+  }
+
+  /**
+   * Method creates the Jackson type definition that matches to this key.
+   *
+   * @param pTypeFactory Type factory that should be used. The parameter must not be null.
+   * @return {@link JavaType} JavaType that was created for this key. The method never returns null.
+   */
+  @SuppressWarnings("unchecked")
+  JavaType toJavaType(TypeFactory pTypeFactory) {
+    JavaType lJavaType;
+    switch (kind) {
+      case SINGLE:
+        lJavaType = pTypeFactory.constructType(rawType);
+        break;
+
+      case COLLECTION:
+        Class<? extends Collection<?>> lCollectionType = (Class<? extends Collection<?>>) rawType;
+        if (parameterType instanceof ObjectTypeKey) {
+          lJavaType = pTypeFactory.constructCollectionType(lCollectionType,
+              ((ObjectTypeKey) parameterType).toJavaType(pTypeFactory));
+        }
+        else {
+          lJavaType = pTypeFactory.constructCollectionType(lCollectionType, (Class<?>) parameterType);
+        }
+        break;
+
+      case GENERICS:
+        lJavaType = pTypeFactory.constructParametricType(rawType, (Class<?>) parameterType);
+        break;
+
+      default:
+        Assert.unexpectedEnumLiteral(kind);
+        lJavaType = null;
+    }
+    return lJavaType;
+  }
+
+  @Override
+  public int hashCode( ) {
+    return hashCode;
+  }
+
+  @Override
+  public boolean equals(Object pObject) {
+    boolean lEquals;
+    if (this == pObject) {
+      lEquals = true;
+    }
+    else if (pObject instanceof ObjectTypeKey) {
+      ObjectTypeKey lOther = (ObjectTypeKey) pObject;
+      lEquals = kind == lOther.kind && rawType == lOther.rawType && hashCode == lOther.hashCode
+          && (parameterType == null ? lOther.parameterType == null : parameterType.equals(lOther.parameterType));
+    }
+    else {
+      lEquals = false;
+    }
+    return lEquals;
+  }
+}
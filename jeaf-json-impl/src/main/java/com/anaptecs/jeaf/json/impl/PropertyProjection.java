@@ -0,0 +1,268 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.sym.PropertyNameMatcher;
+import tools.jackson.core.util.JsonParserDelegate;
+
+/**
+ * Class defines which properties should be deserialized when reading JSON. All other properties are skipped on token
+ * level so that no values are created for them.
+ *
+ * Properties are defined by their JSON names. Properties of nested objects are addressed using dot notation, e.g.
+ * <code>postalAddresses.city</code>. Arrays are transparent so the same paths apply to all elements of an array. If a
+ * property is selected then its complete value is included. If type information or object ids are serialized as
+ * properties then these properties have to be selected as well.
+ *
+ * Instances are immutable and can be reused.
+ *
+ * @author JEAF Development Team
+ */
+public final class PropertyProjection {
+  /**
+   * Paths of all selected properties.
+   */
+  private final Set<String> paths;
+
+  /**
+   * Root of the tree of selected properties.
+   */
+  private final Node root;
+
+  /**
+   * Initialize object.
+   *
+   * @param pPaths Paths of all selected properties. The parameter must not be null.
+   */
+  private PropertyProjection( Collection<String> pPaths ) {
+    paths = Collections.unmodifiableSet(new LinkedHashSet<>(pPaths));
+
+    // Build tree of selected properties. A selected property includes all its nested properties.
+    root = new Node();
+    for (String lNextPath : paths) {
+      Check.checkInvalidParameterNull(lNextPath, "pPaths");
+      Node lNode = root;
+      for (String lNextName : lNextPath.split("\\.")) {
+        if (lNode.includeAll) {
+          break;
+        }
+        lNode = lNode.children.computeIfAbsent(lNextName, pName -> new Node());
+      }
+      lNode.includeAll = true;
+      lNode.children.clear();
+    }
+  }
+
+  /**
+   * Method creates a new projection selecting the passed properties.
+   *
+   * @param pPaths Paths of all selected properties. The parameter must not be null.
+   * @return {@link PropertyProjection} Created projection. The method never returns null.
+   */
+  public static PropertyProjection of(String... pPaths) {
+    // Check parameters
+    Check.checkInvalidParameterNull(pPaths, "pPaths");
+
+    return new PropertyProjection(Arrays.asList(pPaths));
+  }
+
+  /**
+   * Method creates a new projection selecting the passed properties.
+   *
+   * @param pPaths Paths of all selected properties. The parameter must not be null.
+   * @return {@link PropertyProjection} Created projection. The method never returns null.
+   */
+  public static PropertyProjection of(Collection<String> pPaths) {
+    // Check parameters
+    Check.checkInvalidParameterNull(pPaths, "pPaths");
+
+    return new PropertyProjection(pPaths);
+  }
+
+  /**
+   * Method returns the paths of all selected properties.
+   *
+   * @return {@link Set} Unmodifiable set of all paths. The method never returns null.
+   */
+  public Set<String> getPaths( ) {
+    return paths;
+  }
+
+  /**
+   * Method returns a parser that only returns the tokens of the selected properties of the passed parser.
+   *
+   * @param pParser Parser for the whole document. The parameter must not be null.
+   * @return {@link JsonParser} Parser applying this projection. The method never returns null.
+   */
+  JsonParser createParser(JsonParser pParser) {
+    return new ProjectingParser(pParser, root);
+  }
+
+  @Override
+  public String toString( ) {
+    return "PropertyProjection" + paths;
+  }
+
+  /**
+   * Class represents a property within the tree of selected properties.
+   */
+  private static final class Node {
+    private final Map<String, Node> children = new HashMap<>();
+
+    private boolean includeAll;
+
+    /**
+     * Method returns the node for the nested property with the passed name.
+     *
+     * @param pName Name of the property.
+     * @return {@link Node} Node of the property or null if the property is not selected.
+     */
+    Node getChild(String pName) {
+      Node lChild;
+      if (includeAll) {
+        lChild = this;
+      }
+      else {
+        lChild = children.get(pName);
+      }
+      return lChild;
+    }
+  }
+
+  /**
+   * Parser skips the values of all properties that are not selected. In contrast to Jackson's
+   * {@link tools.jackson.core.filter.FilteringParserDelegate} no tokens are buffered so the delegate is always
+   * positioned on the current token. This is required as deserializers also access the delegate directly, e.g. to match
+   * property names.
+   */
+  private static final class ProjectingParser extends JsonParserDelegate {
+    /**
+     * Nodes of all currently open objects and arrays. Arrays use the node of their property.
+     */
+    private final Deque<Node> nodes = new ArrayDeque<>();
+
+    private final Node root;
+
+    /**
+     * Node of the value that follows the current property name.
+     */
+    private Node nextValueNode;
+
+    ProjectingParser( JsonParser pParser, Node pRoot ) {
+      super(pParser);
+      root = pRoot;
+    }
+
+    @Override
+    public JsonToken nextToken( ) {
+      JsonToken lToken = delegate.nextToken();
+      while (lToken == JsonToken.PROPERTY_NAME) {
+        Node lNode = nodes.peek().getChild(delegate.currentName());
+        if (lNode != null) {
+          nextValueNode = lNode;
+          break;
+        }
+        // Skip value of property including all its children without creating any values.
+        delegate.nextToken();
+        delegate.skipChildren();
+        lToken = delegate.nextToken();
+      }
+
+      if (lToken == JsonToken.START_OBJECT || lToken == JsonToken.START_ARRAY) {
+        nodes.push(this.consumeValueNode());
+      }
+      else if (lToken == JsonToken.END_OBJECT || lToken == JsonToken.END_ARRAY) {
+        nodes.pop();
+      }
+      else if (lToken != null && lToken != JsonToken.PROPERTY_NAME) {
+        this.consumeValueNode();
+      }
+      return lToken;
+    }
+
+    private Node consumeValueNode( ) {
+      Node lNode;
+      if (nextValueNode != null) {
+        lNode = nextValueNode;
+        nextValueNode = null;
+      }
+      else if (nodes.isEmpty()) {
+        lNode = root;
+      }
+      else {
+        // Elements of arrays
+        lNode = nodes.peek();
+      }
+      return lNode;
+    }
+
+    @Override
+    public JsonParser skipChildren( ) {
+      JsonToken lToken = delegate.currentToken();
+      if (lToken == JsonToken.START_OBJECT || lToken == JsonToken.START_ARRAY) {
+        delegate.skipChildren();
+        nodes.pop();
+      }
+      return this;
+    }
+
+    @Override
+    public JsonToken nextValue( ) {
+      JsonToken lToken = this.nextToken();
+      if (lToken == JsonToken.PROPERTY_NAME) {
+        lToken = this.nextToken();
+      }
+      return lToken;
+    }
+
+    @Override
+    public String nextName( ) {
+      String lName;
+      if (this.nextToken() == JsonToken.PROPERTY_NAME) {
+        lName = delegate.currentName();
+      }
+      else {
+        lName = null;
+      }
+      return lName;
+    }
+
+    @Override
+    public boolean nextName(SerializableString pName) {
+      return pName.getValue().equals(this.nextName());
+    }
+
+    @Override
+    public int nextNameMatch(PropertyNameMatcher pMatcher) {
+      JsonToken lToken = this.nextToken();
+      int lMatch;
+      if (lToken == JsonToken.PROPERTY_NAME) {
+        lMatch = delegate.currentNameMatch(pMatcher);
+      }
+      else if (lToken == JsonToken.END_OBJECT) {
+        lMatch = PropertyNameMatcher.MATCH_END_OBJECT;
+      }
+      else {
+        lMatch = PropertyNameMatcher.MATCH_ODD_TOKEN;
+      }
+      return lMatch;
+    }
+  }
+}
@@ -0,0 +1,316 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.TokenStreamContext;
+import tools.jackson.databind.AnnotationIntrospector;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.cfg.MapperBuilder;
+import tools.jackson.databind.cfg.MapperConfig;
+import tools.jackson.databind.introspect.Annotated;
+import tools.jackson.databind.introspect.AnnotatedClass;
+import tools.jackson.databind.introspect.NopAnnotationIntrospector;
+import tools.jackson.databind.ser.FilterProvider;
+import tools.jackson.databind.ser.PropertyWriter;
+import tools.jackson.databind.ser.std.SimpleBeanPropertyFilter;
+import tools.jackson.databind.ser.std.SimpleFilterProvider;
+
+/**
+ * Class defines which properties should be written when serializing objects as JSON. A selection either includes only
+ * the defined properties or writes all properties except the defined ones.
+ *
+ * Properties are defined by their JSON names. Properties of nested objects are addressed using dot notation, e.g.
+ * <code>postalAddresses.city</code>. Arrays are transparent so the same paths apply to all elements of an array. If a
+ * property is included then its complete value is written. Type information is not affected by a selection whereas
+ * object ids that are regular properties of a class have to be selected like any other property.
+ *
+ * Instances are immutable, define equality based on their paths and can be reused.
+ *
+ * @author JEAF Development Team
+ */
+public final class PropertySelection {
+  /**
+   * Id of the filter that is assigned to all classes that do not define a filter themselves.
+   */
+  private static final String FILTER_ID = PropertySelection.class.getName();
+
+  /**
+   * Attribute defines if the selected properties are the only ones that are written or if they are the ones that are
+   * left out.
+   */
+  private final boolean include;
+
+  /**
+   * Paths of all selected properties.
+   */
+  private final Set<String> paths;
+
+  /**
+   * Root of the tree of selected properties.
+   */
+  private final Node root;
+
+  /**
+   * Initialize object.
+   *
+   * @param pInclude Parameter defines if the selected properties should be included or excluded.
+   * @param pPaths Paths of all selected properties. The parameter must not be null.
+   */
+  private PropertySelection( boolean pInclude, Collection<String> pPaths ) {
+    include = pInclude;
+    paths = Collections.unmodifiableSet(new LinkedHashSet<>(pPaths));
+
+    // Build tree of selected properties. A selected property covers all its nested properties.
+    root = new Node();
+    for (String lNextPath : paths) {
+      Check.checkInvalidParameterNull(lNextPath, "pPaths");
+      Node lNode = root;
+      for (String lNextName : lNextPath.split("\\.")) {
+        if (lNode.selected) {
+          break;
+        }
+        lNode = lNode.children.computeIfAbsent(lNextName, pName -> new Node());
+      }
+      lNode.selected = true;
+      lNode.children.clear();
+    }
+  }
+
+  /**
+   * Method creates a new selection that only writes the passed properties.
+   *
+   * @param pPaths Paths of all properties that should be written. The parameter must not be null.
+   * @return {@link PropertySelection} Created selection. The method never returns null.
+   */
+  public static PropertySelection include(String... pPaths) {
+    // Check parameters
+    Check.checkInvalidParameterNull(pPaths, "pPaths");
+
+    return new PropertySelection(true, Arrays.asList(pPaths));
+  }
+
+  /**
+   * Method creates a new selection that only writes the passed properties.
+   *
+   * @param pPaths Paths of all properties that should be written. The parameter must not be null.
+   * @return {@link PropertySelection} Created selection. The method never returns null.
+   */
+  public static PropertySelection include(Collection<String> pPaths) {
+    // Check parameters
+    Check.checkInvalidParameterNull(pPaths, "pPaths");
+
+    return new PropertySelection(true, pPaths);
+  }
+
+  /**
+   * Method creates a new selection that writes all properties except the passed ones.
+   *
+   * @param pPaths Paths of all properties that should not be written. The parameter must not be null.
+   * @return {@link PropertySelection} Created selection. The method never returns null.
+   */
+  public static PropertySelection exclude(String... pPaths) {
+    // Check parameters
+    Check.checkInvalidParameterNull(pPaths, "pPaths");
+
+    return new PropertySelection(false, Arrays.asList(pPaths));
+  }
+
+  /**
+   * Method creates a new selection that writes all properties except the passed ones.
+   *
+   * @param pPaths Paths of all properties that should not be written. The parameter must not be null.
+   * @return {@link PropertySelection} Created selection. The method never returns null.
+   */
+  public static PropertySelection exclude(Collection<String> pPaths) {
+    // Check parameters
+    Check.checkInvalidParameterNull(pPaths, "pPaths");
+
+    return new PropertySelection(false, pPaths);
+  }
+
+  /**
+   * Method checks if the selected properties are the only ones that are written.
+   *
+   * @return boolean Method returns true if only the selected properties are written and false if all properties except
+   * the selected ones are written.
+   */
+  public boolean isInclude( ) {
+    return include;
+  }
+
+  /**
+   * Method returns the paths of all selected properties.
+   *
+   * @return {@link Set} Unmodifiable set of all paths. The method never returns null.
+   */
+  public Set<String> getPaths( ) {
+    return paths;
+  }
+
+  /**
+   * Method returns the filter provider that applies this selection to all objects that are written by an object mapper
+   * created through {@link #createObjectMapper(ObjectMapper)}.
+   *
+   * @return {@link FilterProvider} Filter provider for this selection. The method never returns null.
+   */
+  FilterProvider createFilterProvider( ) {
+    return new SimpleFilterProvider().setDefaultFilter(new SelectionFilter());
+  }
+
+  /**
+   * Method creates a copy of the passed object mapper that applies property filters to all classes. Classes that do not
+   * define a filter themselves get a common filter id assigned. As the filter itself is resolved during serialization
+   * the returned object mapper and its serializers can be shared by all selections.
+   *
+   * @param pObjectMapper Object mapper that should be copied. The parameter must not be null.
+   * @return {@link ObjectMapper} Object mapper supporting property selections. The method never returns null.
+   */
+  static ObjectMapper createObjectMapper(ObjectMapper pObjectMapper) {
+    MapperBuilder<?, ?> lBuilder = pObjectMapper.rebuild();
+    lBuilder.annotationIntrospector(
+        AnnotationIntrospector.pair(lBuilder.annotationIntrospector(), new FilterIdIntrospector()));
+    return lBuilder.build();
+  }
+
+  @Override
+  public boolean equals(Object pObject) {
+    boolean lEquals;
+    if (pObject == this) {
+      lEquals = true;
+    }
+    else if (pObject instanceof PropertySelection) {
+      PropertySelection lOther = (PropertySelection) pObject;
+      lEquals = include == lOther.include && paths.equals(lOther.paths);
+    }
+    else {
+      lEquals = false;
+    }
+    return lEquals;
+  }
+
+  @Override
+  public int hashCode( ) {
+    return 31 * Boolean.hashCode(include) + paths.hashCode();
+  }
+
+  @Override
+  public String toString( ) {
+    return "PropertySelection[" + (include ? "include" : "exclude") + paths + "]";
+  }
+
+  /**
+   * Method resolves the node of the tree of selected properties that belongs to the passed output context.
+   *
+   * @param pContext Output context of an object that is written. The parameter must not be null.
+   * @return {@link Node} Node of the context or null if no property within the context is selected.
+   */
+  private Node resolve(TokenStreamContext pContext) {
+    Node lNode;
+    if (pContext.inRoot()) {
+      lNode = root;
+    }
+    else {
+      TokenStreamContext lParent = pContext.getParent();
+      lNode = this.resolve(lParent);
+      // Arrays and the root context do not add a path segment.
+      if (lNode != null && lParent.inObject()) {
+        lNode = lNode.getChild(lParent.currentName());
+      }
+    }
+    return lNode;
+  }
+
+  /**
+   * Class represents a property within the tree of selected properties.
+   */
+  private static final class Node {
+    private final Map<String, Node> children = new HashMap<>();
+
+    private boolean selected;
+
+    /**
+     * Method returns the node for the nested property with the passed name.
+     *
+     * @param pName Name of the property.
+     * @return {@link Node} Node of the property or null if neither the property nor one of its nested properties is
+     * selected.
+     */
+    Node getChild(String pName) {
+      Node lChild;
+      if (selected) {
+        lChild = this;
+      }
+      else {
+        lChild = children.get(pName);
+      }
+      return lChild;
+    }
+  }
+
+  /**
+   * Filter decides based on the position within the output whether a property is written.
+   */
+  private final class SelectionFilter extends SimpleBeanPropertyFilter {
+    @Override
+    public void serializeAsProperty(Object pBean, JsonGenerator pGenerator, SerializationContext pContext,
+        PropertyWriter pWriter) throws Exception {
+
+      Node lNode = PropertySelection.this.resolve(pGenerator.streamWriteContext());
+      Node lChild;
+      if (lNode != null) {
+        lChild = lNode.getChild(pWriter.getName());
+      }
+      else {
+        lChild = null;
+      }
+
+      boolean lWrite;
+      if (include) {
+        lWrite = lChild != null;
+      }
+      else {
+        lWrite = lChild == null || lChild.selected == false;
+      }
+
+      if (lWrite) {
+        pWriter.serializeAsProperty(pBean, pGenerator, pContext);
+      }
+      else if (pGenerator.canOmitProperties() == false) {
+        pWriter.serializeAsOmittedProperty(pBean, pGenerator, pContext);
+      }
+    }
+  }
+
+  /**
+   * Annotation introspector assigns the common filter id to all classes.
+   */
+  private static final class FilterIdIntrospector extends NopAnnotationIntrospector {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public Object findFilterId(MapperConfig<?> pConfig, Annotated pAnnotated) {
+      Object lFilterID;
+      if (pAnnotated instanceof AnnotatedClass) {
+        lFilterID = FILTER_ID;
+      }
+      else {
+        lFilterID = null;
+      }
+      return lFilterID;
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl;
+
+import tools.jackson.core.util.BufferRecycler;
+import tools.jackson.core.util.JsonRecyclerPools;
+import tools.jackson.core.util.RecyclerPool;
+
+/**
+ * Enumeration defines the strategies that can be used by Jackson to recycle its internal buffers. The strategy is
+ * especially relevant when JSON Tools are used from virtual threads as thread local buffers will usually be cold for
+ * every new virtual thread.
+ *
+ * @author JEAF Development Team
+ */
+public enum RecyclerPoolStrategy {
+  /**
+   * Every object mapper uses its own lock-free pool based on a concurrent deque. This is Jackson's default.
+   */
+  CONCURRENT_DEQUE {
+    @Override
+    public RecyclerPool<BufferRecycler> createRecyclerPool( ) {
+      return JsonRecyclerPools.newConcurrentDequePool();
+    }
+  },
+
+  /**
+   * All object mappers share one lock-free pool based on a concurrent deque.
+   */
+  SHARED_CONCURRENT_DEQUE {
+    @Override
+    public RecyclerPool<BufferRecycler> createRecyclerPool( ) {
+      return JsonRecyclerPools.sharedConcurrentDequePool();
+    }
+  },
+
+  /**
+   * All object mappers share one pool with a bounded number of buffers.
+   */
+  BOUNDED {
+    @Override
+    public RecyclerPool<BufferRecycler> createRecyclerPool( ) {
+      return JsonRecyclerPools.sharedBoundedPool();
+    }
+  },
+
+  /**
+   * Buffers are recycled per thread. This only works well for long living platform threads.
+   */
+  THREAD_LOCAL {
+    @Override
+    public RecyclerPool<BufferRecycler> createRecyclerPool( ) {
+      return JsonRecyclerPools.threadLocalPool();
+    }
+  },
+
+  /**
+   * Buffers are not recycled at all.
+   */
+  NONE {
+    @Override
+    public RecyclerPool<BufferRecycler> createRecyclerPool( ) {
+      return JsonRecyclerPools.nonRecyclingPool();
+    }
+  };
+
+  /**
+   * Name of the system property that can be used to define the strategy of the standard configuration.
+   */
+  public static final String RECYCLER_POOL_PROPERTY = "jeaf.json.recyclerPool";
+
+  /**
+   * Strategy that is used if nothing else is defined.
+   */
+  public static final RecyclerPoolStrategy DEFAULT_STRATEGY = CONCURRENT_DEQUE;
+
+  /**
+   * Method creates the recycler pool that should be used by an object mapper.
+   *
+   * @return {@link RecyclerPool} Recycler pool. The method never returns null.
+   */
+  public abstract RecyclerPool<BufferRecycler> createRecyclerPool( );
+
+  /**
+   * Method returns the strategy that is defined by system property {@link #RECYCLER_POOL_PROPERTY}.
+   *
+   * @return {@link RecyclerPoolStrategy} Configured strategy. If the system property is not set or does not contain the
+   * name of a strategy then {@link #DEFAULT_STRATEGY} is returned. The method never returns null.
+   */
+  public static RecyclerPoolStrategy getConfiguredStrategy( ) {
+    return ConfigurationProperties.getEnumProperty(RECYCLER_POOL_PROPERTY, DEFAULT_STRATEGY,
+        RecyclerPoolStrategy.class);
+  }
+}
@@ -0,0 +1,119 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.Reader;
+
+import com.anaptecs.jeaf.json.api.JSONMessages;
+import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
+import tools.jackson.databind.ObjectReader;
+
+/**
+ * Class provides a prepared reader for objects of a specific type. All type information is resolved when the reader is
+ * created. Instances are immutable and thus can be shared between threads and reused for any number of calls.
+ *
+ * Instances of this class can be obtained via {@link JSONToolsImpl#readerFor(Class)} or
+ * {@link JSONToolsImpl#readerFor(com.anaptecs.jeaf.json.api.ObjectType)}.
+ *
+ * @author JEAF Development Team
+ */
+public final class TypedJSONReader<T> {
+  /**
+   * Jackson reader that is used for deserialization.
+   */
+  private final ObjectReader reader;
+
+  /**
+   * Initialize object.
+   *
+   * @param pReader Jackson reader that should be used for deserialization. The parameter must not be null.
+   */
+  TypedJSONReader( ObjectReader pReader ) {
+    reader = pReader;
+  }
+
+  /**
+   * Method deserializes the data of passed stream.
+   *
+   * @param pInputStream Stream from which the data should be read. The parameter must not be null.
+   * @return T Object that was created. The method may return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public T read(InputStream pInputStream) throws JEAFSystemException {
+    try {
+      return reader.readValue(pInputStream);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method deserializes the data from the passed reader.
+   *
+   * @param pReader Reader from which the data should be read. The parameter must not be null.
+   * @return T Object that was created. The method may return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public T read(Reader pReader) throws JEAFSystemException {
+    try {
+      return reader.readValue(pReader);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method deserializes the data from the passed file.
+   *
+   * @param pFile File from which the data should be read. The parameter must not be null.
+   * @return T Object that was created. The method may return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public T read(File pFile) throws JEAFSystemException {
+    try {
+      return reader.readValue(pFile);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method deserializes the passed string.
+   *
+   * @param pString String from which the data should be read. The parameter must not be null.
+   * @return T Object that was created. The method may return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public T read(String pString) throws JEAFSystemException {
+    try {
+      return reader.readValue(pString);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method deserializes the passed byte array.
+   *
+   * @param pBytes Byte array from which the data should be read. The parameter must not be null.
+   * @return T Object that was created. The method may return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  public T read(byte[] pBytes) throws JEAFSystemException {
+    try {
+      return reader.readValue(pBytes);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_DESERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+}
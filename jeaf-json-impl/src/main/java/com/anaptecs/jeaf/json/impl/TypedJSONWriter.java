@@ -0,0 +1,120 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.io.Writer;
+
+import com.anaptecs.jeaf.json.api.JSONMessages;
+import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
+import tools.jackson.databind.ObjectWriter;
+
+/**
+ * Class provides a prepared writer for objects of a specific type. All type information is resolved when the writer is
+ * created. Objects are always serialized as the type of the writer and not as their runtime type. Instances are
+ * immutable and thus can be shared between threads and reused for any number of calls.
+ *
+ * Instances of this class can be obtained via {@link JSONToolsImpl#writerFor(Class)} or
+ * {@link JSONToolsImpl#writerFor(com.anaptecs.jeaf.json.api.ObjectType)}.
+ *
+ * @author JEAF Development Team
+ */
+public final class TypedJSONWriter<T> {
+  /**
+   * Jackson writer that is used for serialization.
+   */
+  private final ObjectWriter writer;
+
+  /**
+   * Initialize object.
+   *
+   * @param pWriter Jackson writer that should be used for serialization. The parameter must not be null.
+   */
+  TypedJSONWriter( ObjectWriter pWriter ) {
+    writer = pWriter;
+  }
+
+  /**
+   * Method serializes the passed object to the passed stream.
+   *
+   * @param pObject Object that should be serialized as JSON. The parameter may be null.
+   * @param pOutputStream Stream to which the object should be written. The parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public void write(T pObject, OutputStream pOutputStream) throws JEAFSystemException {
+    try {
+      writer.writeValue(pOutputStream, pObject);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_SERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method serializes the passed object to the passed writer.
+   *
+   * @param pObject Object that should be serialized as JSON. The parameter may be null.
+   * @param pWriter Writer to which the object should be written. The parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public void write(T pObject, Writer pWriter) throws JEAFSystemException {
+    try {
+      writer.writeValue(pWriter, pObject);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_SERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method serializes the passed object to the passed file.
+   *
+   * @param pObject Object that should be serialized as JSON. The parameter may be null.
+   * @param pFile File to which the object should be written. The parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public void write(T pObject, File pFile) throws JEAFSystemException {
+    try {
+      writer.writeValue(pFile, pObject);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_SERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method serializes the passed object as string.
+   *
+   * @param pObject Object that should be serialized as JSON. The parameter may be null.
+   * @return {@link String} JSON serialized object as String. The method never returns null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public String writeToString(T pObject) throws JEAFSystemException {
+    try {
+      return writer.writeValueAsString(pObject);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_SERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+
+  /**
+   * Method serializes the passed object as byte array.
+   *
+   * @param pObject Object that should be serialized as JSON. The parameter may be null.
+   * @return byte[] JSON serialized object as byte array. The method never returns null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  public byte[] writeToBytes(T pObject) throws JEAFSystemException {
+    try {
+      return writer.writeValueAsBytes(pObject);
+    }
+    catch (RuntimeException e) {
+      throw new JEAFSystemException(JSONMessages.JSON_SERIALIZATION_FAILED, e, e.getMessage());
+    }
+  }
+}
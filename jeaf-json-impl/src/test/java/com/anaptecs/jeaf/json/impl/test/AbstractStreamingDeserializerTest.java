@@ -0,0 +1,123 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.impl.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Date;
+import java.util.List;
+
+import com.anaptecs.jeaf.json.api.JSONTools;
+import com.anaptecs.jeaf.json.impl.AbstractStreamingDeserializer;
+import com.anaptecs.jeaf.tools.api.date.DateTools;
+import com.anaptecs.jeaf.xfun.api.checks.InvalidParameterException;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.exc.MismatchedInputException;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.module.SimpleModule;
+
+/**
+ * Class tests implementations of class {@link AbstractStreamingDeserializer}
+ */
+class AbstractStreamingDeserializerTest {
+  @Test
+  void testDeserialize( ) {
+    ObjectMapper lObjectMapper = JSONTools.getJSONTools().getDefaultObjectMapper();
+    ItemDeserializer lDeserializer = new ItemDeserializer();
+    String lJSON = "{\"name\":\"Item\",\"unknown\":{\"a\":[1,2,{\"b\":3}]},\"count\":\"42\",\"active\":true,"
+        + "\"date\":\"2022-01-19 17:02:45.551\",\"child\":{\"name\":\"Child\",\"count\":7,\"active\":\"true\"}}";
+    JsonParser lParser = lObjectMapper.createParser(lJSON);
+    Item lItem = lDeserializer.deserialize(lParser, null);
+
+    assertEquals("Item", lItem.name);
+    assertEquals(42, lItem.count);
+    assertTrue(lItem.active);
+    assertEquals(DateTools.getDateTools().toDate("2022-01-19 17:02:45.551"), lItem.date);
+    assertEquals("Child", lItem.child.name);
+    assertEquals(7, lItem.child.count);
+    assertTrue(lItem.child.active);
+    assertNull(lItem.child.child);
+
+    // Test null and default handling
+    lParser = lObjectMapper.createParser("{\"name\":null,\"count\":null,\"child\":null}");
+    lItem = lDeserializer.deserialize(lParser, null);
+    assertNull(lItem.name);
+    assertEquals(-1, lItem.count);
+    assertNull(lItem.child);
+    assertEquals(null, lDeserializer.deserialize(lObjectMapper.createParser(""), null));
+    assertEquals(null, lDeserializer.deserialize(lObjectMapper.createParser("null"), null));
+
+    assertThrows(InvalidParameterException.class, () -> lDeserializer.deserialize(null, null));
+
+    // Unexpected tokens are also reported without context.
+    assertThrows(MismatchedInputException.class,
+        () -> lDeserializer.deserialize(lObjectMapper.createParser("[1]"), null));
+    assertThrows(MismatchedInputException.class,
+        () -> lDeserializer.deserialize(lObjectMapper.createParser("1"), null));
+  }
+
+  @Test
+  void testDeserializeWithObjectMapper( ) {
+    SimpleModule lModule = new SimpleModule();
+    lModule.addDeserializer(Item.class, new ItemDeserializer());
+    ObjectMapper lObjectMapper = JsonMapper.builder().addModule(lModule).build();
+
+    List<Item> lItems = lObjectMapper.readValue("[{\"name\":\"A\",\"count\":1},null,{\"name\":\"B\"}]",
+        new TypeReference<List<Item>>() {
+        });
+    assertEquals(3, lItems.size());
+    assertEquals("A", lItems.get(0).name);
+    assertEquals(1, lItems.get(0).count);
+    assertNull(lItems.get(1));
+    assertEquals("B", lItems.get(2).name);
+    assertEquals(-1, lItems.get(2).count);
+
+    assertThrows(MismatchedInputException.class, () -> lObjectMapper.readValue("[1]", Item.class));
+  }
+
+  static class Item {
+    private String name;
+
+    private int count;
+
+    private boolean active;
+
+    private Date date;
+
+    private Item child;
+  }
+
+  static class ItemDeserializer extends AbstractStreamingDeserializer<Item, Item> {
+    private static final FieldTable<Item> FIELDS = new FieldTable<Item>()
+        .add("name", (p, c, s) -> s.name = getStringValue(p, null))
+        .add("count", (p, c, s) -> s.count = getIntegerValue(p, -1))
+        .add("active", (p, c, s) -> s.active = getBooleanValue(p, false))
+        .add("date", (p, c, s) -> s.date = getDateValue(p, null))
+        .add("child", (p, c, s) -> s.child = getObjectValue(p, c, new ItemDeserializer(), null));
+
+    ItemDeserializer( ) {
+      super(Item.class, FIELDS);
+    }
+
+    @Override
+    protected Item createState( ) {
+      Item lItem = new Item();
+      lItem.count = -1;
+      return lItem;
+    }
+
+    @Override
+    protected Item createObject(Item pState) {
+      return pState;
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.anaptecs.jeaf.json.impl.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+import com.anaptecs.jeaf.json.api.JSONMessages;
+import com.anaptecs.jeaf.json.api.JSONTools;
+import com.anaptecs.jeaf.json.api.ObjectType;
+import com.anaptecs.jeaf.json.impl.BatchReadResult;
+import com.anaptecs.jeaf.json.impl.JSONToolsImpl;
+import com.anaptecs.jeaf.json.impl.test.domain.BusinessObject;
+
+public class BatchReadTest {
+  private final JSONToolsImpl tools = (JSONToolsImpl) JSONTools.getJSONTools();
+
+  @Test
+  void testReadAllBytes( ) {
+    List<byte[]> lPayloads = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      String lJSON = (i % 100 == 42) ? "{\"property\":" : "{\"property\":\"Object " + i + "\"}";
+      lPayloads.add(lJSON.getBytes(StandardCharsets.UTF_8));
+    }
+
+    BatchReadResult<BusinessObject> lResult = tools.readAllBytes(lPayloads, BusinessObject.class);
+    assertEquals(1000, lResult.size());
+    assertTrue(lResult.hasFailures());
+    assertEquals(List.of(42, 142, 242, 342, 442, 542, 642, 742, 842, 942), lResult.getFailedIndexes());
+    for (int i = 0; i < 1000; i++) {
+      if (i % 100 == 42) {
+        assertTrue(lResult.isFailed(i));
+        assertNull(lResult.getValue(i));
+        assertEquals(JSONMessages.JSON_DESERIALIZATION_FAILED, lResult.getFailure(i).getErrorCode());
+      }
+      else {
+        assertFalse(lResult.isFailed(i));
+        assertNull(lResult.getFailure(i));
+        assertEquals("Object " + i, lResult.getValue(i).getProperty());
+      }
+    }
+  }
+
+  @Test
+  void testReadAllStringsWithExecutor( ) {
+    List<String> lPayloads = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      lPayloads.add("{\"property\":\"Object " + i + "\"}");
+    }
+
+    ExecutorService lExecutor = Executors.newFixedThreadPool(3);
+    try {
+      BatchReadResult<BusinessObject> lResult =
+          tools.readAllStrings(lPayloads, ObjectType.createObjectType(BusinessObject.class), lExecutor);
+      assertFalse(lResult.hasFailures());
+      assertEquals(100, lResult.getValues().size());
+      for (int i = 0; i < 100; i++) {
+        assertEquals("Object " + i, lResult.getValues().get(i).getProperty());
+      }
+    }
+    finally {
+      lExecutor.shutdown();
+    }
+
+    // Empty batch
+    BatchReadResult<BusinessObject> lEmpty = tools.readAllStrings(new ArrayList<>(), BusinessObject.class);
+    assertEquals(0, lEmpty.size());
+    assertFalse(lEmpty.hasFailures());
+  }
+}
@@ -0,0 +1,105 @@
+package com.anaptecs.jeaf.json.impl.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.anaptecs.jeaf.json.api.JSONTools;
+import com.anaptecs.jeaf.json.api.ObjectType;
+import com.anaptecs.jeaf.json.impl.BoundedCache;
+import com.anaptecs.jeaf.json.impl.CacheStatistics;
+import com.anaptecs.jeaf.json.impl.JSONToolsImpl;
+import com.anaptecs.jeaf.json.impl.test.domain.BusinessObject;
+import com.anaptecs.jeaf.json.impl.test.domain.SingleValuedGenericResponse;
+
+public class BoundedCacheTest {
+  @Test
+  void testCachedValues( ) {
+    BoundedCache<String, StringBuilder> lCache = new BoundedCache<>(2);
+    assertEquals(2, lCache.getMaxSize());
+    assertEquals(0, lCache.size());
+
+    StringBuilder lFirst = lCache.get("A", StringBuilder::new);
+    assertSame(lFirst, lCache.get("A", StringBuilder::new));
+    assertEquals("A", lFirst.toString());
+    assertEquals(1, lCache.size());
+
+    // Cache must not grow beyond its maximum size.
+    lCache.get("B", StringBuilder::new);
+    lCache.get("C", StringBuilder::new);
+    lCache.get("D", StringBuilder::new);
+    assertEquals(2, lCache.size());
+
+    CacheStatistics lStatistics = lCache.getStatistics();
+    assertEquals(1, lStatistics.getHits());
+    assertEquals(4, lStatistics.getMisses());
+    assertEquals(2, lStatistics.getSize());
+    assertEquals(2, lStatistics.getMaxSize());
+    assertEquals(0.2, lStatistics.getHitRatio(), 0.0001);
+
+    lCache.clear();
+    assertEquals(0, lCache.size());
+    assertEquals(0, lCache.getStatistics().getHits());
+    assertEquals(0.0, lCache.getStatistics().getHitRatio());
+
+    // Caching can also be disabled.
+    BoundedCache<String, StringBuilder> lDisabledCache = new BoundedCache<>(0);
+    assertTrue(lDisabledCache.get("A", StringBuilder::new) != lDisabledCache.get("A", StringBuilder::new));
+    assertEquals(0, lDisabledCache.size());
+  }
+
+  @Test
+  void testCollectionWriterCache( ) {
+    JSONToolsImpl lTools = (JSONToolsImpl) JSONTools.getJSONTools();
+    BusinessObject lBusinessObject = new BusinessObject();
+    lBusinessObject.setProperty("Cached");
+
+    CacheStatistics lBefore = lTools.getCollectionWriterCacheStatistics();
+    for (int i = 0; i < 5; i++) {
+      List<BusinessObject> lObjects = new ArrayList<>();
+      lObjects.add(lBusinessObject);
+      assertEquals("[{\"property\":\"Cached\"}]", lTools.writeObjectsToString(lObjects, BusinessObject.class));
+    }
+    CacheStatistics lAfter = lTools.getCollectionWriterCacheStatistics();
+    assertEquals(5, lAfter.getHits() + lAfter.getMisses() - lBefore.getHits() - lBefore.getMisses());
+    assertTrue(lAfter.getHits() - lBefore.getHits() >= 4);
+  }
+
+  @Test
+  void testRepeatedReadsWithEquivalentObjectTypes( ) {
+    JSONTools lTools = JSONTools.getJSONTools();
+    BusinessObject lBusinessObject = new BusinessObject();
+    lBusinessObject.setProperty("Cached");
+    SingleValuedGenericResponse<BusinessObject> lResponse = new SingleValuedGenericResponse<>();
+    lResponse.setMessage("Message-1");
+    lResponse.setValue(lBusinessObject);
+    List<SingleValuedGenericResponse<BusinessObject>> lResponses = new ArrayList<>();
+    lResponses.add(lResponse);
+    lResponses.add(lResponse);
+    String lJSON = lTools.writeObjectsToString(lResponses, SingleValuedGenericResponse.class);
+
+    // Different but equivalent object types have to result in the same result.
+    for (int i = 0; i < 3; i++) {
+      ObjectType lElementType =
+          ObjectType.createGenericsObjectType(SingleValuedGenericResponse.class, BusinessObject.class);
+      List<SingleValuedGenericResponse<BusinessObject>> lList =
+          lTools.readToCollection(lJSON, List.class, lElementType);
+      assertEquals(2, lList.size());
+      assertEquals("Cached", lList.get(0).getValue().getProperty());
+    }
+
+    // Collection type is part of the cache key.
+    Set<BusinessObject> lSet = lTools.readToCollection("[{\"property\":\"A\"},{\"property\":\"A\"}]", Set.class,
+        ObjectType.createObjectType(BusinessObject.class));
+    assertTrue(lSet instanceof Set);
+    List<BusinessObject> lList = lTools.readToCollection("[{\"property\":\"A\"},{\"property\":\"A\"}]", List.class,
+        BusinessObject.class);
+    assertEquals(2, lList.size());
+  }
+}
@@ -0,0 +1,75 @@
+package com.anaptecs.jeaf.json.impl.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.anaptecs.jeaf.json.api.JSONMessages;
+import com.anaptecs.jeaf.json.api.JSONTools;
+import com.anaptecs.jeaf.json.api.ObjectType;
+import com.anaptecs.jeaf.json.impl.JSONToolsImpl;
+import com.anaptecs.jeaf.json.impl.test.domain.BusinessObject;
+import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
+
+public class ByteBufferTest {
+  private static final String JSON = "{\"property\":\"Buffered\"}";
+
+  private final JSONToolsImpl tools = (JSONToolsImpl) JSONTools.getJSONTools();
+
+  @Test
+  void testWriteToByteBuffer( ) {
+    BusinessObject lObject = new BusinessObject();
+    lObject.setProperty("Buffered");
+
+    ByteBuffer lBuffer = tools.writeObjectToByteBuffer(lObject);
+    assertEquals(JSON, StandardCharsets.UTF_8.decode(lBuffer).toString());
+
+    // Heap and direct buffers with some content before the object.
+    for (ByteBuffer lNext : List.of(ByteBuffer.allocate(100), ByteBuffer.allocateDirect(100))) {
+      lNext.put((byte) 'X');
+      tools.writeObject(lObject, lNext);
+      assertEquals(JSON.length() + 1, lNext.position());
+      lNext.flip();
+      assertEquals("X" + JSON, StandardCharsets.UTF_8.decode(lNext).toString());
+    }
+
+    // Buffer too small
+    try {
+      tools.writeObject(lObject, ByteBuffer.allocate(5));
+      fail("Expecting exception");
+    }
+    catch (JEAFSystemException e) {
+      assertEquals(JSONMessages.JSON_SERIALIZATION_FAILED, e.getErrorCode());
+    }
+  }
+
+  @Test
+  void testReadFromByteBuffer( ) {
+    byte[] lBytes = ("XX" + JSON).getBytes(StandardCharsets.UTF_8);
+
+    // Heap buffer that is a slice of a larger array.
+    ByteBuffer lHeapBuffer = ByteBuffer.wrap(lBytes, 2, lBytes.length - 2).slice();
+    assertEquals("Buffered", tools.read(lHeapBuffer, BusinessObject.class).getProperty());
+    assertFalse(lHeapBuffer.hasRemaining());
+
+    ByteBuffer lDirectBuffer = ByteBuffer.allocateDirect(lBytes.length);
+    lDirectBuffer.put(lBytes).flip().position(2);
+    BusinessObject lObject = tools.read(lDirectBuffer, ObjectType.createObjectType(BusinessObject.class));
+    assertEquals("Buffered", lObject.getProperty());
+    assertFalse(lDirectBuffer.hasRemaining());
+
+    try {
+      tools.read(ByteBuffer.wrap("{\"property\":".getBytes(StandardCharsets.UTF_8)), BusinessObject.class);
+      fail("Expecting exception");
+    }
+    catch (JEAFSystemException e) {
+      assertEquals(JSONMessages.JSON_DESERIALIZATION_FAILED, e.getErrorCode());
+    }
+  }
+}
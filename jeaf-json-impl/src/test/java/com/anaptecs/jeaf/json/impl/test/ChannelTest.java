@@ -0,0 +1,81 @@
+package com.anaptecs.jeaf.json.impl.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.anaptecs.jeaf.json.api.JSONMessages;
+import com.anaptecs.jeaf.json.api.JSONTools;
+import com.anaptecs.jeaf.json.api.ObjectType;
+import com.anaptecs.jeaf.json.impl.JSONToolsImpl;
+import com.anaptecs.jeaf.json.impl.test.domain.BusinessObject;
+import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
+
+public class ChannelTest {
+  private final JSONToolsImpl tools = (JSONToolsImpl) JSONTools.getJSONTools();
+
+  @Test
+  void testWriteAndReadFileChannel( ) throws IOException {
+    // Use enough objects so that several gathering writes are required.
+    List<BusinessObject> lObjects = new ArrayList<>();
+    for (int i = 0; i < 20000; i++) {
+      BusinessObject lObject = new BusinessObject();
+      lObject.setProperty("Property " + i);
+      lObjects.add(lObject);
+    }
+    String lExpected = tools.writeObjectsToString(lObjects, BusinessObject.class);
+
+    File lFile = File.createTempFile("ChannelTest", ".json");
+    lFile.deleteOnExit();
+    try (FileChannel lChannel = FileChannel.open(lFile.toPath(), StandardOpenOption.WRITE)) {
+      tools.writeObjects(lObjects, lChannel, BusinessObject.class);
+      assertTrue(lChannel.isOpen());
+    }
+    assertEquals(lExpected, tools.writeObjectsToString(tools.readToCollection(lFile, List.class, BusinessObject.class),
+        BusinessObject.class));
+
+    try (FileChannel lChannel = FileChannel.open(lFile.toPath(), StandardOpenOption.READ)) {
+      List<BusinessObject> lRead = tools.read(lChannel, ObjectType.createObjectType(List.class, BusinessObject.class));
+      assertEquals(20000, lRead.size());
+      assertEquals("Property 19999", lRead.get(19999).getProperty());
+      assertTrue(lChannel.isOpen());
+    }
+    lFile.delete();
+  }
+
+  @Test
+  void testNonGatheringChannels( ) {
+    BusinessObject lObject = new BusinessObject();
+    lObject.setProperty("Channel");
+
+    ByteArrayOutputStream lOutputStream = new ByteArrayOutputStream();
+    tools.writeObject(lObject, Channels.newChannel(lOutputStream));
+    assertEquals("{\"property\":\"Channel\"}", lOutputStream.toString(StandardCharsets.UTF_8));
+
+    BusinessObject lRead = tools.read(Channels.newChannel(new ByteArrayInputStream(lOutputStream.toByteArray())),
+        BusinessObject.class);
+    assertEquals("Channel", lRead.getProperty());
+
+    try {
+      tools.read(Channels.newChannel(new ByteArrayInputStream("{\"property\"".getBytes(StandardCharsets.UTF_8))),
+          BusinessObject.class);
+      fail("Expecting exception");
+    }
+    catch (JEAFSystemException e) {
+      assertEquals(JSONMessages.JSON_DESERIALIZATION_FAILED, e.getErrorCode());
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package com.anaptecs.jeaf.json.impl.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.anaptecs.jeaf.json.annotations.ObjectMapperConfig;
+import com.anaptecs.jeaf.json.api.JSONTools;
+import com.anaptecs.jeaf.json.impl.CompactJsonNodeFactory;
+import com.anaptecs.jeaf.json.impl.NodeFactoryStrategy;
+import com.anaptecs.jeaf.json.impl.ObjectMapperConfiguration;
+import com.anaptecs.jeaf.json.impl.ObjectMapperFactory;
+import com.anaptecs.jeaf.json.impl.RecyclerPoolStrategy;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.node.ObjectNode;
+
+public class CompactJsonNodeFactoryTest {
+  private final ObjectMapper compactMapper = ObjectMapperFactory.createObjectMapper(
+      new ObjectMapperConfiguration(ObjectMapperConfig.OBJECT_MAPPER_CONFIG_RESOURCE_NAME, JSONTools.JSON_BASE_PATH,
+          false, RecyclerPoolStrategy.DEFAULT_STRATEGY, NodeFactoryStrategy.COMPACT));
+
+  private final ObjectMapper standardMapper = JSONTools.getJSONTools().getDefaultObjectMapper();
+
+  @Test
+  void testReadTree( ) {
+    String lJSON = "{\"version\":\"3.1.2\",\"date\":\"2022-01-19 17:02:45.551\",\"isUnknownVersion\":false,"
+        + "\"count\":42,\"nested\":{\"a\":[1,\"x\",null],\"b\":{}}}";
+    JsonNode lCompact = compactMapper.readTree(lJSON);
+    JsonNode lStandard = standardMapper.readTree(lJSON);
+    assertEquals(lStandard, lCompact);
+    assertEquals(lCompact, lStandard);
+    assertEquals(lStandard.hashCode(), lCompact.hashCode());
+    assertEquals(lJSON, compactMapper.writeValueAsString(lCompact));
+    assertEquals("3.1.2", lCompact.get("version").asString());
+    assertEquals(42, lCompact.get("count").asInt());
+    assertNull(lCompact.get("unknown"));
+
+    // Small values are shared between trees.
+    JsonNode lOther = compactMapper.readTree(lJSON);
+    assertSame(lCompact.get("version"), lOther.get("version"));
+    assertSame(lCompact.get("count"), lOther.get("count"));
+    assertNotSame(lStandard.get("version"), standardMapper.readTree(lJSON).get("version"));
+  }
+
+  @Test
+  void testObjectNodeOperations( ) {
+    JsonNodeFactory lFactory = new CompactJsonNodeFactory();
+    ObjectNode lNode = lFactory.objectNode();
+    ObjectNode lReference = JsonNodeFactory.instance.objectNode();
+
+    // Grow beyond compact size and check that order and content are preserved.
+    for (int i = 0; i < 40; i++) {
+      lNode.put("p" + i, i);
+      lReference.put("p" + i, i);
+      assertEquals(lReference, lNode);
+    }
+    assertEquals(40, lNode.size());
+    assertEquals(lReference.propertyNames(), lNode.propertyNames());
+
+    // Replace, remove and iterate on small nodes.
+    ObjectNode lSmall = lFactory.objectNode();
+    lSmall.put("a", 1);
+    lSmall.put("b", "two");
+    lSmall.put("c", true);
+    lSmall.put("a", 11);
+    assertEquals(11, lSmall.get("a").asInt());
+    assertEquals(3, lSmall.size());
+    lSmall.remove("b");
+    assertFalse(lSmall.has("b"));
+    assertEquals("{\"a\":11,\"c\":true}", lSmall.toString());
+
+    List<String> lNames = new ArrayList<>();
+    for (Map.Entry<String, JsonNode> lNext : lSmall.properties()) {
+      lNames.add(lNext.getKey());
+    }
+    assertEquals(List.of("a", "c"), lNames);
+
+    Iterator<Map.Entry<String, JsonNode>> lIterator = lSmall.properties().iterator();
+    lIterator.next();
+    lIterator.remove();
+    assertEquals("{\"c\":true}", lSmall.toString());
+    lSmall.properties().iterator().next().setValue(lFactory.stringNode("replaced"));
+    assertEquals("{\"c\":\"replaced\"}", lSmall.toString());
+
+    lSmall.retain("x");
+    assertTrue(lSmall.isEmpty());
+    lSmall.put("x", 1);
+    lSmall.removeAll();
+    assertTrue(lSmall.isEmpty());
+    assertEquals(lFactory.objectNode(), lSmall.deepCopy());
+  }
+}
@@ -6,12 +6,16 @@
 package com.anaptecs.jeaf.json.impl.test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.Date;
 
 import com.anaptecs.jeaf.core.api.ServiceObjectID;
+import com.anaptecs.jeaf.json.api.JSONTools;
 import com.anaptecs.jeaf.json.impl.ObjectMapperContextResolver;
+import com.anaptecs.jeaf.json.impl.ObjectMapperFactory;
 import com.anaptecs.jeaf.xfun.api.info.VersionInfo;
 import org.junit.jupiter.api.Test;
 import tools.jackson.databind.ObjectMapper;
@@ -19,6 +23,16 @@ import tools.jackson.databind.exc.InvalidDefinitionException;
 import tools.jackson.databind.json.JsonMapper;
 
 class ContextResolverTest {
+  @Test
+  void testSharedObjectMapper( ) {
+    ObjectMapper lSharedMapper = ObjectMapperFactory.getSharedObjectMapper();
+    assertSame(lSharedMapper, ObjectMapperFactory.getSharedObjectMapper());
+    assertSame(lSharedMapper, new ObjectMapperContextResolver().getContext(this.getClass()));
+    assertSame(lSharedMapper, JSONTools.getJSONTools().getDefaultObjectMapper());
+
+    // Explicitly created object mappers must not be shared.
+    assertNotSame(lSharedMapper, ObjectMapperFactory.createObjectMapper());
+  }
 
   @Test
   void testContextResolver( ) {
@@ -0,0 +1,122 @@
+package com.anaptecs.jeaf.json.impl.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.anaptecs.jeaf.json.api.JSONTools;
+import com.anaptecs.jeaf.json.impl.JSONToolsImpl;
+import com.anaptecs.jeaf.json.impl.PropertySelection;
+import com.anaptecs.jeaf.json.impl.test.domain.Broken;
+import com.anaptecs.jeaf.json.impl.test.domain.ViewObject;
+import com.anaptecs.jeaf.json.impl.test.inheritance.Company;
+import com.anaptecs.jeaf.json.impl.test.inheritance.PartnerContainer;
+import com.anaptecs.jeaf.json.impl.test.inheritance.Person;
+import com.anaptecs.jeaf.json.impl.test.inheritance.PostalAddress;
+import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
+
+public class FilteredWriterTest {
+  private final JSONToolsImpl tools = (JSONToolsImpl) JSONTools.getJSONTools();
+
+  @Test
+  void testWriteWithView( ) {
+    ViewObject lObject = new ViewObject();
+    lObject.setName("Donald");
+    lObject.setInternalNote("Secret");
+    lObject.setPlain("Plain");
+
+    // Properties without view are not written as DEFAULT_VIEW_INCLUSION is disabled by default.
+    assertEquals("{\"name\":\"Donald\"}", tools.writeObjectToStringWithView(lObject, ViewObject.PublicView.class));
+    assertEquals("{\"name\":\"Donald\",\"internalNote\":\"Secret\"}",
+        new String(tools.writeObjectToBytesWithView(lObject, ViewObject.InternalView.class), StandardCharsets.UTF_8));
+
+    ByteArrayOutputStream lOutputStream = new ByteArrayOutputStream();
+    tools.writeObjectWithView(lObject, lOutputStream, ViewObject.PublicView.class);
+    assertEquals("{\"name\":\"Donald\"}", lOutputStream.toString(StandardCharsets.UTF_8));
+    StringWriter lWriter = new StringWriter();
+    tools.writeObjectWithView(null, lWriter, ViewObject.PublicView.class);
+    assertEquals("null", lWriter.toString());
+
+    // Views do not change the default serialization.
+    assertTrue(tools.writeObjectToString(lObject).contains("\"plain\":\"Plain\""));
+  }
+
+  @Test
+  void testWriteWithPropertySelection( ) {
+    PartnerContainer lContainer = new PartnerContainer();
+    Person lPerson = new Person();
+    lPerson.setObjectID(1);
+    lPerson.setFirstName("Donald");
+    lPerson.setSurname("Duck");
+    PostalAddress lAddress = new PostalAddress();
+    lAddress.setStreet("Ricarda-Huch-Str.");
+    lAddress.setCity("Reutlingen");
+    lAddress.setPostalCode(72760);
+    lPerson.addPostalAddress(lAddress);
+    lContainer.addPartner(lPerson);
+    Company lCompany = new Company();
+    lCompany.setObjectID(2);
+    lCompany.setName("anaptecs GmbH");
+    lContainer.addPartner(lCompany);
+
+    // Type information is always written whereas object ids have to be selected.
+    PropertySelection lSelection =
+        PropertySelection.include("partners.objectID", "partners.surname", "partners.postalAddresses.city");
+    assertTrue(lSelection.isInclude());
+    String lJSON = tools.writeObjectToString(lContainer, lSelection);
+    assertEquals("{\"partners\":[{\"objectType\":\"Person\",\"objectID\":1,\"postalAddresses\":[{\"city\":"
+        + "\"Reutlingen\"}],\"surname\":\"Duck\"},{\"objectType\":\"Company\",\"objectID\":2}]}", lJSON);
+
+    // Selections can be read back.
+    PartnerContainer lResult = tools.read(lJSON, PartnerContainer.class);
+    assertEquals("Duck", ((Person) lResult.getPartners().get(0)).getSurname());
+
+    lSelection = PropertySelection.exclude(List.of("partners.postalAddresses", "partners.firstName"));
+    assertFalse(lSelection.isInclude());
+    lJSON = new String(tools.writeObjectToBytes(lContainer, lSelection), StandardCharsets.UTF_8);
+    assertFalse(lJSON.contains("postalAddresses"));
+    assertFalse(lJSON.contains("Donald"));
+    assertTrue(lJSON.contains("\"surname\":\"Duck\""));
+    assertTrue(lJSON.contains("\"name\":\"anaptecs GmbH\""));
+
+    // Root arrays are transparent and selections are not applied to default serialization.
+    StringWriter lWriter = new StringWriter();
+    tools.writeObject(List.of(lAddress), lWriter, PropertySelection.include("street"));
+    assertEquals("[{\"street\":\"Ricarda-Huch-Str.\"}]", lWriter.toString());
+    ByteArrayOutputStream lOutputStream = new ByteArrayOutputStream();
+    tools.writeObject(lAddress, lOutputStream, PropertySelection.exclude("street"));
+    assertFalse(lOutputStream.toString(StandardCharsets.UTF_8).contains("street"));
+    assertTrue(tools.writeObjectToString(lAddress).contains("street"));
+  }
+
+  @Test
+  void testWriterCaching( ) {
+    assertEquals(PropertySelection.include("a", "b"), PropertySelection.include(List.of("a", "b")));
+    assertEquals(PropertySelection.include("a").hashCode(), PropertySelection.include("a").hashCode());
+    assertNotEquals(PropertySelection.include("a"), PropertySelection.exclude("a"));
+
+    PostalAddress lAddress = new PostalAddress();
+    lAddress.setCity("Reutlingen");
+    tools.writeObjectToString(lAddress, PropertySelection.include("city"));
+    long lHits = tools.getFilteredWriterCacheStatistics().getHits();
+    tools.writeObjectToString(lAddress, PropertySelection.include("city"));
+    assertEquals(lHits + 1, tools.getFilteredWriterCacheStatistics().getHits());
+  }
+
+  @Test
+  void testWriteFailure( ) {
+    assertThrows(JEAFSystemException.class,
+        () -> tools.writeObjectToString(new Broken(), PropertySelection.exclude("property")));
+    assertThrows(JEAFSystemException.class,
+        () -> tools.writeObjectToStringWithView(new Broken(), ViewObject.PublicView.class));
+  }
+}
@@ -8,10 +8,15 @@ package com.anaptecs.jeaf.json.impl.test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import com.anaptecs.jeaf.json.api.JSONTools;
+import com.anaptecs.jeaf.json.impl.JSONToolsImpl;
 import com.anaptecs.jeaf.json.impl.test.idtest.Product;
 import com.anaptecs.jeaf.json.impl.test.idtest.Reseller;
 import org.junit.jupiter.api.BeforeEach;
@@ -59,6 +64,34 @@ class IDSerializationTest {
     assertEquals(lExpected, lJSON);
   }
 
+  @Test
+  void testIDSerializationFromIterator( ) {
+    JSONToolsImpl lTools = (JSONToolsImpl) tools;
+    String lExpected = tools.writeObjectsToString(products, Product.class);
+
+    // Object identities also have to be preserved if objects are written one after the other.
+    StringWriter lWriter = new StringWriter();
+    lTools.writeObjectsLazily(products.iterator(), lWriter, Product.class);
+    assertEquals(lExpected, lWriter.toString());
+
+    ByteArrayOutputStream lOutputStream = new ByteArrayOutputStream();
+    lTools.writeObjectsLazily(products.stream(), lOutputStream, Product.class);
+    assertEquals(lExpected, lOutputStream.toString(StandardCharsets.UTF_8));
+
+    lWriter = new StringWriter();
+    lTools.writeObjectsLazily(products, lWriter, Product.class);
+    assertEquals(lExpected, lWriter.toString());
+
+    lWriter = new StringWriter();
+    lTools.writeObjectsLazily(Collections.emptyIterator(), lWriter, Product.class);
+    assertEquals("[]", lWriter.toString());
+
+    // Lazy variants do not overlap with the collection based ones, so untyped null still resolves to a collection.
+    lWriter = new StringWriter();
+    lTools.writeObjects(null, lWriter, Product.class);
+    assertEquals("null", lWriter.toString());
+  }
+
   @Test
   void testIDDeserialization( ) {
     String lJSON =
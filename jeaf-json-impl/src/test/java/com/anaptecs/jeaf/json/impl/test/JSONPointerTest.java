@@ -0,0 +1,72 @@
+package com.anaptecs.jeaf.json.impl.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.anaptecs.jeaf.json.api.JSONMessages;
+import com.anaptecs.jeaf.json.api.JSONTools;
+import com.anaptecs.jeaf.json.api.ObjectType;
+import com.anaptecs.jeaf.json.impl.JSONToolsImpl;
+import com.anaptecs.jeaf.json.impl.test.domain.BusinessObject;
+import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
+import tools.jackson.core.JsonPointer;
+
+public class JSONPointerTest {
+  private static final String ENVELOPE = "{\"header\":{\"messageType\":\"Order\",\"correlationId\":\"4711\"},"
+      + "\"ignored\":[{\"deeply\":{\"nested\":[1,2,3]}}],"
+      + "\"items\":[{\"property\":\"First\"},{\"property\":\"Second\"}],\"trailer\":null}";
+
+  private final JSONToolsImpl tools = (JSONToolsImpl) JSONTools.getJSONTools();
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testReadWithJSONPointer( ) {
+    assertEquals("4711", tools.read(ENVELOPE, JsonPointer.compile("/header/correlationId"), String.class));
+    assertEquals("Second", tools.read(ENVELOPE.getBytes(StandardCharsets.UTF_8), JsonPointer.compile("/items/1"),
+        BusinessObject.class).getProperty());
+
+    List<BusinessObject> lItems = tools.read(new ByteArrayInputStream(ENVELOPE.getBytes(StandardCharsets.UTF_8)),
+        JsonPointer.compile("/items"), ObjectType.createObjectType(List.class, BusinessObject.class));
+    assertEquals(2, lItems.size());
+    assertEquals("First", lItems.get(0).getProperty());
+
+    // Whole document, missing paths and null values
+    Envelope lEnvelope = tools.read(ENVELOPE, JsonPointer.empty(), ObjectType.createObjectType(Envelope.class));
+    assertEquals("Order", lEnvelope.header.messageType);
+    assertNull(tools.read(ENVELOPE, JsonPointer.compile("/header/unknown"), String.class));
+    assertNull(tools.read(ENVELOPE, JsonPointer.compile("/items/5"), BusinessObject.class));
+    assertNull(tools.read(ENVELOPE, JsonPointer.compile("/trailer"), String.class));
+
+    // Only the addressed part has to match the requested type.
+    try {
+      tools.read(ENVELOPE, JsonPointer.compile("/header"), Integer.class);
+      fail("Expecting exception");
+    }
+    catch (JEAFSystemException e) {
+      assertEquals(JSONMessages.JSON_DESERIALIZATION_FAILED, e.getErrorCode());
+    }
+  }
+
+  static class Envelope {
+    Header header;
+
+    List<BusinessObject> items;
+
+    List<Object> ignored;
+
+    String trailer;
+  }
+
+  static class Header {
+    String messageType;
+
+    String correlationId;
+  }
+}
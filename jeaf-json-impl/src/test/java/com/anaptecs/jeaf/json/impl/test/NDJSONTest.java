@@ -0,0 +1,139 @@
+package com.anaptecs.jeaf.json.impl.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.anaptecs.jeaf.json.api.JSONMessages;
+import com.anaptecs.jeaf.json.api.JSONTools;
+import com.anaptecs.jeaf.json.api.ObjectType;
+import com.anaptecs.jeaf.json.impl.JSONIterator;
+import com.anaptecs.jeaf.json.impl.JSONToolsImpl;
+import com.anaptecs.jeaf.json.impl.ObjectMapperFactory;
+import com.anaptecs.jeaf.json.impl.test.domain.BusinessObject;
+import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationFeature;
+
+public class NDJSONTest {
+  private static final String NDJSON = "{\"property\":\"A\"}\n{\"property\":\"B\"}\n{\"property\":\"C\"}\n";
+
+  private static final ObjectType TYPE = ObjectType.createObjectType(BusinessObject.class);
+
+  private final JSONToolsImpl tools = (JSONToolsImpl) JSONTools.getJSONTools();
+
+  @Test
+  void testWriteNDJSON( ) throws IOException {
+    List<BusinessObject> lObjects = this.createObjects("A", "B", "C");
+
+    StringWriter lWriter = new StringWriter();
+    tools.writeNDJSON(lObjects, lWriter, TYPE);
+    assertEquals(NDJSON, lWriter.toString());
+
+    ByteArrayOutputStream lOutputStream = new ByteArrayOutputStream();
+    tools.writeNDJSON(lObjects.iterator(), lOutputStream, TYPE);
+    assertEquals(NDJSON, lOutputStream.toString(StandardCharsets.UTF_8));
+
+    File lFile = File.createTempFile("NDJSONTest", ".ndjson");
+    lFile.deleteOnExit();
+    tools.writeNDJSON(lObjects.stream(), lFile, TYPE);
+    assertEquals(NDJSON, new String(Files.readAllBytes(lFile.toPath()), StandardCharsets.UTF_8));
+    lFile.delete();
+
+    // Empty sources result in empty output.
+    lWriter = new StringWriter();
+    tools.writeNDJSON(Collections.emptyList(), lWriter, TYPE);
+    assertEquals("", lWriter.toString());
+  }
+
+  @Test
+  void testWriteNDJSONWithIndentation( ) {
+    // Indentation of the configuration must not split objects across several lines.
+    ObjectMapper lObjectMapper =
+        ObjectMapperFactory.createObjectMapper().rebuild().enable(SerializationFeature.INDENT_OUTPUT).build();
+    assertTrue(lObjectMapper.isEnabled(SerializationFeature.INDENT_OUTPUT));
+    assertTrue(lObjectMapper.writeValueAsString(this.createObjects("A").get(0)).contains("\n"));
+    JSONToolsImpl lTools = new JSONToolsImpl(lObjectMapper);
+
+    StringWriter lWriter = new StringWriter();
+    lTools.writeNDJSON(this.createObjects("A", "B", "C"), lWriter, TYPE);
+    assertEquals(NDJSON, lWriter.toString());
+    assertEquals(3, lWriter.toString().split("\n").length);
+
+    List<String> lProperties = new ArrayList<>();
+    try (JSONIterator<BusinessObject> lIterator = lTools.readNDJSON(new StringReader(lWriter.toString()), TYPE)) {
+      lIterator.forEachRemaining(o -> lProperties.add(o.getProperty()));
+    }
+    assertEquals(List.of("A", "B", "C"), lProperties);
+  }
+
+  @Test
+  void testReadNDJSON( ) throws IOException {
+    try (JSONIterator<BusinessObject> lIterator = tools.readNDJSON(new StringReader(NDJSON), TYPE)) {
+      List<String> lProperties = new ArrayList<>();
+      lIterator.forEachRemaining(o -> lProperties.add(o.getProperty()));
+      assertEquals(List.of("A", "B", "C"), lProperties);
+      assertFalse(lIterator.hasNext());
+    }
+
+    byte[] lBytes = NDJSON.getBytes(StandardCharsets.UTF_8);
+    try (Stream<BusinessObject> lStream =
+        tools.<BusinessObject> readNDJSON(new ByteArrayInputStream(lBytes), TYPE).stream()) {
+      assertEquals("A,B,C", lStream.map(BusinessObject::getProperty).collect(Collectors.joining(",")));
+    }
+
+    File lFile = File.createTempFile("NDJSONTest", ".ndjson");
+    lFile.deleteOnExit();
+    Files.write(lFile.toPath(), lBytes);
+    try (Stream<BusinessObject> lStream = tools.<BusinessObject> readNDJSON(lFile, TYPE).stream()) {
+      assertEquals(3, lStream.count());
+    }
+    lFile.delete();
+
+    // Lines containing arrays are read as one value per line.
+    ObjectType lListType = ObjectType.createObjectType(List.class, Integer.class);
+    try (JSONIterator<List<Integer>> lIterator = tools.readNDJSON(new StringReader("[1,2]\n[]\n[3]\n"), lListType)) {
+      List<List<Integer>> lLines = new ArrayList<>();
+      lIterator.forEachRemaining(lLines::add);
+      assertEquals(List.of(List.of(1, 2), List.of(), List.of(3)), lLines);
+    }
+
+    // Test error handling
+    try (JSONIterator<BusinessObject> lIterator =
+        tools.readNDJSON(new StringReader("{\"property\":\"A\"}\n{\"property\":"), TYPE)) {
+      assertEquals("A", lIterator.next().getProperty());
+      lIterator.next();
+      fail("Expecting exception");
+    }
+    catch (JEAFSystemException e) {
+      assertEquals(JSONMessages.JSON_DESERIALIZATION_FAILED, e.getErrorCode());
+    }
+  }
+
+  private List<BusinessObject> createObjects(String... pProperties) {
+    List<BusinessObject> lObjects = new ArrayList<>();
+    for (String lNext : pProperties) {
+      BusinessObject lObject = new BusinessObject();
+      lObject.setProperty(lNext);
+      lObjects.add(lObject);
+    }
+    return lObjects;
+  }
+}
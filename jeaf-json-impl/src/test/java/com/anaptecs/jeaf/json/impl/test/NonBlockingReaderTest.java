@@ -0,0 +1,118 @@
+package com.anaptecs.jeaf.json.impl.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.anaptecs.jeaf.json.api.JSONMessages;
+import com.anaptecs.jeaf.json.api.JSONTools;
+import com.anaptecs.jeaf.json.api.ObjectType;
+import com.anaptecs.jeaf.json.impl.JSONToolsImpl;
+import com.anaptecs.jeaf.json.impl.NonBlockingJSONReader;
+import com.anaptecs.jeaf.json.impl.test.domain.BusinessObject;
+import com.anaptecs.jeaf.json.impl.test.idtest.Product;
+import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
+
+public class NonBlockingReaderTest {
+  private final JSONToolsImpl tools = (JSONToolsImpl) JSONTools.getJSONTools();
+
+  @Test
+  void testArrayFedByteByByte( ) {
+    String lJSON = "[{\"property\":\"A\"}, {\"property\":\"B\\\"[]{}\"} ,{\"property\":null},null]";
+    byte[] lBytes = lJSON.getBytes(StandardCharsets.UTF_8);
+
+    List<BusinessObject> lObjects = new ArrayList<>();
+    try (NonBlockingJSONReader<BusinessObject> lReader =
+        tools.createNonBlockingReader(BusinessObject.class, lObjects::add)) {
+      for (int i = 0; i < lBytes.length; i++) {
+        lReader.feed(lBytes, i, 1);
+        // Objects are passed to the consumer as soon as they are complete.
+        if (i == lJSON.indexOf('}')) {
+          assertEquals(1, lObjects.size());
+        }
+      }
+      lReader.endOfInput();
+    }
+    assertEquals(4, lObjects.size());
+    assertEquals("A", lObjects.get(0).getProperty());
+    assertEquals("B\"[]{}", lObjects.get(1).getProperty());
+    assertNull(lObjects.get(2).getProperty());
+    assertNull(lObjects.get(3));
+  }
+
+  @Test
+  void testRootValuesFedFromBuffers( ) {
+    String lJSON =
+        "{\"id\":1,\"name\":\"Product 1\",\"resellers\":[]}\n{\"id\":2,\"name\":\"Product 2\",\"resellers\":[]}\n";
+    byte[] lBytes = lJSON.getBytes(StandardCharsets.UTF_8);
+
+    List<Product> lProducts = new ArrayList<>();
+    NonBlockingJSONReader<Product> lReader =
+        tools.createNonBlockingReader(ObjectType.createObjectType(Product.class), lProducts::add);
+    ByteBuffer lDirectBuffer = ByteBuffer.allocateDirect(lBytes.length);
+    lDirectBuffer.put(lBytes, 0, 30).flip();
+    lReader.feed(lDirectBuffer);
+    assertEquals(0, lProducts.size());
+    lReader.feed(ByteBuffer.wrap(lBytes, 30, lBytes.length - 30));
+    lReader.endOfInput();
+    lReader.close();
+
+    assertEquals(2, lProducts.size());
+    assertEquals("Product 2", lProducts.get(1).getName());
+  }
+
+  @Test
+  void testContainerType( ) {
+    // Arrays are not unwrapped if the reader itself reads collections.
+    List<List<BusinessObject>> lLists = new ArrayList<>();
+    try (NonBlockingJSONReader<List<BusinessObject>> lReader = tools
+        .createNonBlockingReader(ObjectType.createObjectType(List.class, BusinessObject.class), lLists::add)) {
+      lReader.feed("[{\"property\":\"A\"},{\"property\":\"B\"}]\n[]".getBytes(StandardCharsets.UTF_8));
+      lReader.endOfInput();
+    }
+    assertEquals(2, lLists.size());
+    assertEquals(2, lLists.get(0).size());
+    assertEquals("B", lLists.get(0).get(1).getProperty());
+    assertEquals(0, lLists.get(1).size());
+
+    // Same for arrays.
+    List<int[]> lArrays = new ArrayList<>();
+    try (NonBlockingJSONReader<int[]> lReader = tools.createNonBlockingReader(int[].class, lArrays::add)) {
+      lReader.feed("[1,2,3]".getBytes(StandardCharsets.UTF_8));
+      lReader.endOfInput();
+    }
+    assertEquals(1, lArrays.size());
+    assertEquals(3, lArrays.get(0)[2]);
+  }
+
+  @Test
+  void testIncompleteInput( ) {
+    List<BusinessObject> lObjects = new ArrayList<>();
+    NonBlockingJSONReader<BusinessObject> lReader = tools.createNonBlockingReader(BusinessObject.class, lObjects::add);
+    lReader.feed("[{\"property\":\"A\"},{\"prop".getBytes(StandardCharsets.UTF_8));
+    assertEquals(1, lObjects.size());
+    try {
+      lReader.endOfInput();
+      fail("Expecting exception");
+    }
+    catch (JEAFSystemException e) {
+      assertEquals(JSONMessages.JSON_DESERIALIZATION_FAILED, e.getErrorCode());
+    }
+
+    lReader = tools.createNonBlockingReader(BusinessObject.class, lObjects::add);
+    try {
+      lReader.feed("{\"property\":}".getBytes(StandardCharsets.UTF_8));
+      fail("Expecting exception");
+    }
+    catch (JEAFSystemException e) {
+      assertEquals(JSONMessages.JSON_DESERIALIZATION_FAILED, e.getErrorCode());
+    }
+  }
+}
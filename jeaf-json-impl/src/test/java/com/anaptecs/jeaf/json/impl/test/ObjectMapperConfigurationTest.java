@@ -6,17 +6,26 @@
 package com.anaptecs.jeaf.json.impl.test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.List;
 
 import com.anaptecs.jeaf.json.annotations.ObjectMapperConfig;
+import com.anaptecs.jeaf.json.api.JSONTools;
 import com.anaptecs.jeaf.json.api.ObjectMapperModuleFactory;
+import com.anaptecs.jeaf.json.impl.NodeFactoryStrategy;
 import com.anaptecs.jeaf.json.impl.ObjectMapperConfiguration;
+import com.anaptecs.jeaf.json.impl.ObjectMapperFactory;
+import com.anaptecs.jeaf.json.impl.RecyclerPoolStrategy;
+import com.anaptecs.jeaf.json.impl.test.domain.BusinessObject;
 import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import org.junit.jupiter.api.Test;
 import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.SerializationFeature;
 
 class ObjectMapperConfigurationTest {
@@ -96,4 +105,85 @@ class ObjectMapperConfigurationTest {
     assertEquals(ObjectMapperConfig.class, lEmptyConfiguration.annotationType());
   }
 
+  @Test
+  void testRecyclerPoolStrategy( ) {
+    assertEquals(RecyclerPoolStrategy.CONCURRENT_DEQUE, new ObjectMapperConfiguration().getRecyclerPoolStrategy());
+
+    // Strategy of standard configuration can be defined using a system property.
+    System.setProperty(RecyclerPoolStrategy.RECYCLER_POOL_PROPERTY, "thread_local");
+    try {
+      assertEquals(RecyclerPoolStrategy.THREAD_LOCAL, new ObjectMapperConfiguration().getRecyclerPoolStrategy());
+      System.setProperty(RecyclerPoolStrategy.RECYCLER_POOL_PROPERTY, "unknown");
+      assertEquals(RecyclerPoolStrategy.DEFAULT_STRATEGY, new ObjectMapperConfiguration().getRecyclerPoolStrategy());
+    }
+    finally {
+      System.clearProperty(RecyclerPoolStrategy.RECYCLER_POOL_PROPERTY);
+    }
+
+    // Strategy is applied to created object mappers.
+    for (RecyclerPoolStrategy lNext : RecyclerPoolStrategy.values()) {
+      ObjectMapperConfiguration lConfiguration = new ObjectMapperConfiguration(
+          ObjectMapperConfig.OBJECT_MAPPER_CONFIG_RESOURCE_NAME, JSONTools.JSON_BASE_PATH, false, lNext);
+      assertEquals(lNext, lConfiguration.getRecyclerPoolStrategy());
+      ObjectMapper lObjectMapper = ObjectMapperFactory.createObjectMapper(lConfiguration);
+      assertEquals(lNext.createRecyclerPool().getClass(),
+          lObjectMapper.tokenStreamFactory()._getRecyclerPool().getClass());
+      String lJSON = "{\"property\":\"Recycled\"}";
+      assertEquals(lJSON, lObjectMapper.writeValueAsString(lObjectMapper.readValue(lJSON, BusinessObject.class)));
+    }
+  }
+
+  @Test
+  void testNodeFactoryStrategy( ) {
+    assertEquals(NodeFactoryStrategy.STANDARD, new ObjectMapperConfiguration().getNodeFactoryStrategy());
+
+    // Strategy of standard configuration can be defined using a system property.
+    System.setProperty(NodeFactoryStrategy.NODE_FACTORY_PROPERTY, "compact");
+    try {
+      assertEquals(NodeFactoryStrategy.COMPACT, new ObjectMapperConfiguration().getNodeFactoryStrategy());
+      System.setProperty(NodeFactoryStrategy.NODE_FACTORY_PROPERTY, "unknown");
+      assertEquals(NodeFactoryStrategy.DEFAULT_STRATEGY, new ObjectMapperConfiguration().getNodeFactoryStrategy());
+    }
+    finally {
+      System.clearProperty(NodeFactoryStrategy.NODE_FACTORY_PROPERTY);
+    }
+
+    // Strategy is applied to created object mappers.
+    for (NodeFactoryStrategy lNext : NodeFactoryStrategy.values()) {
+      ObjectMapperConfiguration lConfiguration =
+          new ObjectMapperConfiguration(ObjectMapperConfig.OBJECT_MAPPER_CONFIG_RESOURCE_NAME, JSONTools.JSON_BASE_PATH,
+              false, RecyclerPoolStrategy.DEFAULT_STRATEGY, lNext);
+      assertEquals(lNext, lConfiguration.getNodeFactoryStrategy());
+      ObjectMapper lObjectMapper = ObjectMapperFactory.createObjectMapper(lConfiguration);
+      assertEquals(lNext.createNodeFactory().getClass(), lObjectMapper.getNodeFactory().getClass());
+      String lJSON = "{\"property\":\"Tree\"}";
+      assertEquals(lJSON, lObjectMapper.writeValueAsString(lObjectMapper.readTree(lJSON)));
+    }
+  }
+
+  @Test
+  void testSharedObjectMapper( ) {
+    // Configurations with the same settings share the same object mapper.
+    ObjectMapperConfiguration lConfiguration = new ObjectMapperConfiguration();
+    assertEquals(lConfiguration, new ObjectMapperConfiguration());
+    assertEquals(lConfiguration.hashCode(), new ObjectMapperConfiguration().hashCode());
+    assertSame(ObjectMapperFactory.getSharedObjectMapper(),
+        ObjectMapperFactory.getSharedObjectMapper(new ObjectMapperConfiguration()));
+
+    ObjectMapperConfiguration lCustomConfiguration = new ObjectMapperConfiguration("CustomMapper", null, true);
+    assertEquals(lCustomConfiguration, new ObjectMapperConfiguration("CustomMapper", null, true));
+    assertNotEquals(lConfiguration, lCustomConfiguration);
+    assertSame(ObjectMapperFactory.getSharedObjectMapper(lCustomConfiguration),
+        ObjectMapperFactory.getSharedObjectMapper(new ObjectMapperConfiguration("CustomMapper", null, true)));
+    assertNotSame(ObjectMapperFactory.getSharedObjectMapper(lConfiguration),
+        ObjectMapperFactory.getSharedObjectMapper(lCustomConfiguration));
+
+    // Strategies are part of the settings.
+    ObjectMapperConfiguration lCompactConfiguration =
+        new ObjectMapperConfiguration(ObjectMapperConfig.OBJECT_MAPPER_CONFIG_RESOURCE_NAME, JSONTools.JSON_BASE_PATH,
+            false, RecyclerPoolStrategy.DEFAULT_STRATEGY, NodeFactoryStrategy.COMPACT);
+    assertNotEquals(lConfiguration, lCompactConfiguration);
+    assertNotSame(ObjectMapperFactory.getSharedObjectMapper(lConfiguration),
+        ObjectMapperFactory.getSharedObjectMapper(lCompactConfiguration));
+  }
 }
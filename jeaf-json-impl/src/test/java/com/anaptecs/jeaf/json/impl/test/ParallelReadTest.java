@@ -0,0 +1,150 @@
+package com.anaptecs.jeaf.json.impl.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+import com.anaptecs.jeaf.json.api.JSONMessages;
+import com.anaptecs.jeaf.json.api.JSONTools;
+import com.anaptecs.jeaf.json.api.ObjectType;
+import com.anaptecs.jeaf.json.impl.JSONToolsImpl;
+import com.anaptecs.jeaf.json.impl.test.domain.BusinessObject;
+import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
+
+public class ParallelReadTest {
+  private final JSONToolsImpl tools = (JSONToolsImpl) JSONTools.getJSONTools();
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testReadBytesParallel( ) {
+    List<BusinessObject> lObjects = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      BusinessObject lObject = new BusinessObject();
+      // Strings contain characters that are relevant for the boundaries of elements.
+      lObject.setProperty("Object " + i + (i % 3 == 0 ? " \"],{}[\\" : ""));
+      lObjects.add(lObject);
+    }
+    byte[] lBytes = tools.writeObjectsToBytes(lObjects, BusinessObject.class);
+
+    List<BusinessObject> lResult = tools.readToCollectionParallel(lBytes, List.class, BusinessObject.class);
+    assertEquals(lObjects.size(), lResult.size());
+    for (int i = 0; i < lObjects.size(); i++) {
+      assertEquals(lObjects.get(i).getProperty(), lResult.get(i).getProperty());
+    }
+
+    ExecutorService lExecutor = Executors.newFixedThreadPool(2);
+    try {
+      lResult = tools.readToCollectionParallel(lBytes, List.class, ObjectType.createObjectType(BusinessObject.class),
+          lExecutor);
+      assertEquals(lObjects.size(), lResult.size());
+      assertEquals(lObjects.get(4999).getProperty(), lResult.get(4999).getProperty());
+    }
+    finally {
+      lExecutor.shutdown();
+    }
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testReadSpecialArraysParallel( ) {
+    // Nested arrays and objects, scalars and whitespace
+    String lJSON = "\uFEFF [ [1, [2, 3]], {\"a\" : [4]} ,\"x\\\"]\", null, 5.5\n ]  ";
+    List<Object> lResult = tools.readToCollectionParallel(lJSON.getBytes(StandardCharsets.UTF_8), List.class,
+        Object.class);
+    assertEquals(5, lResult.size());
+    assertEquals(List.of(1, List.of(2, 3)), lResult.get(0));
+    assertEquals("x\"]", lResult.get(2));
+    assertNull(lResult.get(3));
+    assertEquals(5.5, lResult.get(4));
+
+    // Empty array, null and sets
+    assertTrue(tools.readToCollectionParallel("[ ]".getBytes(), List.class, Object.class).isEmpty());
+    assertNull(tools.readToCollectionParallel("null".getBytes(), List.class, Object.class));
+    Set<String> lSet = tools.readToCollectionParallel("[\"a\",\"b\",\"a\"]".getBytes(), Set.class, String.class);
+    assertEquals(Set.of("a", "b"), lSet);
+
+    // Malformed content
+    for (String lNext : List.of("[1,,2]", "[1, 2", "[{\"a\":}]", "{\"property\":1}")) {
+      try {
+        tools.readToCollectionParallel(lNext.getBytes(), List.class, Integer.class);
+        fail("Expecting exception for " + lNext);
+      }
+      catch (JEAFSystemException e) {
+        assertEquals(JSONMessages.JSON_DESERIALIZATION_FAILED, e.getErrorCode());
+      }
+    }
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testReadFileParallel( ) throws IOException {
+    List<Integer> lNumbers = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      lNumbers.add(i);
+    }
+    File lFile = File.createTempFile("ParallelReadTest", ".json");
+    try {
+      Files.write(lFile.toPath(), tools.writeObjectsToBytes(lNumbers, Integer.class));
+      assertEquals(lNumbers, tools.readToCollectionParallel(lFile, List.class, Integer.class));
+      assertEquals(lNumbers,
+          tools.readToCollectionParallel(lFile, List.class, ObjectType.createObjectType(Integer.class)));
+    }
+    finally {
+      lFile.delete();
+    }
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testReadLargeFileParallel( ) throws IOException {
+    // File is larger than the window that is used to scan files so that elements and escape sequences span windows.
+    List<BusinessObject> lObjects = new ArrayList<>();
+    for (int i = 0; i < 40000; i++) {
+      BusinessObject lObject = new BusinessObject();
+      lObject.setProperty("Object " + i + " \\\"],{}[" + "x".repeat(i % 97));
+      lObjects.add(lObject);
+    }
+    byte[] lBytes = tools.writeObjectsToBytes(lObjects, BusinessObject.class);
+    assertTrue(lBytes.length > 2 * 1024 * 1024);
+
+    File lFile = File.createTempFile("ParallelReadTest", ".json");
+    try {
+      // File starts with a byte order mark.
+      Files.write(lFile.toPath(), new byte[] { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF });
+      Files.write(lFile.toPath(), lBytes, StandardOpenOption.APPEND);
+      List<BusinessObject> lResult = tools.readToCollectionParallel(lFile, List.class, BusinessObject.class);
+      assertEquals(lObjects.size(), lResult.size());
+      for (int i = 0; i < lObjects.size(); i++) {
+        assertEquals(lObjects.get(i).getProperty(), lResult.get(i).getProperty());
+      }
+
+      // Malformed files are reported as usual.
+      Files.write(lFile.toPath(), Arrays.copyOf(lBytes, lBytes.length - 1));
+      try {
+        tools.readToCollectionParallel(lFile, List.class, BusinessObject.class);
+        fail("Expecting exception");
+      }
+      catch (JEAFSystemException e) {
+        assertEquals(JSONMessages.JSON_DESERIALIZATION_FAILED, e.getErrorCode());
+      }
+    }
+    finally {
+      lFile.delete();
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package com.anaptecs.jeaf.json.impl.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+import com.anaptecs.jeaf.json.api.JSONMessages;
+import com.anaptecs.jeaf.json.api.JSONTools;
+import com.anaptecs.jeaf.json.impl.JSONToolsImpl;
+import com.anaptecs.jeaf.json.impl.test.domain.Broken;
+import com.anaptecs.jeaf.json.impl.test.domain.BusinessObject;
+import com.anaptecs.jeaf.json.impl.test.inheritance.Company;
+import com.anaptecs.jeaf.json.impl.test.inheritance.Partner;
+import com.anaptecs.jeaf.json.impl.test.inheritance.Person;
+import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
+
+public class ParallelWriteTest {
+  private final JSONToolsImpl tools = (JSONToolsImpl) JSONTools.getJSONTools();
+
+  @Test
+  void testWriteObjectsParallel( ) {
+    List<BusinessObject> lObjects = new ArrayList<>();
+    for (int i = 0; i < 25000; i++) {
+      BusinessObject lObject = new BusinessObject();
+      lObject.setProperty("Object " + i);
+      lObjects.add(lObject);
+    }
+    byte[] lExpected = tools.writeObjectsToBytes(lObjects, BusinessObject.class);
+    assertArrayEquals(lExpected, tools.writeObjectsToBytesParallel(lObjects, BusinessObject.class));
+
+    ExecutorService lExecutor = Executors.newFixedThreadPool(3);
+    try {
+      ByteArrayOutputStream lOutputStream = new ByteArrayOutputStream();
+      tools.writeObjectsParallel(lObjects, lOutputStream, BusinessObject.class, lExecutor);
+      assertArrayEquals(lExpected, lOutputStream.toByteArray());
+    }
+    finally {
+      lExecutor.shutdown();
+    }
+
+    // Small and empty collections as well as null
+    assertEquals("[{\"property\":\"Object 0\"}]", new String(
+        tools.writeObjectsToBytesParallel(lObjects.subList(0, 1), BusinessObject.class), StandardCharsets.UTF_8));
+    assertEquals("[]", new String(tools.writeObjectsToBytesParallel(new ArrayList<>(), BusinessObject.class),
+        StandardCharsets.UTF_8));
+    assertEquals("null", new String(tools.writeObjectsToBytesParallel(null, BusinessObject.class),
+        StandardCharsets.UTF_8));
+
+    // Stream is never closed.
+    CloseTrackingOutputStream lOutputStream = new CloseTrackingOutputStream();
+    tools.writeObjectsParallel(null, lOutputStream, BusinessObject.class);
+    tools.writeObjectsParallel(lObjects.subList(0, 1), lOutputStream, BusinessObject.class);
+    assertFalse(lOutputStream.closed);
+    assertEquals("null[{\"property\":\"Object 0\"}]", lOutputStream.toString(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Output stream remembers if it was closed.
+   */
+  static class CloseTrackingOutputStream extends ByteArrayOutputStream {
+    private boolean closed;
+
+    @Override
+    public void close( ) {
+      closed = true;
+    }
+  }
+
+  @Test
+  void testWritePolymorphicObjectsParallel( ) {
+    List<Partner> lPartners = new ArrayList<>();
+    for (int i = 0; i < 2500; i++) {
+      Partner lPartner;
+      if (i % 2 == 0) {
+        Person lPerson = new Person();
+        lPerson.setFirstName("Donald " + i);
+        lPartner = lPerson;
+      }
+      else {
+        Company lCompany = new Company();
+        lCompany.setName("anaptecs GmbH " + i);
+        lPartner = lCompany;
+      }
+      lPartner.setObjectID(i);
+      lPartners.add(lPartner);
+    }
+    byte[] lBytes = tools.writeObjectsToBytesParallel(lPartners, Partner.class);
+    List<Partner> lResult = tools.readToCollection(lBytes, List.class, Partner.class);
+    assertEquals(2500, lResult.size());
+    assertEquals("Donald 2498", ((Person) lResult.get(2498)).getFirstName());
+    assertEquals("anaptecs GmbH 2499", ((Company) lResult.get(2499)).getName());
+  }
+
+  @Test
+  void testWriteObjectsParallelFailure( ) {
+    List<Object> lObjects = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      lObjects.add(i == 4321 ? new Broken() : Integer.valueOf(i));
+    }
+    try {
+      tools.writeObjectsToBytesParallel(lObjects, Object.class);
+      fail("Expecting exception");
+    }
+    catch (JEAFSystemException e) {
+      assertEquals(JSONMessages.JSON_SERIALIZATION_FAILED, e.getErrorCode());
+    }
+  }
+}
@@ -0,0 +1,182 @@
+package com.anaptecs.jeaf.json.impl.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.anaptecs.jeaf.json.api.JSONTools;
+import com.anaptecs.jeaf.json.api.ObjectType;
+import com.anaptecs.jeaf.json.impl.JSONToolsImpl;
+import com.anaptecs.jeaf.json.impl.PropertyProjection;
+import com.anaptecs.jeaf.json.impl.test.inheritance.Company;
+import com.anaptecs.jeaf.json.impl.test.inheritance.PartnerContainer;
+import com.anaptecs.jeaf.json.impl.test.inheritance.Person;
+import com.anaptecs.jeaf.json.impl.test.inheritance.PostalAddress;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.annotation.JsonDeserialize;
+
+public class PropertyProjectionTest {
+  private final JSONToolsImpl tools = (JSONToolsImpl) JSONTools.getJSONTools();
+
+  @Test
+  void testReadWithProjection( ) {
+    PartnerContainer lContainer = new PartnerContainer();
+    Person lPerson = new Person();
+    lPerson.setObjectID(1);
+    lPerson.setFirstName("Donald");
+    lPerson.setSurname("Duck");
+    PostalAddress lAddress = new PostalAddress();
+    lAddress.setStreet("Ricarda-Huch-Str.");
+    lAddress.setCity("Reutlingen");
+    lAddress.setPostalCode(72760);
+    lPerson.addPostalAddress(lAddress);
+    lContainer.addPartner(lPerson);
+    Company lCompany = new Company();
+    lCompany.setObjectID(2);
+    lCompany.setName("anaptecs GmbH");
+    lContainer.addPartner(lCompany);
+    String lJSON = tools.writeObjectToString(lContainer);
+
+    // Type information and object ids have to be selected as well.
+    PropertyProjection lProjection = PropertyProjection.of("partners.objectType", "partners.objectID",
+        "partners.surname", "partners.postalAddresses.city");
+    assertEquals(Set.of("partners.objectType", "partners.objectID", "partners.surname",
+        "partners.postalAddresses.city"), lProjection.getPaths());
+
+    PartnerContainer lResult = tools.read(lJSON, lProjection, PartnerContainer.class);
+    assertEquals(2, lResult.getPartners().size());
+    Person lReadPerson = (Person) lResult.getPartners().get(0);
+    assertEquals(1, lReadPerson.getObjectID());
+    assertEquals("Duck", lReadPerson.getSurname());
+    assertNull(lReadPerson.getFirstName());
+    assertEquals("Reutlingen", lReadPerson.getPostalAddresses().get(0).getCity());
+    assertNull(lReadPerson.getPostalAddresses().get(0).getStreet());
+    assertEquals(0, lReadPerson.getPostalAddresses().get(0).getPostalCode());
+    Company lReadCompany = (Company) lResult.getPartners().get(1);
+    assertNull(lReadCompany.getName());
+
+    // Selecting a property includes all its nested properties.
+    lResult = tools.read(lJSON.getBytes(), PropertyProjection.of("partners", "partners.objectID"),
+        ObjectType.createObjectType(PartnerContainer.class));
+    assertEquals("Donald", ((Person) lResult.getPartners().get(0)).getFirstName());
+    assertEquals("anaptecs GmbH", ((Company) lResult.getPartners().get(1)).getName());
+
+    // Nothing selected
+    lResult = tools.read(new ByteArrayInputStream(lJSON.getBytes()), PropertyProjection.of(), PartnerContainer.class);
+    assertTrue(lResult.getPartners().isEmpty());
+
+    // Root arrays
+    String lAddressesJSON = "[{\"city\":\"Reutlingen\",\"street\":\"Burgstr.\"},{\"street\":\"X\"}]";
+    List<PostalAddress> lAddresses = tools.read(lAddressesJSON, PropertyProjection.of("city"),
+        ObjectType.createObjectType(List.class, PostalAddress.class));
+    assertEquals(2, lAddresses.size());
+    assertEquals("Reutlingen", lAddresses.get(0).getCity());
+    assertNull(lAddresses.get(0).getStreet());
+    assertNull(lAddresses.get(1).getStreet());
+  }
+
+  @Test
+  void testProjectedObjectInRootArray( ) {
+    String lJSON = "[{\"objectType\":\"Person\",\"objectID\":1,\"surname\":\"Duck\",\"firstName\":\"Donald\","
+        + "\"postalAddresses\":[{\"street\":\"A\",\"city\":\"Reutlingen\"},{\"city\":\"Stuttgart\"}]},"
+        + "{\"objectType\":\"Person\",\"objectID\":2,\"firstName\":\"Daisy\"}]";
+    PropertyProjection lProjection = PropertyProjection.of("objectType", "objectID", "postalAddresses.city");
+
+    List<Person> lPersons = tools.read(lJSON, lProjection, ObjectType.createObjectType(List.class, Person.class));
+    assertEquals(2, lPersons.size());
+    Person lPerson = lPersons.get(0);
+    assertEquals(1, lPerson.getObjectID());
+    assertNull(lPerson.getSurname());
+    assertNull(lPerson.getFirstName());
+    assertEquals(2, lPerson.getPostalAddresses().size());
+    assertEquals("Reutlingen", lPerson.getPostalAddresses().get(0).getCity());
+    assertNull(lPerson.getPostalAddresses().get(0).getStreet());
+    assertEquals("Stuttgart", lPerson.getPostalAddresses().get(1).getCity());
+    assertEquals(2, lPersons.get(1).getObjectID());
+    assertNull(lPersons.get(1).getFirstName());
+    assertTrue(lPersons.get(1).getPostalAddresses().isEmpty());
+  }
+
+  @Test
+  void testSkippedNestedArray( ) {
+    // Skipped arrays contain nested arrays and objects and are followed by selected properties.
+    String lJSON = "{\"partners\":[{\"objectType\":\"Person\",\"objectID\":1,"
+        + "\"postalAddresses\":[{\"city\":\"Reutlingen\",\"tags\":[[1,2],{\"a\":[]}]},[]],\"surname\":\"Duck\"},"
+        + "{\"objectType\":\"Company\",\"objectID\":2,\"postalAddresses\":[],\"name\":\"anaptecs GmbH\"}]}";
+    PropertyProjection lProjection =
+        PropertyProjection.of("partners.objectType", "partners.objectID", "partners.surname", "partners.name");
+
+    PartnerContainer lResult = tools.read(lJSON, lProjection, PartnerContainer.class);
+    assertEquals(2, lResult.getPartners().size());
+    Person lPerson = (Person) lResult.getPartners().get(0);
+    assertEquals("Duck", lPerson.getSurname());
+    assertTrue(lPerson.getPostalAddresses().isEmpty());
+    Company lCompany = (Company) lResult.getPartners().get(1);
+    assertEquals(2, lCompany.getObjectID());
+    assertEquals("anaptecs GmbH", lCompany.getName());
+  }
+
+  @Test
+  void testNameDrivenDeserializationOfSelectedObject( ) {
+    String lJSON = "{\"name\":\"Headquarter\",\"location\":{\"street\":\"Burgstr.\",\"details\":{\"a\":[1,{}]},"
+        + "\"city\":\"Reutlingen\",\"tags\":[\"x\"]},\"size\":3}";
+
+    Site lSite = tools.read(lJSON, PropertyProjection.of("location.city", "size"), Site.class);
+    assertNull(lSite.name);
+    assertEquals(3, lSite.size);
+    assertEquals("Reutlingen", lSite.location.city);
+    assertNull(lSite.location.street);
+
+    // Selected sub-object includes all its properties.
+    lSite = tools.read(lJSON, PropertyProjection.of("location"), Site.class);
+    assertEquals("Reutlingen", lSite.location.city);
+    assertEquals("Burgstr.", lSite.location.street);
+    assertEquals(0, lSite.size);
+  }
+
+  static class Site {
+    private String name;
+
+    private Location location;
+
+    private int size;
+  }
+
+  @JsonDeserialize(using = LocationDeserializer.class)
+  static class Location {
+    private String street;
+
+    private String city;
+  }
+
+  /**
+   * Deserializer reads the properties using {@link JsonParser#nextName()} as Jackson does when updating beans.
+   */
+  static class LocationDeserializer extends ValueDeserializer<Location> {
+    @Override
+    public Location deserialize(JsonParser pParser, DeserializationContext pContext) {
+      Location lLocation = new Location();
+      for (String lName = pParser.nextName(); lName != null; lName = pParser.nextName()) {
+        pParser.nextToken();
+        if ("street".equals(lName)) {
+          lLocation.street = pParser.getString();
+        }
+        else if ("city".equals(lName)) {
+          lLocation.city = pParser.getString();
+        }
+        else {
+          pParser.skipChildren();
+        }
+      }
+      return lLocation;
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package com.anaptecs.jeaf.json.impl.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.anaptecs.jeaf.json.api.JSONMessages;
+import com.anaptecs.jeaf.json.api.JSONTools;
+import com.anaptecs.jeaf.json.impl.JSONIterator;
+import com.anaptecs.jeaf.json.impl.JSONToolsImpl;
+import com.anaptecs.jeaf.json.impl.test.domain.BusinessObject;
+import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
+
+public class StreamingReadTest {
+  private static final String JSON = "[{\"property\":\"A\"},{\"property\":\"B\"},{\"property\":\"C\"}]";
+
+  private final JSONToolsImpl tools = (JSONToolsImpl) JSONTools.getJSONTools();
+
+  @Test
+  void testReadAsIterator( ) throws IOException {
+    byte[] lBytes = JSON.getBytes(StandardCharsets.UTF_8);
+    try (JSONIterator<BusinessObject> lIterator = tools.readAsIterator(new ByteArrayInputStream(lBytes),
+        BusinessObject.class)) {
+      assertTrue(lIterator.hasNext());
+      assertEquals("A", lIterator.next().getProperty());
+      assertEquals("B", lIterator.next().getProperty());
+      assertEquals("C", lIterator.next().getProperty());
+      assertFalse(lIterator.hasNext());
+      assertThrows(NoSuchElementException.class, lIterator::next);
+    }
+
+    // Null elements are not supported.
+    try (JSONIterator<BusinessObject> lIterator =
+        tools.readAsIterator(new StringReader("[{\"property\":\"A\"},null]"), BusinessObject.class)) {
+      assertEquals("A", lIterator.next().getProperty());
+      JEAFSystemException lException = assertThrows(JEAFSystemException.class, lIterator::next);
+      assertEquals(JSONMessages.JSON_DESERIALIZATION_FAILED, lException.getErrorCode());
+    }
+
+    // Empty arrays
+    try (JSONIterator<BusinessObject> lIterator = tools.readAsIterator(new StringReader("[]"), BusinessObject.class)) {
+      assertFalse(lIterator.hasNext());
+    }
+
+    // Iterator can be closed before all elements were read.
+    File lFile = File.createTempFile("StreamingReadTest", ".json");
+    lFile.deleteOnExit();
+    Files.write(lFile.toPath(), lBytes);
+    JSONIterator<BusinessObject> lIterator = tools.readAsIterator(lFile, BusinessObject.class);
+    assertEquals("A", lIterator.next().getProperty());
+    lIterator.close();
+    assertFalse(lIterator.hasNext());
+    lFile.delete();
+  }
+
+  @Test
+  void testReadAsStream( ) throws IOException {
+    try (Stream<BusinessObject> lStream = tools.readAsStream(new StringReader(JSON), BusinessObject.class)) {
+      List<String> lProperties =
+          lStream.map(BusinessObject::getProperty).collect(Collectors.toList());
+      assertEquals(List.of("A", "B", "C"), lProperties);
+    }
+
+    File lFile = File.createTempFile("StreamingReadTest", ".json");
+    lFile.deleteOnExit();
+    Files.write(lFile.toPath(), JSON.getBytes(StandardCharsets.UTF_8));
+    try (Stream<BusinessObject> lStream = tools.readAsStream(lFile, BusinessObject.class)) {
+      assertEquals(3, lStream.count());
+    }
+    try (Stream<BusinessObject> lStream =
+        tools.readAsStream(new ByteArrayInputStream(Files.readAllBytes(lFile.toPath())), BusinessObject.class)) {
+      assertEquals("A", lStream.findFirst().get().getProperty());
+    }
+    lFile.delete();
+
+    // Test error handling
+    try (Stream<BusinessObject> lStream =
+        tools.readAsStream(new StringReader("[{\"property\":\"A\"},{\"property\":"), BusinessObject.class)) {
+      lStream.count();
+      fail("Expecting exception");
+    }
+    catch (JEAFSystemException e) {
+      assertEquals(JSONMessages.JSON_DESERIALIZATION_FAILED, e.getErrorCode());
+    }
+  }
+}
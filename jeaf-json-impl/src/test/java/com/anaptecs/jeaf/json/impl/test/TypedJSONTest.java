@@ -0,0 +1,93 @@
+package com.anaptecs.jeaf.json.impl.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.anaptecs.jeaf.json.api.JSONMessages;
+import com.anaptecs.jeaf.json.api.JSONTools;
+import com.anaptecs.jeaf.json.api.ObjectType;
+import com.anaptecs.jeaf.json.impl.JSONToolsImpl;
+import com.anaptecs.jeaf.json.impl.TypedJSONReader;
+import com.anaptecs.jeaf.json.impl.TypedJSONWriter;
+import com.anaptecs.jeaf.json.impl.test.domain.BusinessObject;
+import com.anaptecs.jeaf.xfun.api.checks.InvalidParameterException;
+import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
+
+public class TypedJSONTest {
+  private final JSONToolsImpl tools = (JSONToolsImpl) JSONTools.getJSONTools();
+
+  @Test
+  void testTypedReaderAndWriter( ) throws IOException {
+    BusinessObject lBusinessObject = new BusinessObject();
+    lBusinessObject.setProperty("Typed");
+    String lJSON = "{\"property\":\"Typed\"}";
+
+    TypedJSONWriter<BusinessObject> lWriter = tools.writerFor(BusinessObject.class);
+    assertEquals(lJSON, lWriter.writeToString(lBusinessObject));
+    assertEquals(lJSON, new String(lWriter.writeToBytes(lBusinessObject), StandardCharsets.UTF_8));
+    assertEquals("null", lWriter.writeToString(null));
+
+    ByteArrayOutputStream lOutputStream = new ByteArrayOutputStream();
+    lWriter.write(lBusinessObject, lOutputStream);
+    assertEquals(lJSON, lOutputStream.toString(StandardCharsets.UTF_8));
+
+    StringWriter lStringWriter = new StringWriter();
+    lWriter.write(lBusinessObject, lStringWriter);
+    assertEquals(lJSON, lStringWriter.toString());
+
+    File lFile = File.createTempFile("TypedJSONTest", ".json");
+    lFile.deleteOnExit();
+    lWriter.write(lBusinessObject, lFile);
+
+    TypedJSONReader<BusinessObject> lReader = tools.readerFor(BusinessObject.class);
+    assertEquals("Typed", lReader.read(lJSON).getProperty());
+    assertEquals("Typed", lReader.read(lJSON.getBytes(StandardCharsets.UTF_8)).getProperty());
+    assertEquals("Typed", lReader.read(new ByteArrayInputStream(lOutputStream.toByteArray())).getProperty());
+    assertEquals("Typed", lReader.read(new StringReader(lJSON)).getProperty());
+    assertEquals("Typed", lReader.read(lFile).getProperty());
+    assertNull(lReader.read("null"));
+    lFile.delete();
+
+    // Test handles based on object types.
+    ObjectType lListType = ObjectType.createObjectType(List.class, BusinessObject.class);
+    TypedJSONWriter<List<BusinessObject>> lListWriter = tools.writerFor(lListType);
+    String lListJSON = lListWriter.writeToString(List.of(lBusinessObject, lBusinessObject));
+    assertEquals("[" + lJSON + "," + lJSON + "]", lListJSON);
+    TypedJSONReader<List<BusinessObject>> lListReader = tools.readerFor(lListType);
+    List<BusinessObject> lList = lListReader.read(lListJSON);
+    assertEquals(2, lList.size());
+    assertEquals("Typed", lList.get(1).getProperty());
+  }
+
+  @Test
+  void testTypedReaderErrorHandling( ) {
+    TypedJSONReader<BusinessObject> lReader = tools.readerFor(BusinessObject.class);
+    try {
+      lReader.read("{\"property\":");
+      fail("Expecting exception");
+    }
+    catch (JEAFSystemException e) {
+      assertEquals(JSONMessages.JSON_DESERIALIZATION_FAILED, e.getErrorCode());
+    }
+
+    try {
+      tools.readerFor((Class<?>) null);
+      fail("Expecting exception");
+    }
+    catch (InvalidParameterException e) {
+      assertEquals("Check failed. pResultType must not be NULL.", e.getMessage());
+    }
+  }
+}
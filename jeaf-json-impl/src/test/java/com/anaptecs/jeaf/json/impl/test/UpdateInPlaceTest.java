@@ -0,0 +1,80 @@
+package com.anaptecs.jeaf.json.impl.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.anaptecs.jeaf.json.api.JSONMessages;
+import com.anaptecs.jeaf.json.api.JSONTools;
+import com.anaptecs.jeaf.json.impl.JSONToolsImpl;
+import com.anaptecs.jeaf.json.impl.test.domain.BusinessObject;
+import com.anaptecs.jeaf.json.impl.test.inheritance.PostalAddress;
+import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
+
+public class UpdateInPlaceTest {
+  private final JSONToolsImpl tools = (JSONToolsImpl) JSONTools.getJSONTools();
+
+  @Test
+  void testReadInto( ) {
+    PostalAddress lAddress = new PostalAddress();
+    lAddress.setStreet("Ricarda-Huch-Str.");
+    lAddress.setHouseNumber("1");
+    lAddress.setCity("Reutlingen");
+    lAddress.setPostalCode(72760);
+
+    // Only properties that are part of the JSON data are changed.
+    assertSame(lAddress, tools.readInto("{\"houseNumber\":\"2\"}", lAddress));
+    assertEquals("Ricarda-Huch-Str.", lAddress.getStreet());
+    assertEquals("2", lAddress.getHouseNumber());
+    assertEquals("Reutlingen", lAddress.getCity());
+    assertEquals(72760, lAddress.getPostalCode());
+
+    String lJSON = "{\"city\":\"Stuttgart\",\"postalCode\":70173}";
+    assertSame(lAddress, tools.readInto(lJSON.getBytes(StandardCharsets.UTF_8), lAddress));
+    assertEquals("Stuttgart", lAddress.getCity());
+    assertEquals(70173, lAddress.getPostalCode());
+
+    assertSame(lAddress, tools.readInto(new ByteArrayInputStream("{\"street\":\"Burgstr.\"}".getBytes()), lAddress));
+    assertEquals("Burgstr.", lAddress.getStreet());
+    assertEquals("2", lAddress.getHouseNumber());
+
+    try {
+      tools.readInto("{\"postalCode\":\"Not a number\"}", lAddress);
+      fail("Expecting exception");
+    }
+    catch (JEAFSystemException e) {
+      assertEquals(JSONMessages.JSON_DESERIALIZATION_FAILED, e.getErrorCode());
+    }
+  }
+
+  @Test
+  void testReadIntoCollection( ) {
+    List<BusinessObject> lObjects = new ArrayList<>();
+    BusinessObject lExisting = new BusinessObject();
+    lExisting.setProperty("Existing");
+    lObjects.add(lExisting);
+
+    String lJSON = "[{\"property\":\"First\"},{\"property\":\"Second\"}]";
+    assertSame(lObjects, tools.readIntoCollection(lJSON, lObjects, BusinessObject.class));
+    assertEquals(3, lObjects.size());
+    assertSame(lExisting, lObjects.get(0));
+    assertEquals("Second", lObjects.get(2).getProperty());
+
+    tools.readIntoCollection(new ByteArrayInputStream(lJSON.getBytes()), lObjects, BusinessObject.class);
+    assertEquals(5, lObjects.size());
+    assertEquals("First", lObjects.get(3).getProperty());
+
+    Set<String> lSet = new LinkedHashSet<>(List.of("a"));
+    assertSame(lSet, tools.readIntoCollection("[\"b\",\"a\",\"c\"]".getBytes(), lSet, String.class));
+    assertEquals(List.of("a", "b", "c"), new ArrayList<>(lSet));
+  }
+}
@@ -0,0 +1,43 @@
+package com.anaptecs.jeaf.json.impl.test.domain;
+
+import com.fasterxml.jackson.annotation.JsonView;
+
+public class ViewObject {
+  public interface PublicView {
+  }
+
+  public interface InternalView extends PublicView {
+  }
+
+  @JsonView(PublicView.class)
+  private String name;
+
+  @JsonView(InternalView.class)
+  private String internalNote;
+
+  private String plain;
+
+  public String getName( ) {
+    return name;
+  }
+
+  public void setName( String pName ) {
+    name = pName;
+  }
+
+  public String getInternalNote( ) {
+    return internalNote;
+  }
+
+  public void setInternalNote( String pInternalNote ) {
+    internalNote = pInternalNote;
+  }
+
+  public String getPlain( ) {
+    return plain;
+  }
+
+  public void setPlain( String pPlain ) {
+    plain = pPlain;
+  }
+}
@@ -5,84 +5,63 @@
  */
 package com.anaptecs.jeaf.json.impl.serializers.xfun;
 
-import com.anaptecs.jeaf.json.impl.AbstractDeserializer;
+import com.anaptecs.jeaf.json.impl.AbstractStreamingDeserializer;
 import com.anaptecs.jeaf.xfun.api.info.ApplicationInfo;
 import com.anaptecs.jeaf.xfun.api.info.ApplicationProvider;
 import com.anaptecs.jeaf.xfun.api.info.VersionInfo;
-import tools.jackson.databind.JsonNode;
-import tools.jackson.databind.node.ObjectNode;
 
 /**
  * Class implements custom JSON deserializer for {@link VersionInfo}.
  *
  * @author JEAF Development Team
  */
-public class ApplicationInfoDeserializer extends AbstractDeserializer<ApplicationInfo> {
+public class ApplicationInfoDeserializer
+    extends AbstractStreamingDeserializer<ApplicationInfo, ApplicationInfoDeserializer.State> {
   /**
    * Deserializer for {@link ApplicationProvider}
    */
-  private final ApplicationProviderDeserializer applicationProviderDeserializer = new ApplicationProviderDeserializer();
+  private static final ApplicationProviderDeserializer APPLICATION_PROVIDER_DESERIALIZER =
+      new ApplicationProviderDeserializer();
 
   /**
    * Deserializer for {@link VersionInfo}
    */
-  private final VersionInfoDeserializer versionInfoDeserializer = new VersionInfoDeserializer();
+  private static final VersionInfoDeserializer VERSION_INFO_DESERIALIZER = new VersionInfoDeserializer();
+
+  /**
+   * Fields that are supported by this deserializer.
+   */
+  private static final FieldTable<State> FIELDS = new FieldTable<State>()
+      .add("applicationID", (p, c, s) -> s.applicationID = getStringValue(p, null))
+      .add("name", (p, c, s) -> s.name = getStringValue(p, null))
+      .add("websiteURL", (p, c, s) -> s.website = getStringValue(p, null))
+      .add("description", (p, c, s) -> s.description = getStringValue(p, null))
+      .add("applicationProvider", (p, c, s) -> s.provider =
+          getObjectValue(p, c, APPLICATION_PROVIDER_DESERIALIZER, ApplicationProvider.UNKNOW_APP_PROVIDER))
+      .add("version",
+          (p, c, s) -> s.versionInfo = getObjectValue(p, c, VERSION_INFO_DESERIALIZER, VersionInfo.UNKNOWN_VERSION))
+      .add("isUnknownApplication", (p, c, s) -> s.unknownApp = getBooleanValue(p, false));
 
   /**
    * Initialize object.
    */
   public ApplicationInfoDeserializer( ) {
-    super(VersionInfo.class);
+    super(VersionInfo.class, FIELDS);
   }
 
   @Override
-  public ApplicationInfo deserialize(ObjectNode pObjectNode) {
-    JsonNode lUnknownAppNode = pObjectNode.get("isUnknownApplication");
-    boolean lUnknownApp;
-    if (lUnknownAppNode != null && lUnknownAppNode.isNull() == false) {
-      lUnknownApp = lUnknownAppNode.asBoolean();
-    }
-    else {
-      lUnknownApp = false;
-    }
+  protected State createState( ) {
+    return new State();
+  }
 
+  @Override
+  protected ApplicationInfo createObject(State pState) {
     // JSON describes real app info
     ApplicationInfo lApplicationInfo;
-    if (lUnknownApp == false) {
-      // Resolve application provider
-      JsonNode lProviderNode = pObjectNode.get("applicationProvider");
-      ApplicationProvider lProvider;
-      if (lProviderNode != null && lProviderNode.isNull() == false) {
-        lProvider = applicationProviderDeserializer.deserialize((ObjectNode) lProviderNode);
-      }
-      else {
-        lProvider = ApplicationProvider.UNKNOW_APP_PROVIDER;
-      }
-
-      // Resolve version info.
-      JsonNode lVersionNode = pObjectNode.get("version");
-      VersionInfo lVersionInfo;
-      if (lVersionNode != null && lVersionNode.isNull() == false) {
-        lVersionInfo = versionInfoDeserializer.deserialize((ObjectNode) lVersionNode);
-      }
-      else {
-        lVersionInfo = VersionInfo.UNKNOWN_VERSION;
-      }
-
-      // Resolve application id
-      String lApplicationID = this.getStringValueFromNode(pObjectNode, "applicationID", null);
-
-      // Resolve name
-      String lName = this.getStringValueFromNode(pObjectNode, "name", null);
-
-      // Resolve website
-      String lWebsite = this.getStringValueFromNode(pObjectNode, "websiteURL", null);
-
-      // Resolve description
-      String lDescription = this.getStringValueFromNode(pObjectNode, "description", null);
-
+    if (pState.unknownApp == false) {
       // Create application info
-      lApplicationInfo = new ApplicationInfo(lApplicationID, lName, lWebsite, lDescription, lProvider, lVersionInfo);
+      lApplicationInfo = new ApplicationInfo(pState.applicationID, pState.name, pState.website, pState.description,
+          pState.provider, pState.versionInfo);
     }
     // Serialized app info represents an unknown application
     else {
@@ -92,4 +71,23 @@ public class ApplicationInfoDeserializer extends AbstractDeserializer<Applicatio
     // Return application info
     return lApplicationInfo;
   }
+
+  /**
+   * Class collects the values of a serialized application info.
+   */
+  static final class State {
+    private String applicationID;
+
+    private String name;
+
+    private String website;
+
+    private String description;
+
+    private ApplicationProvider provider = ApplicationProvider.UNKNOW_APP_PROVIDER;
+
+    private VersionInfo versionInfo = VersionInfo.UNKNOWN_VERSION;
+
+    private boolean unknownApp;
+  }
 }
@@ -5,46 +5,57 @@
  */
 package com.anaptecs.jeaf.json.impl.serializers.xfun;
 
-import com.anaptecs.jeaf.json.impl.AbstractDeserializer;
-import com.anaptecs.jeaf.xfun.api.checks.Check;
+import com.anaptecs.jeaf.json.impl.AbstractStreamingDeserializer;
 import com.anaptecs.jeaf.xfun.api.info.ApplicationProvider;
 import com.anaptecs.jeaf.xfun.api.info.VersionInfo;
-import tools.jackson.databind.node.ObjectNode;
 
 /**
  * Class implements custom JSON deserializer for {@link VersionInfo}.
  *
  * @author JEAF Development Team
  */
-public class ApplicationProviderDeserializer extends AbstractDeserializer<ApplicationProvider> {
+public class ApplicationProviderDeserializer
+    extends AbstractStreamingDeserializer<ApplicationProvider, ApplicationProviderDeserializer.State> {
+  /**
+   * Fields that are supported by this deserializer.
+   */
+  private static final FieldTable<State> FIELDS = new FieldTable<State>()
+      .add("creator", (p, c, s) -> s.creator = getStringValue(p, null))
+      .add("creatorURL", (p, c, s) -> s.url = getStringValue(p, null));
+
   /**
    * Initialize object.
    */
   public ApplicationProviderDeserializer( ) {
-    super(VersionInfo.class);
+    super(VersionInfo.class, FIELDS);
+  }
+
+  @Override
+  protected State createState( ) {
+    return new State();
   }
 
   /**
-   * Method converts the passed JSON {@link ObjectNode} into an {@link ApplicationProvider} object.
+   * Method converts the values read from JSON into an {@link ApplicationProvider} object.
    */
   @Override
-  public ApplicationProvider deserialize(ObjectNode pObjectNode) {
-    // Check parameter
-    Check.checkInvalidParameterNull(pObjectNode, "pObjectNode");
-
-    // Resolve creator
-    String lCreator = this.getStringValueFromNode(pObjectNode, "creator", null);
-
-    // Resolve creator url
-    String lURL = this.getStringValueFromNode(pObjectNode, "creatorURL", null);
-
+  protected ApplicationProvider createObject(State pState) {
     ApplicationProvider lProvider;
-    if (lCreator != null || lURL != null) {
-      lProvider = new ApplicationProvider(lCreator, lURL);
+    if (pState.creator != null || pState.url != null) {
+      lProvider = new ApplicationProvider(pState.creator, pState.url);
     }
     else {
       lProvider = ApplicationProvider.UNKNOW_APP_PROVIDER;
     }
     return lProvider;
   }
+
+  /**
+   * Class collects the values of a serialized application provider.
+   */
+  static final class State {
+    private String creator;
+
+    private String url;
+  }
 }
@@ -5,35 +5,39 @@
  */
 package com.anaptecs.jeaf.json.impl.serializers.xfun;
 
-import com.anaptecs.jeaf.json.impl.AbstractDeserializer;
+import com.anaptecs.jeaf.json.impl.AbstractStreamingDeserializer;
 import com.anaptecs.jeaf.xfun.api.errorhandling.ErrorCode;
 import com.anaptecs.jeaf.xfun.api.messages.MessageID;
 import com.anaptecs.jeaf.xfun.api.trace.TraceLevel;
-import tools.jackson.databind.node.ObjectNode;
 
 /**
  * Class implements custom JSON deserializer for {@link ErrorCode}.
  *
  * @author JEAF Development Team
  */
-public class ErrorCodeDeserializer extends AbstractDeserializer<ErrorCode> {
+public class ErrorCodeDeserializer extends AbstractStreamingDeserializer<ErrorCode, MessageIDDeserializer.State> {
+  /**
+   * Fields that are supported by this deserializer. They are the same as the ones of {@link MessageID}.
+   */
+  private static final FieldTable<MessageIDDeserializer.State> FIELDS = new FieldTable<MessageIDDeserializer.State>()
+      .add("localizationID", (p, c, s) -> s.localizationID = getIntegerValue(p, -1))
+      .add("traceLevel", (p, c, s) -> s.traceLevel = getStringValue(p, TraceLevel.ERROR.name()));
+
   /**
    * Initialize object.
    */
   public ErrorCodeDeserializer( ) {
-    super(MessageID.class);
+    super(MessageID.class, FIELDS);
   }
 
   @Override
-  public ErrorCode deserialize(ObjectNode pObjectNode) {
-
-    // Resolve localizationID
-    int lLocalizationID = this.getIntegerValueFromNode(pObjectNode, "localizationID", -1);
-
-    // Resolve trace level.
-    String lTraceLevel = this.getStringValueFromNode(pObjectNode, "traceLevel", TraceLevel.ERROR.name());
+  protected MessageIDDeserializer.State createState( ) {
+    return new MessageIDDeserializer.State();
+  }
 
-    // Create MessageID and return it.
-    return new ErrorCode(lLocalizationID, TraceLevel.valueOf(lTraceLevel));
+  @Override
+  protected ErrorCode createObject(MessageIDDeserializer.State pState) {
+    // Create error code and return it.
+    return new ErrorCode(pState.localizationID, TraceLevel.valueOf(pState.traceLevel));
   }
 }
@@ -5,30 +5,44 @@
  */
 package com.anaptecs.jeaf.json.impl.serializers.xfun;
 
-import com.anaptecs.jeaf.json.impl.AbstractDeserializer;
+import com.anaptecs.jeaf.json.impl.AbstractStreamingDeserializer;
 import com.anaptecs.jeaf.xfun.api.messages.LocalizedObject;
 import com.anaptecs.jeaf.xfun.api.messages.LocalizedString;
-import tools.jackson.databind.node.ObjectNode;
 
 /**
  * Class implements custom JSON deserializer for {@link LocalizedString}.
  *
  * @author JEAF Development Team
  */
-public class LocalizedStringDeserializer extends AbstractDeserializer<LocalizedString> {
+public class LocalizedStringDeserializer
+    extends AbstractStreamingDeserializer<LocalizedString, LocalizedStringDeserializer.State> {
+  /**
+   * Fields that are supported by this deserializer.
+   */
+  private static final FieldTable<State> FIELDS =
+      new FieldTable<State>().add("localizationID", (p, c, s) -> s.localizationID = getIntegerValue(p, -1));
+
   /**
    * Initialize object.
    */
   protected LocalizedStringDeserializer( ) {
-    super(LocalizedObject.class);
+    super(LocalizedObject.class, FIELDS);
   }
 
   @Override
-  public LocalizedString deserialize(ObjectNode pObjectNode) {
-    // Resolve localizationID
-    int lLocalizationID = this.getIntegerValueFromNode(pObjectNode, "localizationID", -1);
+  protected State createState( ) {
+    return new State();
+  }
 
-    return new LocalizedString(lLocalizationID);
+  @Override
+  protected LocalizedString createObject(State pState) {
+    return new LocalizedString(pState.localizationID);
   }
 
+  /**
+   * Class collects the values of a serialized localized string.
+   */
+  static final class State {
+    private int localizationID = -1;
+  }
 }
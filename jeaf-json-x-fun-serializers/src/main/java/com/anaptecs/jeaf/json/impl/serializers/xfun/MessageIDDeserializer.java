@@ -5,34 +5,47 @@
  */
 package com.anaptecs.jeaf.json.impl.serializers.xfun;
 
-import com.anaptecs.jeaf.json.impl.AbstractDeserializer;
+import com.anaptecs.jeaf.json.impl.AbstractStreamingDeserializer;
 import com.anaptecs.jeaf.xfun.api.messages.MessageID;
 import com.anaptecs.jeaf.xfun.api.trace.TraceLevel;
-import tools.jackson.databind.node.ObjectNode;
 
 /**
  * Class implements custom JSON deserializer for {@link MessageID}.
  *
  * @author JEAF Development Team
  */
-public class MessageIDDeserializer extends AbstractDeserializer<MessageID> {
+public class MessageIDDeserializer extends AbstractStreamingDeserializer<MessageID, MessageIDDeserializer.State> {
+  /**
+   * Fields that are supported by this deserializer.
+   */
+  private static final FieldTable<State> FIELDS = new FieldTable<State>()
+      .add("localizationID", (p, c, s) -> s.localizationID = getIntegerValue(p, -1))
+      .add("traceLevel", (p, c, s) -> s.traceLevel = getStringValue(p, TraceLevel.ERROR.name()));
+
   /**
    * Initialize object.
    */
   public MessageIDDeserializer( ) {
-    super(MessageID.class);
+    super(MessageID.class, FIELDS);
   }
 
   @Override
-  public MessageID deserialize(ObjectNode pObjectNode) {
+  protected State createState( ) {
+    return new State();
+  }
 
-    // Resolve localizationID
-    int lLocalizationID = this.getIntegerValueFromNode(pObjectNode, "localizationID", -1);
+  @Override
+  protected MessageID createObject(State pState) {
+    // Create MessageID and return it.
+    return new MessageID(pState.localizationID, TraceLevel.valueOf(pState.traceLevel));
+  }
 
-    // Resolve trace level.
-    String lTraceLevel = this.getStringValueFromNode(pObjectNode, "traceLevel", TraceLevel.ERROR.name());
+  /**
+   * Class collects the values of a serialized message id. It is also used for {@link ErrorCodeDeserializer}.
+   */
+  static final class State {
+    int localizationID = -1;
 
-    // Create MessageID and return it.
-    return new MessageID(lLocalizationID, TraceLevel.valueOf(lTraceLevel));
+    String traceLevel = TraceLevel.ERROR.name();
   }
 }
@@ -7,61 +7,61 @@ package com.anaptecs.jeaf.json.impl.serializers.xfun;
 
 import java.util.Date;
 
-import com.anaptecs.jeaf.json.impl.AbstractDeserializer;
+import com.anaptecs.jeaf.json.impl.AbstractStreamingDeserializer;
 import com.anaptecs.jeaf.xfun.api.info.VersionInfo;
-import tools.jackson.databind.JsonNode;
-import tools.jackson.databind.node.ObjectNode;
 
 /**
  * Class implements custom JSON deserializer for {@link VersionInfo}.
  *
  * @author JEAF Development Team
  */
-public class VersionInfoDeserializer extends AbstractDeserializer<VersionInfo> {
+public class VersionInfoDeserializer extends AbstractStreamingDeserializer<VersionInfo, VersionInfoDeserializer.State> {
+  /**
+   * Fields that are supported by this deserializer.
+   */
+  private static final FieldTable<State> FIELDS = new FieldTable<State>()
+      .add(VersionInfoSerializer.VERSION, (p, c, s) -> s.version = getStringValue(p, null))
+      .add(VersionInfoSerializer.DATE, (p, c, s) -> s.releaseDate = getDateValue(p, null))
+      .add(VersionInfoSerializer.UNKNWON_VERSION_FLAG, (p, c, s) -> s.unknownVersion = getBooleanValue(p, false));
+
   /**
    * Initialize object.
    */
   public VersionInfoDeserializer( ) {
-    super(VersionInfo.class);
+    super(VersionInfo.class, FIELDS);
+  }
+
+  @Override
+  protected State createState( ) {
+    return new State();
   }
 
   /**
-   * Method reads version info data from the JSON data and creates a {@link VersionInfo} object out of it.
-   *
-   * @param pParser JSON parser. The parameter must not be null.
-   * @param pContext Context information. The parameter is not used by this implementation.
+   * Method creates a {@link VersionInfo} object out of the values read from JSON.
    */
   @Override
-  public VersionInfo deserialize(ObjectNode pObjectNode) {
-    // Resolve unknown version flag
-    boolean lUnknownVersion;
-    JsonNode lUnknownVersionValueNode = pObjectNode.get(VersionInfoSerializer.UNKNWON_VERSION_FLAG);
-    if (lUnknownVersionValueNode != null && lUnknownVersionValueNode.isNull() == false) {
-      lUnknownVersion = lUnknownVersionValueNode.asBoolean();
-    }
-    else {
-      lUnknownVersion = false;
-    }
-
+  protected VersionInfo createObject(State pState) {
     // Create real version info object
     VersionInfo lVersionInfo;
-    if (lUnknownVersion == false) {
-
-      // Resolve version
-      String lVersion = this.getStringValueFromNode(pObjectNode, VersionInfoSerializer.VERSION, null);
-
-      // Resolve date
-      Date lReleaseDate = this.getDateValueFromNode(pObjectNode, VersionInfoSerializer.DATE, null);
-
+    if (pState.unknownVersion == false) {
       // Create version info object based on the available information
-      lVersionInfo = new VersionInfo(lVersion, lReleaseDate);
+      lVersionInfo = new VersionInfo(pState.version, pState.releaseDate);
     }
     // Version is unknown
     else {
       lVersionInfo = VersionInfo.UNKNOWN_VERSION;
     }
-
     return lVersionInfo;
   }
 
+  /**
+   * Class collects the values of a serialized version info.
+   */
+  static final class State {
+    private String version;
+
+    private Date releaseDate;
+
+    private boolean unknownVersion;
+  }
 }